@@ -0,0 +1,170 @@
+package site.festifriends.common.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import site.festifriends.domain.auth.revocation.RevokedToken;
+import site.festifriends.domain.auth.revocation.TokenRevocationBackend;
+import site.festifriends.domain.auth.revocation.TokenRevocationStore;
+import site.festifriends.domain.auth.service.BlackListTokenService;
+import site.festifriends.domain.auth.service.MemberAuthStateCache;
+import site.festifriends.domain.member.repository.MemberRepository;
+import site.festifriends.entity.enums.MemberRole;
+
+/**
+ * JWT 인증 필터 처리량 (./gradlew jmh, gc 프로파일러의 gc.alloc.rate.norm 확인)
+ * - validToken: 서명 검증 1회 + 폐기 여부/회원 상태 메모리 조회 후 인증 정보 설정
+ * - expiredToken: 만료 토큰, 예외 필터를 거치지 않고 401 응답
+ * - blacklistedToken: 폐기된 토큰, 서명 검증 전에 403 응답
+ * - ignoredPath: 인증 제외 경로, 정규식 없이 통과
+ * 폐기 토큰 저장소와 회원 상태는 메모리 구현이라 DB 비용은 포함하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String ACCESS_SECRET = "benchmark_jwt_access_secret_key_for_jmh_only";
+    private static final String REFRESH_SECRET = "benchmark_jwt_refresh_secret_key_for_jmh_only";
+    private static final long ACCESS_EXPIRATION = 3_600_000L;
+    private static final long REFRESH_EXPIRATION = 604_800_000L;
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest validRequest;
+    private MockHttpServletRequest expiredRequest;
+    private MockHttpServletRequest blacklistedRequest;
+    private MockHttpServletRequest ignoredRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AccessTokenProvider accessTokenProvider = new AccessTokenProvider(ACCESS_SECRET, ACCESS_EXPIRATION);
+        AccessTokenProvider expiredTokenProvider = new AccessTokenProvider(ACCESS_SECRET, -ACCESS_EXPIRATION);
+        RefreshTokenProvider refreshTokenProvider = new RefreshTokenProvider(REFRESH_SECRET, REFRESH_EXPIRATION);
+
+        BlackListTokenService blackListTokenService = new BlackListTokenService(
+            new NoOpRevocationBackend(),
+            new TokenRevocationStore(100_000, 0.01),
+            accessTokenProvider,
+            refreshTokenProvider,
+            REFRESH_EXPIRATION,
+            10_000
+        );
+        MemberAuthStateCache memberAuthStateCache = new MemberAuthStateCache(
+            activeMemberRepository(),
+            new SimpleMeterRegistry(),
+            1_000,
+            60
+        );
+
+        filter = new JwtAuthenticationFilter(
+            accessTokenProvider,
+            memberAuthStateCache,
+            blackListTokenService,
+            Jackson2ObjectMapperBuilder.json().build().writer()
+        );
+
+        String blacklistedToken = accessTokenProvider.generateToken(2L);
+        blackListTokenService.addBlackListToken(blacklistedToken);
+        // 시작 동기화가 끝난 뒤처럼 메모리 저장소로 폐기 여부를 확인하게 한다
+        blackListTokenService.sync();
+
+        validRequest = request("/api/v1/performances", accessTokenProvider.generateToken(1L));
+        expiredRequest = request("/api/v1/performances", expiredTokenProvider.generateToken(1L));
+        blacklistedRequest = request("/api/v1/performances", blacklistedToken);
+        ignoredRequest = request("/api/v1/auth/token", null);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse validToken() throws Exception {
+        return doFilter(validRequest);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse expiredToken() throws Exception {
+        return doFilter(expiredRequest);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse blacklistedToken() throws Exception {
+        return doFilter(blacklistedRequest);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse ignoredPath() throws Exception {
+        return doFilter(ignoredRequest);
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, String accessToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (accessToken != null) {
+            request.addHeader("Authorization", "Bearer " + accessToken);
+        }
+        return request;
+    }
+
+    /**
+     * 회원 상태 캐시가 사용하는 조회만 응답하는 저장소 (캐시에 적재된 뒤에는 호출되지 않는다)
+     */
+    private static MemberRepository activeMemberRepository() {
+        return (MemberRepository) Proxy.newProxyInstance(
+            MemberRepository.class.getClassLoader(),
+            new Class<?>[]{MemberRepository.class},
+            (proxy, method, args) -> {
+                if ("findAuthStateById".equals(method.getName())) {
+                    return List.<Object[]>of(new Object[]{MemberRole.USER, null, null});
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        );
+    }
+
+    private static class NoOpRevocationBackend implements TokenRevocationBackend {
+
+        @Override
+        public void revoke(RevokedToken revokedToken) {
+        }
+
+        @Override
+        public boolean isRevoked(String tokenHash, LocalDateTime now) {
+            return false;
+        }
+
+        @Override
+        public List<RevokedToken> findRevokedSince(LocalDateTime since, LocalDateTime now) {
+            return List.of();
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime now) {
+            return 0;
+        }
+    }
+}
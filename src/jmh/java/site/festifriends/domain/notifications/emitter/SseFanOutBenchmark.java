@@ -0,0 +1,62 @@
+package site.festifriends.domain.notifications.emitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import site.festifriends.domain.notifications.dto.NotificationEvent;
+
+/**
+ * 알림 한 건을 여러 연결에 보낼 때의 직렬화 비용 비교 (./gradlew jmh, gc 프로파일러의 gc.alloc.rate.norm 확인)
+ * - serializePerRecipient: SseEmitter 에 객체를 넘겨 연결마다 메시지 컨버터가 직렬화하는 기존 방식
+ * - serializeOnce: SsePayloadEncoder 로 한 번 직렬화하고 모든 연결이 같은 바이트 배열을 공유
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseFanOutBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int recipients;
+
+    private ObjectMapper objectMapper;
+    private SsePayloadEncoder ssePayloadEncoder;
+    private NotificationEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ssePayloadEncoder = new SsePayloadEncoder(objectMapper);
+        event = NotificationEvent.builder()
+            .message("페스티프렌즈 모임에 새 게시글이 등록되었습니다.")
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Benchmark
+    public void serializePerRecipient(Blackhole blackhole) throws Exception {
+        for (long id = 0; id < recipients; id++) {
+            SseMessage message = new SseMessage(id, "notification", event);
+            blackhole.consume(objectMapper.writeValueAsBytes(message.getData()));
+        }
+    }
+
+    @Benchmark
+    public void serializeOnce(Blackhole blackhole) {
+        SsePayload payload = ssePayloadEncoder.encode(event);
+        for (long id = 0; id < recipients; id++) {
+            SseMessage message = new SseMessage(id, "notification", payload);
+            blackhole.consume(((SsePayload) message.getData()).getJson());
+        }
+    }
+}
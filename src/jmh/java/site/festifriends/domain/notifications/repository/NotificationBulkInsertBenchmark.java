@@ -0,0 +1,113 @@
+package site.festifriends.domain.notifications.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import site.festifriends.entity.enums.NotificationType;
+
+/**
+ * 알림 fan-out 저장 방식 비교 (./gradlew jmh)
+ * - perRowInsert: IDENTITY 전략에서 saveAll 이 하는 것처럼 수신자마다 insert 한 번
+ * - bulkInsert: NotificationRepositoryImpl.insertAll (청크 단위 multi-row insert)
+ * H2 인메모리라 네트워크 왕복 비용이 없으므로, 실제 MySQL 에서는 차이가 더 크게 난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationBulkInsertBenchmark {
+
+    private static final String SINGLE_INSERT_SQL =
+        "INSERT INTO notification (member_id, type, message, is_read, target_id, sub_target_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"10", "100", "1000"})
+    private int recipients;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private NotificationRepositoryImpl notificationRepository;
+    private List<Long> memberIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS notification (
+                notification_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                member_id BIGINT NOT NULL,
+                type VARCHAR(32) NOT NULL,
+                message VARCHAR(255) NOT NULL,
+                is_read BOOLEAN NOT NULL,
+                target_id BIGINT,
+                sub_target_id BIGINT,
+                created_at TIMESTAMP NOT NULL,
+                updated_at TIMESTAMP NOT NULL,
+                deleted TIMESTAMP
+            )
+            """);
+
+        notificationRepository = new NotificationRepositoryImpl(null, jdbcTemplate);
+        memberIds = LongStream.rangeClosed(1, recipients).boxed().toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE notification");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE notification");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<Long> perRowInsert() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = new ArrayList<>(memberIds.size());
+
+        for (Long memberId : memberIds) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(SINGLE_INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, memberId);
+                ps.setString(2, NotificationType.POST.name());
+                ps.setString(3, "벤치마크 알림");
+                ps.setBoolean(4, false);
+                ps.setLong(5, 1L);
+                ps.setLong(6, 1L);
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+                return ps;
+            }, keyHolder);
+            ids.add(keyHolder.getKey().longValue());
+        }
+
+        return ids;
+    }
+
+    @Benchmark
+    public List<Long> bulkInsert() {
+        return notificationRepository.insertAll(memberIds, NotificationType.POST, "벤치마크 알림", 1L, 1L);
+    }
+}
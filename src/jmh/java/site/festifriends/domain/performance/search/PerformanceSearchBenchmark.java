@@ -0,0 +1,112 @@
+package site.festifriends.domain.performance.search;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 공연명 부분 검색 비교 (./gradlew jmh)
+ * - likeSearch: 기존 containsIgnoreCase 조건 (lower(title) LIKE '%검색어%', 전체 테이블 스캔)
+ * - indexSearch: PerformanceSearchIndex 로 후보 ID를 구한 뒤 PK IN 조건으로 조회
+ * H2 인메모리라 디스크 I/O 가 없으므로, 실제 MySQL 에서는 LIKE 쪽 비용이 더 크다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PerformanceSearchBenchmark {
+
+    private static final String[] WORDS = {
+        "서울", "부산", "재즈", "락", "페스티벌", "내한공연", "콘서트", "뮤지컬", "클래식", "앙상블",
+        "여름", "겨울", "월드투어", "단독", "라이브", "심포니", "오케스트라", "힙합", "인디", "발라드"
+    };
+
+    private static final String[] KEYWORDS = {"재즈 페", "월드투어", "오케스트", "힙합 라"};
+
+    @Param({"10000", "100000"})
+    private int performances;
+
+    private SingleConnectionDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private PerformanceSearchIndex performanceSearchIndex;
+    private int keywordIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:search;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS performance");
+        template.execute("""
+            CREATE TABLE performance (
+                performance_id BIGINT PRIMARY KEY,
+                title VARCHAR(255) NOT NULL,
+                location VARCHAR(255) NOT NULL,
+                deleted TIMESTAMP
+            )
+            """);
+        jdbcTemplate = new NamedParameterJdbcTemplate(template);
+
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(performances);
+        List<PerformanceDocument> documents = new ArrayList<>(performances);
+        for (long id = 1; id <= performances; id++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                + WORDS[random.nextInt(WORDS.length)] + " " + id;
+            String location = WORDS[random.nextInt(2)] + "시 " + id % 25 + "구";
+            rows.add(new Object[]{id, title, location});
+            documents.add(new PerformanceDocument(id, title, location, List.of(), List.of()));
+        }
+        template.batchUpdate("INSERT INTO performance (performance_id, title, location) VALUES (?, ?, ?)", rows);
+
+        performanceSearchIndex = new PerformanceSearchIndex(Integer.MAX_VALUE);
+        performanceSearchIndex.rebuild(documents);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<Long> likeSearch() {
+        String keyword = nextKeyword();
+        return jdbcTemplate.queryForList(
+            "SELECT performance_id FROM performance WHERE LOWER(title) LIKE :keyword AND deleted IS NULL",
+            new MapSqlParameterSource("keyword", "%" + keyword.toLowerCase() + "%"), Long.class);
+    }
+
+    @Benchmark
+    public List<Long> indexSearch() {
+        Map<SearchField, String> keywords = new EnumMap<>(SearchField.class);
+        keywords.put(SearchField.TITLE, nextKeyword());
+        Set<Long> candidateIds = performanceSearchIndex.findCandidates(keywords).orElseThrow();
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+            "SELECT performance_id FROM performance WHERE performance_id IN (:ids) AND deleted IS NULL",
+            new MapSqlParameterSource("ids", candidateIds), Long.class);
+    }
+
+    private String nextKeyword() {
+        keywordIndex = (keywordIndex + 1) % KEYWORDS.length;
+        return KEYWORDS[keywordIndex];
+    }
+}
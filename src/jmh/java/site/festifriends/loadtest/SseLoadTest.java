@@ -0,0 +1,199 @@
+package site.festifriends.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import site.festifriends.common.jwt.AccessTokenProvider;
+
+/**
+ * SSE 구독자 부하 테스트 (./gradlew sseLoadTest -Dload.jwt-secret=... -Dload.label=platform)
+ * 같은 조건으로 서버를 기본 모드와 virtual-threads 프로필로 각각 띄운 뒤 실행해 결과 줄을 비교한다.
+ * - 초당 ramp-per-second 명씩 subscribers 명까지 /api/v1/notifications/subscribe 를 연결하고 hold-seconds 동안 유지한다.
+ * - 그동안 probe-path 에 초당 probe-rps 번 요청해 구독자가 늘어날 때 일반 요청의 p50/p99 지연을 잰다.
+ * - 구독 회원은 member-id-from 부터 차례로 사용하므로 해당 회원들이 DB에 있어야 한다. (회원당 연결 수 제한 때문에 한 명당 하나씩)
+ * 설정 (-Dload.xxx): base-url, jwt-secret, label, subscribers, ramp-per-second, hold-seconds, member-id-from,
+ * probe-path, probe-rps
+ */
+public class SseLoadTest {
+
+    private final String baseUrl = property("base-url", "http://localhost:8080");
+    private final String label = property("label", "default");
+    private final int subscribers = Integer.parseInt(property("subscribers", "2000"));
+    private final int rampPerSecond = Integer.parseInt(property("ramp-per-second", "200"));
+    private final int holdSeconds = Integer.parseInt(property("hold-seconds", "30"));
+    private final long memberIdFrom = Long.parseLong(property("member-id-from", "1"));
+    private final String probePath = property("probe-path", "/api/v1/performances/top-favorites");
+    private final int probeRps = Integer.parseInt(property("probe-rps", "20"));
+
+    private final AccessTokenProvider accessTokenProvider = new AccessTokenProvider(
+        requiredProperty("jwt-secret"), Duration.ofHours(1).toMillis());
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicInteger maxConnected = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+    private final Queue<Long> connectLatencies = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> probeLatencies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger probeErrors = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        new SseLoadTest().run();
+        System.exit(0);
+    }
+
+    private void run() throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        scheduler.scheduleAtFixedRate(this::probe, 0, 1_000_000 / probeRps, TimeUnit.MICROSECONDS);
+
+        long startedAt = System.nanoTime();
+        int opened = 0;
+        while (opened < subscribers) {
+            int batch = Math.min(rampPerSecond, subscribers - opened);
+            for (int i = 0; i < batch; i++) {
+                subscribe(memberIdFrom + opened + i);
+            }
+            opened += batch;
+            Thread.sleep(1000);
+            report("ramp", startedAt);
+        }
+
+        for (int second = 0; second < holdSeconds; second++) {
+            Thread.sleep(1000);
+            report("hold", startedAt);
+        }
+
+        scheduler.shutdownNow();
+        summary();
+    }
+
+    private void subscribe(long memberId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/notifications/subscribe"))
+            .header("Authorization", "Bearer " + accessTokenProvider.generateToken(memberId))
+            .header("Accept", "text/event-stream")
+            .GET()
+            .build();
+
+        EventSubscriber subscriber = new EventSubscriber(System.nanoTime());
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(subscriber))
+            .whenComplete((response, e) -> {
+                if (!subscriber.established) {
+                    failed.incrementAndGet();
+                }
+            });
+    }
+
+    private void probe() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + probePath))
+            .timeout(Duration.ofSeconds(10))
+            .GET()
+            .build();
+
+        long requestedAt = System.nanoTime();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, e) -> {
+                if (e != null || response.statusCode() >= 400) {
+                    probeErrors.incrementAndGet();
+                    return;
+                }
+                probeLatencies.add(System.nanoTime() - requestedAt);
+            });
+    }
+
+    private void report(String phase, long startedAt) {
+        long elapsed = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt);
+        System.out.printf("[%s] %s t=%ds connected=%d failed=%d closed=%d probeP99=%.1fms%n",
+            label, phase, elapsed, connected.get(), failed.get(), closed.get(), percentileMillis(probeLatencies, 0.99));
+    }
+
+    private void summary() {
+        System.out.printf(
+            "RESULT label=%s subscribers=%d maxConnected=%d failed=%d closed=%d connectP99=%.1fms "
+                + "probeCount=%d probeErrors=%d probeP50=%.1fms probeP99=%.1fms probeMax=%.1fms%n",
+            label, subscribers, maxConnected.get(), failed.get(), closed.get(),
+            percentileMillis(connectLatencies, 0.99), probeLatencies.size(), probeErrors.get(),
+            percentileMillis(probeLatencies, 0.50), percentileMillis(probeLatencies, 0.99),
+            percentileMillis(probeLatencies, 1.0));
+    }
+
+    private static double percentileMillis(Queue<Long> latencies, double percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        sorted.sort(null);
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("load." + name, defaultValue);
+    }
+
+    private static String requiredProperty(String name) {
+        String value = System.getProperty("load." + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("-Dload." + name + " 값이 필요합니다.");
+        }
+        return value;
+    }
+
+    /**
+     * 첫 이벤트(connect)를 받으면 구독이 성립한 것으로 보고, 스트림이 끝나면 끊긴 것으로 센다.
+     */
+    private final class EventSubscriber implements Flow.Subscriber<String> {
+
+        private final long requestedAt;
+        private volatile boolean established;
+
+        private EventSubscriber(long requestedAt) {
+            this.requestedAt = requestedAt;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (established || !line.startsWith("event:")) {
+                return;
+            }
+            established = true;
+            connectLatencies.add(System.nanoTime() - requestedAt);
+            maxConnected.accumulateAndGet(connected.incrementAndGet(), Math::max);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            disconnect();
+        }
+
+        @Override
+        public void onComplete() {
+            disconnect();
+        }
+
+        private void disconnect() {
+            if (established) {
+                connected.decrementAndGet();
+                closed.incrementAndGet();
+            }
+        }
+    }
+}
@@ -1,31 +1,30 @@
 package site.festifriends.common.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import site.festifriends.common.jwt.AccessTokenProvider;
 import site.festifriends.common.jwt.JwtAuthenticationFilter;
 import site.festifriends.common.jwt.JwtExceptionFilter;
-import site.festifriends.common.jwt.JwtTokenProvider;
 import site.festifriends.domain.auth.service.BlackListTokenService;
-import site.festifriends.domain.auth.service.CustomUserDetailsService;
+import site.festifriends.domain.auth.service.MemberAuthStateCache;
 
 @Configuration
 public class JwtFilterConfig {
 
     private final ObjectMapper objectMapper;
-    private final CustomUserDetailsService userDetailsService;
-    private final JwtTokenProvider accessTokenProvider;
+    private final MemberAuthStateCache memberAuthStateCache;
+    private final AccessTokenProvider accessTokenProvider;
     private final BlackListTokenService blackListTokenService;
 
     JwtFilterConfig(
         ObjectMapper objectMapper,
-        CustomUserDetailsService userDetailsService,
-        @Qualifier("accessTokenProvider") JwtTokenProvider accessTokenProvider,
+        MemberAuthStateCache memberAuthStateCache,
+        AccessTokenProvider accessTokenProvider,
         BlackListTokenService blackListTokenService
     ) {
         this.objectMapper = objectMapper;
-        this.userDetailsService = userDetailsService;
+        this.memberAuthStateCache = memberAuthStateCache;
         this.accessTokenProvider = accessTokenProvider;
         this.blackListTokenService = blackListTokenService;
     }
@@ -37,6 +36,11 @@ public class JwtFilterConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(accessTokenProvider, userDetailsService, blackListTokenService);
+        return new JwtAuthenticationFilter(
+            accessTokenProvider,
+            memberAuthStateCache,
+            blackListTokenService,
+            objectMapper.writer()
+        );
     }
 }
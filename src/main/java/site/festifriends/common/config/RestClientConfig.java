@@ -1,22 +1,97 @@
 package site.festifriends.common.config;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class RestClientConfig {
 
-    @Bean("oAuthRestClient")
-    public RestClient oAuthRestClient() {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    /**
+     * 로그인이 몰릴 때 카카오 응답이 느려져도 Tomcat 스레드가 오래 묶이지 않도록
+     * 커넥션을 재사용하고, 연결/응답/풀 대기 시간을 모두 짧게 제한한다.
+     */
+    @Bean(name = "oAuthHttpClient", destroyMethod = "close")
+    public CloseableHttpClient oAuthHttpClient(
+        @Value("${oauth.http.max-connections:50}") int maxConnections,
+        @Value("${oauth.http.connect-timeout-ms:1000}") long connectTimeoutMillis,
+        @Value("${oauth.http.read-timeout-ms:3000}") long readTimeoutMillis,
+        @Value("${oauth.http.connection-request-timeout-ms:1000}") long connectionRequestTimeoutMillis
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build())
+            .build();
 
-        requestFactory.setConnectTimeout(3000);
-        requestFactory.setReadTimeout(10000);
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                .build())
+            .evictIdleConnections(TimeValue.ofSeconds(30))
+            .disableAutomaticRetries()
+            .build();
+    }
 
+    @Bean("oAuthRestClient")
+    public RestClient oAuthRestClient(@Qualifier("oAuthHttpClient") CloseableHttpClient oAuthHttpClient) {
         return RestClient.builder()
-            .requestFactory(requestFactory)
+            .requestFactory(new HttpComponentsClientHttpRequestFactory(oAuthHttpClient))
             .build();
     }
+
+    /**
+     * 카카오 호출이 연속으로 실패하거나 느려지면 일정 시간 바로 실패시켜 장애가 요청 스레드로 번지지 않게 한다.
+     * 잘못된 인가 코드 같은 4xx 응답은 카카오 장애가 아니므로 실패율에 넣지 않는다.
+     */
+    @Bean("kakaoCircuitBreaker")
+    public CircuitBreaker kakaoCircuitBreaker(
+        MeterRegistry meterRegistry,
+        @Value("${oauth.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+        @Value("${oauth.circuit-breaker.minimum-calls:10}") int minimumCalls,
+        @Value("${oauth.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${oauth.circuit-breaker.slow-call-duration-ms:2000}") long slowCallDurationMillis,
+        @Value("${oauth.circuit-breaker.open-duration-ms:30000}") long openDurationMillis
+    ) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumCalls)
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+            .slowCallRateThreshold(failureRateThreshold)
+            .waitDurationInOpenState(Duration.ofMillis(openDurationMillis))
+            .permittedNumberOfCallsInHalfOpenState(3)
+            .ignoreExceptions(HttpClientErrorException.class)
+            .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        return registry.circuitBreaker("kakao");
+    }
 }
@@ -1,10 +1,45 @@
 package site.festifriends.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import site.festifriends.common.thread.BlockingTaskExecutors;
+import site.festifriends.scheduler.config.RetentionProperties;
 
 @Configuration
 @EnableScheduling
-public class ScheduleConfig {
+@EnableConfigurationProperties(RetentionProperties.class)
+public class ScheduleConfig implements SchedulingConfigurer {
 
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    /**
+     * STOMP 브로커가 TaskScheduler 빈을 등록하면 @Scheduled 작업이 브로커 하트비트 스케줄러를 함께 쓰게 되므로
+     * 작업 전용 스케줄러를 명시한다. 가상 스레드 모드에서는 같은 풀 크기로 가상 스레드를 쓴다.
+     */
+    public ScheduleConfig(
+        BlockingTaskExecutors blockingTaskExecutors,
+        @Value("${scheduling.pool-size:4}") int poolSize
+    ) {
+        this.taskScheduler = new ThreadPoolTaskScheduler();
+        this.taskScheduler.setPoolSize(poolSize);
+        this.taskScheduler.setThreadFactory(blockingTaskExecutors.threadFactory("scheduling-"));
+        this.taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        this.taskScheduler.setAwaitTerminationSeconds(10);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler scheduledJobTaskScheduler() {
+        return taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+    }
 }
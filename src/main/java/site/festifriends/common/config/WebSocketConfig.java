@@ -1,14 +1,24 @@
 package site.festifriends.common.config;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import site.festifriends.domain.chat.interceptor.AuthChannelInterceptor;
 
+/**
+ * chat.broker.mode
+ * - simple: 인메모리 브로커 (단일 인스턴스)
+ * - relay: 외부 STOMP 브로커로 중계 (브로커가 /sub, /member 목적지를 허용해야 한다)
+ * - cluster: 인메모리 브로커 + JMS 토픽으로 노드 간 메시지 전파 (ClusterChatBroadcaster)
+ */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 @EnableWebSocketMessageBroker
@@ -16,6 +26,48 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final AuthChannelInterceptor authChannelInterceptor;
 
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${chat.broker.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.broker.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.broker.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.broker.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.broker.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.broker.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    @Value("${chat.broker.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${chat.broker.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.broker.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/chat")
@@ -25,14 +77,48 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub", "/member");
+        if ("relay".equals(brokerMode)) {
+            registry.enableStompBrokerRelay("/sub", "/member")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode);
+        } else {
+            registry.enableSimpleBroker("/sub", "/member");
+        }
         registry.setApplicationDestinationPrefixes("/pub");
         registry.setUserDestinationPrefix("/member");
+
+        log.info("STOMP 브로커 모드: {}", brokerMode);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(authChannelInterceptor);
+        registration.taskExecutor()
+            .corePoolSize(inboundCorePoolSize)
+            .maxPoolSize(inboundMaxPoolSize)
+            .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+            .corePoolSize(outboundCorePoolSize)
+            .maxPoolSize(outboundMaxPoolSize)
+            .queueCapacity(outboundQueueCapacity);
+    }
+
+    /**
+     * 느린 클라이언트는 전송 시간 또는 버퍼 한도를 넘기면 세션이 종료되어 같은 채팅방의 다른 구독자를 막지 않는다.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        registry.setSendTimeLimit(sendTimeLimitMillis)
+            .setSendBufferSizeLimit(sendBufferSizeLimit)
+            .setMessageSizeLimit(messageSizeLimit);
     }
 
 }
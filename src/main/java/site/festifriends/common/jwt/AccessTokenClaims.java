@@ -0,0 +1,19 @@
+package site.festifriends.common.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import site.festifriends.entity.enums.MemberRole;
+
+/**
+ * 서명을 검증한 액세스 토큰의 클레임
+ * 역할/정지 여부가 없는 예전 토큰은 일반 사용자, 정지되지 않은 것으로 본다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccessTokenClaims {
+
+    private final Long memberId;
+    private final String tokenType;
+    private final MemberRole role;
+    private final boolean suspended;
+}
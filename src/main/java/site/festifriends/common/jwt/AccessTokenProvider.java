@@ -1,32 +1,50 @@
 package site.festifriends.common.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import site.festifriends.entity.Member;
+import site.festifriends.entity.enums.MemberRole;
 
 @Component
 public class AccessTokenProvider implements JwtTokenProvider {
 
-    @Value("${jwt.access.secret}")
-    private String accessSecretKey;
-    @Value("${jwt.access.expiration}")
-    private Long accessExpiration;
+    private final Long accessExpiration;
+    private final SecretKey key;
+    private final JwtParser parser;
 
-    private SecretKey key;
-
-    @PostConstruct
-    public void init() {
+    /**
+     * 서명 키와 파서는 스레드 안전하므로 한 번만 만들어 모든 요청이 공유한다.
+     */
+    public AccessTokenProvider(
+        @Value("${jwt.access.secret}") String accessSecretKey,
+        @Value("${jwt.access.expiration}") Long accessExpiration
+    ) {
+        this.accessExpiration = accessExpiration;
         this.key = Keys.hmacShaKeyFor(accessSecretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     @Override
     public String generateToken(Long memberId) {
+        return generateToken(memberId, MemberRole.USER, false);
+    }
+
+    /**
+     * 인증 필터가 회원을 조회하지 않고 인증 정보를 만들 수 있도록 역할과 정지 여부를 함께 담는다.
+     */
+    public String generateToken(Member member) {
+        MemberRole role = member.getMemberRole() != null ? member.getMemberRole() : MemberRole.USER;
+        return generateToken(member.getId(), role, member.getSuspendedAt() != null);
+    }
+
+    private String generateToken(Long memberId, MemberRole role, boolean suspended) {
         return Jwts
             .builder()
             .header()
@@ -35,6 +53,8 @@ public class AccessTokenProvider implements JwtTokenProvider {
             .issuer("festifriends")
             .subject(memberId.toString())
             .claim("tokenType", "access")
+            .claim("role", role.name())
+            .claim("suspended", suspended)
             .issuedAt(new Date())
             .expiration(new Date(System.currentTimeMillis() + accessExpiration))
             .signWith(key)
@@ -44,48 +64,46 @@ public class AccessTokenProvider implements JwtTokenProvider {
     @Override
     public boolean validateToken(String token) {
         try {
-            Jwts
-                .parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
+            parse(token);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * 서명 검증을 한 번만 하고 인증에 필요한 클레임을 모두 꺼낸다.
+     */
+    public AccessTokenClaims parseClaims(String token) {
+        Claims claims = parse(token);
+
+        String role = claims.get("role", String.class);
+        Boolean suspended = claims.get("suspended", Boolean.class);
+
+        return new AccessTokenClaims(
+            Long.valueOf(claims.getSubject()),
+            claims.get("tokenType", String.class),
+            role != null ? MemberRole.valueOf(role) : MemberRole.USER,
+            Boolean.TRUE.equals(suspended)
+        );
+    }
+
     @Override
     public String getSubject(String token) {
-        Claims claims = Jwts
-            .parser()
-            .verifyWith(key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-
-        return claims.getSubject();
+        return parse(token).getSubject();
     }
 
     @Override
     public Date getExpiration(String token) {
-        return Jwts
-            .parser()
-            .verifyWith(key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getExpiration();
+        return parse(token).getExpiration();
     }
 
     @Override
     public String getTokenType(String token) {
-        return Jwts
-            .parser()
-            .verifyWith(key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .get("tokenType", String.class);
+        return parse(token).get("tokenType", String.class);
+    }
+
+    private Claims parse(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -1,6 +1,6 @@
 package site.festifriends.common.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,8 +8,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -19,19 +20,31 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import site.festifriends.common.exception.BusinessException;
 import site.festifriends.common.exception.ErrorCode;
 import site.festifriends.common.response.ResponseWrapper;
+import site.festifriends.domain.auth.MemberAuthState;
 import site.festifriends.domain.auth.UserDetailsImpl;
 import site.festifriends.domain.auth.service.BlackListTokenService;
-import site.festifriends.domain.auth.service.CustomUserDetailsService;
+import site.festifriends.domain.auth.service.MemberAuthStateCache;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider accessTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final AccessTokenProvider accessTokenProvider;
+    private final MemberAuthStateCache memberAuthStateCache;
     private final BlackListTokenService blackListTokenService;
+    private final ObjectWriter errorWriter;
 
-    private final List<String> jwtIgnoreUrls = List.of("/api/v1/auth/token");
+    private static final List<String> JWT_IGNORE_URLS = List.of("/api/v1/auth/token");
+
+    // 요청마다 정규식을 컴파일하지 않도록 고정 경로는 Set 으로, 와일드카드 경로는 미리 컴파일해 둔다
+    private static final Set<String> IGNORE_EXACT_URLS = JWT_IGNORE_URLS.stream()
+        .map(v -> v.replace("/**", ""))
+        .filter(v -> !v.contains("*"))
+        .collect(Collectors.toUnmodifiableSet());
+    private static final List<Pattern> IGNORE_URL_PATTERNS = JWT_IGNORE_URLS.stream()
+        .filter(v -> v.contains("*"))
+        .map(v -> Pattern.compile(v.replace("**", ".*")))
+        .toList();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -42,6 +55,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 금지 토큰과 회원 상태는 메모리에서 확인하므로 대부분의 요청은 DB를 조회하지 않는다
         String accessToken = TokenResolver.extractAccessToken(request);
         boolean isBlackListed = blackListTokenService.isBlackListed(accessToken);
 
@@ -52,13 +66,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (accessToken != null && !accessToken.isEmpty()) {
             try {
-                String accessTokenType = accessTokenProvider.getTokenType(accessToken);
-                if ("access".equals(accessTokenType)) {
-                    UserDetailsImpl userDetails = getUserDetails(accessToken);
+                AccessTokenClaims claims = accessTokenProvider.parseClaims(accessToken);
+                if ("access".equals(claims.getTokenType())) {
+                    UserDetailsImpl userDetails = getUserDetails(claims);
                     setAuthenticationUser(userDetails, request);
                 }
             } catch (ExpiredJwtException e1) {
-                throw new ServletException();
+                // 만료는 흔한 정상 흐름이므로 예외 필터까지 던져 스택 트레이스를 남기지 않고 바로 응답한다
+                sendErrorResponse(response, ErrorCode.UNAUTHORIZED, ErrorCode.UNAUTHORIZED.getMessage());
+                return;
             } catch (BusinessException e2) {
                 String refreshToken = TokenResolver.extractRefreshToken(request);
                 blackListTokenService.addBlackListToken(accessToken);
@@ -72,21 +88,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private boolean shouldIgnoreRequest(HttpServletRequest request) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+
         String uri = request.getRequestURI();
-        String method = request.getMethod();
-        Optional<String> judge = jwtIgnoreUrls.stream()
-            .filter(v ->
-                Pattern.matches(v.replace("**", ".*"), uri) ||
-                    Pattern.matches(v.replace("/**", ""), uri)
-            )
-            .findFirst();
-        return judge.isPresent() || "OPTIONS".equals(method);
+        if (IGNORE_EXACT_URLS.contains(uri)) {
+            return true;
+        }
+        for (Pattern pattern : IGNORE_URL_PATTERNS) {
+            if (pattern.matcher(uri).matches()) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private UserDetailsImpl getUserDetails(String accessToken) {
-        Long userId = Long.valueOf(accessTokenProvider.getSubject(accessToken));
+    /**
+     * 토큰 클레임으로 인증 정보를 만들고, 발급 이후 정지/탈퇴/역할 변경은 회원 상태 캐시로 확인한다.
+     */
+    private UserDetailsImpl getUserDetails(AccessTokenClaims claims) {
+        MemberAuthState state = memberAuthStateCache.get(claims.getMemberId());
+
+        if (state.isDeleted()) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED, "탈퇴한 회원입니다.");
+        }
+        if (claims.isSuspended() || state.isSuspended()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "해당 회원은 정지된 상태입니다.");
+        }
 
-        return userDetailsService.loadUserById(userId);
+        return new UserDetailsImpl(claims.getMemberId(), state.getRole());
     }
 
     private void setAuthenticationUser(UserDetailsImpl userDetails, HttpServletRequest request) {
@@ -104,7 +135,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
-        String errorJson = new ObjectMapper().writeValueAsString(
+        String errorJson = errorWriter.writeValueAsString(
             ResponseWrapper.error(errorCode, message)
         );
 
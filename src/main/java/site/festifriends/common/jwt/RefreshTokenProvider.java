@@ -1,9 +1,9 @@
 package site.festifriends.common.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import javax.crypto.SecretKey;
@@ -13,16 +13,17 @@ import org.springframework.stereotype.Component;
 @Component
 public class RefreshTokenProvider implements JwtTokenProvider {
 
-    @Value("${jwt.refresh.secret}")
-    private String refreshSecretKey;
-    @Value("${jwt.refresh.expiration}")
-    private Long refreshExpiration;
+    private final Long refreshExpiration;
+    private final SecretKey key;
+    private final JwtParser parser;
 
-    SecretKey key;
-
-    @PostConstruct
-    public void init() {
+    public RefreshTokenProvider(
+        @Value("${jwt.refresh.secret}") String refreshSecretKey,
+        @Value("${jwt.refresh.expiration}") Long refreshExpiration
+    ) {
+        this.refreshExpiration = refreshExpiration;
         this.key = Keys.hmacShaKeyFor(refreshSecretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     @Override
@@ -44,11 +45,7 @@ public class RefreshTokenProvider implements JwtTokenProvider {
     @Override
     public boolean validateToken(String token) {
         try {
-            Jwts
-                .parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
+            parse(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -57,35 +54,20 @@ public class RefreshTokenProvider implements JwtTokenProvider {
 
     @Override
     public String getSubject(String token) {
-        Claims claims = Jwts
-            .parser()
-            .verifyWith(key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-
-        return claims.getSubject();
+        return parse(token).getSubject();
     }
 
     @Override
     public Date getExpiration(String token) {
-        return Jwts
-            .parser()
-            .verifyWith(key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getExpiration();
+        return parse(token).getExpiration();
     }
 
     @Override
     public String getTokenType(String token) {
-        return Jwts
-            .parser()
-            .verifyWith(key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .get("tokenType", String.class);
+        return parse(token).get("tokenType", String.class);
+    }
+
+    private Claims parse(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,46 @@
+package site.festifriends.common.thread;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 블로킹 I/O 를 하는 내부 작업용 스레드를 만든다.
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행 중이면 가상 스레드를, 아니면 플랫폼 스레드를 쓴다.
+ * 소스는 Java 17 로 컴파일되므로 가상 스레드는 Spring 의 VirtualThreadTaskExecutor 를 통해서만 만든다.
+ */
+@Component
+public class BlockingTaskExecutors {
+
+    private final boolean virtual;
+
+    public BlockingTaskExecutors(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ThreadFactory threadFactory(String threadNamePrefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory();
+        }
+        return new CustomizableThreadFactory(threadNamePrefix);
+    }
+
+    /**
+     * 플랫폼 스레드는 platformThreads 개로 제한하고, 가상 스레드는 작업마다 새로 만들어 느린 작업이 다른 작업을 막지 않게 한다.
+     */
+    public ExecutorService newExecutor(String threadNamePrefix, int platformThreads) {
+        if (virtual) {
+            return Executors.newCachedThreadPool(threadFactory(threadNamePrefix));
+        }
+        return Executors.newFixedThreadPool(platformThreads, threadFactory(threadNamePrefix));
+    }
+}
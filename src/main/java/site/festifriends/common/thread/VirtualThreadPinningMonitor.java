@@ -0,0 +1,101 @@
+package site.festifriends.common.thread;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 모드에서 캐리어 스레드 고정(pinning)을 JFR 로 감시한다.
+ * synchronized 안에서 블로킹 I/O 를 하면 가상 스레드가 캐리어 스레드를 놓지 못해 동시 처리량이 플랫폼 스레드 수준으로 떨어진다.
+ * 고정 횟수는 jvm.threads.virtual.pinned 지표로 남기고, 같은 위치는 처음 한 번만 스택과 함께 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "site.festifriends.";
+    private static final int MAX_LOGGED_LOCATIONS = 1000;
+    private static final int MAX_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private final Set<String> loggedLocations = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+        MeterRegistry meterRegistry,
+        @Value("${runtime.virtual-threads.pinned-threshold-ms:20}") long thresholdMillis
+    ) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+            .description("캐리어 스레드에 고정된 가상 스레드 수 (임계 시간 이상)")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+
+        log.info("가상 스레드 고정 감시를 시작합니다. thresholdMs={}", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+
+        List<String> frames = frames(event);
+        String location = frames.isEmpty() ? "unknown" : frames.get(0);
+        if (loggedLocations.size() >= MAX_LOGGED_LOCATIONS || !loggedLocations.add(location)) {
+            return;
+        }
+
+        log.warn("가상 스레드가 캐리어 스레드에 고정되었습니다. durationMs={}, thread={}\n\tat {}",
+            event.getDuration().toMillis(), event.getThread() != null ? event.getThread().getJavaName() : null,
+            String.join("\n\tat ", frames));
+    }
+
+    /**
+     * JDK 내부 프레임보다 애플리케이션 프레임이 원인을 찾는 데 유용하므로 애플리케이션 프레임을 먼저 보여준다.
+     */
+    private List<String> frames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return List.of();
+        }
+
+        List<String> all = event.getStackTrace().getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber())
+            .toList();
+        List<String> app = all.stream()
+            .filter(frame -> frame.startsWith(APP_PACKAGE))
+            .limit(MAX_FRAMES)
+            .toList();
+        return app.isEmpty() ? all.stream().limit(MAX_FRAMES).toList() : app;
+    }
+}
@@ -45,4 +45,6 @@ public interface ApplicationRepositoryCustom {
     Optional<Member> findHostByGroupId(Long groupId);
 
     List<Member> findMembersByGroupId(Long groupId);
+
+    List<Long> findMemberIdsByGroupId(Long groupId);
 }
\ No newline at end of file
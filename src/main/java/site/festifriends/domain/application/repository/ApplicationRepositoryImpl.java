@@ -449,6 +449,25 @@ public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
         return members;
     }
 
+    @Override
+    public List<Long> findMemberIdsByGroupId(Long groupId) {
+        if (groupId == null) {
+            return Collections.emptyList();
+        }
+
+        QMemberGroup mg = QMemberGroup.memberGroup;
+
+        return queryFactory
+            .select(mg.member.id)
+            .from(mg)
+            .where(
+                mg.group.id.eq(groupId),
+                mg.status.eq(ApplicationStatus.CONFIRMED),
+                mg.deleted.isNull()
+            )
+            .fetch();
+    }
+
     @Override
     public Slice<Group> findUnstartedGroupsWithPendingApplicationsSlice(Long hostId, Long cursorId, Pageable pageable) {
         QGroup g = QGroup.group;
@@ -29,8 +29,7 @@ import site.festifriends.domain.group.repository.GroupRepository;
 import site.festifriends.domain.image.dto.ImageDto;
 import site.festifriends.domain.member.repository.MemberImageRepository;
 import site.festifriends.domain.member.repository.MemberRepository;
-import site.festifriends.domain.notifications.dto.NotificationEvent;
-import site.festifriends.domain.notifications.service.NotificationService;
+import site.festifriends.domain.notifications.NotificationSender;
 import site.festifriends.domain.review.repository.ReviewRepository;
 import site.festifriends.entity.Group;
 import site.festifriends.entity.Member;
@@ -51,7 +50,7 @@ public class ApplicationService {
     private final MemberRepository memberRepository;
     private final MemberImageRepository memberImageRepository;
     private final GroupRepository groupRepository;
-    private final NotificationService notificationService;
+    private final NotificationSender notificationSender;
     private final ChatService chatService;
 
     /**
@@ -456,36 +455,26 @@ public class ApplicationService {
             application.approve();
             message = "모임 가입 신청을 수락하였습니다";
 
-            NotificationEvent event = notificationService.createNotification(
-                application.getMember(),
+            notificationSender.send(
+                application.getMember().getId(),
                 NotificationType.APPLIED,
                 application.getGroup().getTitle(),
                 null,
                 null
             );
 
-            notificationService.sendNotification(
-                application.getMember().getId(),
-                event
-            );
-
         } else if (status == ApplicationStatus.REJECTED) {
             application.reject();
             message = "모임 가입 신청을 거절하였습니다";
 
-            NotificationEvent event = notificationService.createNotification(
-                application.getMember(),
+            notificationSender.send(
+                application.getMember().getId(),
                 NotificationType.REJECTED,
                 application.getGroup().getTitle(),
                 null,
                 null
             );
 
-            notificationService.sendNotification(
-                application.getMember().getId(),
-                event
-            );
-
         } else {
             throw new BusinessException(ErrorCode.BAD_REQUEST, "잘못된 상태 값입니다. ACCEPTED 또는 REJECTED만 허용됩니다.");
         }
@@ -605,14 +594,13 @@ public class ApplicationService {
         Member host = applicationRepository.findHostByGroupId(groupId)
             .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "모임 방장을 찾을 수 없습니다."));
 
-        NotificationEvent event = notificationService.createNotification(
-            host,
+        notificationSender.send(
+            host.getId(),
             NotificationType.APPLICATION,
             group.getTitle(),
             null,
             null
         );
-        notificationService.sendNotification(host.getId(), event);
 
         return ResponseWrapper.success("모임 신청이 완료되었습니다.", null);
     }
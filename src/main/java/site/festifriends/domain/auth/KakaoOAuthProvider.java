@@ -1,7 +1,9 @@
 package site.festifriends.domain.auth;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,36 +12,57 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
 
+/**
+ * 카카오 OAuth 호출은 모두 커넥션 풀과 시간 제한이 걸린 oAuthRestClient 를 쓰고, 서킷 브레이커를 거친다.
+ * 타임아웃/5xx/서킷 열림은 SERVICE_UNAVAILABLE 로 바꾸고, 4xx 응답은 그대로 던진다.
+ */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class KakaoOAuthProvider {
 
-    @Qualifier("oAuthRestClient")
     private final RestClient restClient;
-
-    @Value("${oauth.kakao.client-id}")
-    private String clientId;
-
-    @Value("${oauth.kakao.redirect-uri}")
-    private String redirectUri;
-
-    @Value("${oauth.kakao.admin-key}")
-    private String adminKey;
-
-    @Value("${oauth.kakao.dev.redirect-uri}")
-    private String devRedirectUri;
-
-    private static final String AUTHORIZE_URL = "https://kauth.kakao.com/oauth/authorize";
-    private static final String TOKEN_URL = "https://kauth.kakao.com/oauth/token";
-    private static final String USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+    private final CircuitBreaker circuitBreaker;
+    private final String clientId;
+    private final String redirectUri;
+    private final String adminKey;
+    private final String devRedirectUri;
+    private final String authorizeUrl;
+    private final String tokenUrl;
+    private final String userInfoUrl;
+    private final String unlinkUrl;
+
+    public KakaoOAuthProvider(
+        @Qualifier("oAuthRestClient") RestClient restClient,
+        @Qualifier("kakaoCircuitBreaker") CircuitBreaker circuitBreaker,
+        @Value("${oauth.kakao.client-id}") String clientId,
+        @Value("${oauth.kakao.redirect-uri}") String redirectUri,
+        @Value("${oauth.kakao.admin-key}") String adminKey,
+        @Value("${oauth.kakao.dev.redirect-uri}") String devRedirectUri,
+        @Value("${oauth.kakao.auth-base-url:https://kauth.kakao.com}") String authBaseUrl,
+        @Value("${oauth.kakao.api-base-url:https://kapi.kakao.com}") String apiBaseUrl
+    ) {
+        this.restClient = restClient;
+        this.circuitBreaker = circuitBreaker;
+        this.clientId = clientId;
+        this.redirectUri = redirectUri;
+        this.adminKey = adminKey;
+        this.devRedirectUri = devRedirectUri;
+        this.authorizeUrl = authBaseUrl + "/oauth/authorize";
+        this.tokenUrl = authBaseUrl + "/oauth/token";
+        this.userInfoUrl = apiBaseUrl + "/v2/user/me";
+        this.unlinkUrl = apiBaseUrl + "/v1/user/unlink";
+    }
 
     public String getAuthorizationUrl() {
         return UriComponentsBuilder
-            .fromUriString(AUTHORIZE_URL)
+            .fromUriString(authorizeUrl)
             .queryParam("response_type", "code")
             .queryParam("client_id", clientId)
             .queryParam("redirect_uri", redirectUri)
@@ -50,7 +73,7 @@ public class KakaoOAuthProvider {
     public JsonNode getToken(String code) {
         final String uri =
             UriComponentsBuilder
-                .fromUriString(TOKEN_URL)
+                .fromUriString(tokenUrl)
                 .queryParam("grant_type", "authorization_code")
                 .queryParam("client_id", clientId)
                 .queryParam("redirect_uri", redirectUri)
@@ -58,17 +81,17 @@ public class KakaoOAuthProvider {
                 .build()
                 .toUriString();
 
-        return restClient
+        return call(() -> restClient
             .post()
             .uri(uri)
             .retrieve()
-            .body(JsonNode.class);
+            .body(JsonNode.class));
     }
 
     public JsonNode getDevToken(String code) {
         final String uri =
             UriComponentsBuilder
-                .fromUriString(TOKEN_URL)
+                .fromUriString(tokenUrl)
                 .queryParam("grant_type", "authorization_code")
                 .queryParam("client_id", clientId)
                 .queryParam("redirect_uri", devRedirectUri)
@@ -76,11 +99,11 @@ public class KakaoOAuthProvider {
                 .build()
                 .toUriString();
 
-        return restClient
+        return call(() -> restClient
             .post()
             .uri(uri)
             .retrieve()
-            .body(JsonNode.class);
+            .body(JsonNode.class));
     }
 
     public JsonNode getUserInfo(String code) {
@@ -94,17 +117,17 @@ public class KakaoOAuthProvider {
     }
 
     private JsonNode getUserInfoFromKakao(String accessToken) {
-        return restClient
+        return call(() -> restClient
             .get()
-            .uri(USER_INFO_URL)
+            .uri(userInfoUrl)
             .header("Authorization", "Bearer " + accessToken)
             .retrieve()
-            .body(JsonNode.class);
+            .body(JsonNode.class));
     }
 
     public String getDevAuthorizationUrl() {
         return UriComponentsBuilder
-            .fromUriString(AUTHORIZE_URL)
+            .fromUriString(authorizeUrl)
             .queryParam("response_type", "code")
             .queryParam("client_id", clientId)
             .queryParam("redirect_uri", devRedirectUri)
@@ -112,26 +135,32 @@ public class KakaoOAuthProvider {
             .toUriString();
     }
 
-    public boolean unlinkKakaoAccount(String socialId) {
-        String uri = "https://kapi.kakao.com/v1/user/unlink";
-
+    /**
+     * 회원 탈퇴 트랜잭션과 분리해 KakaoUnlinkQueue 가 백그라운드에서 호출한다. 실패하면 예외를 던져 재시도하게 한다.
+     */
+    public void unlinkKakaoAccount(String socialId) {
         MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
         formData.add("target_id_type", "user_id");
         formData.add("target_id", socialId);
 
+        call(() -> restClient
+            .post()
+            .uri(unlinkUrl)
+            .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + adminKey)
+            .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+            .body(formData)
+            .retrieve()
+            .body(String.class));
+    }
+
+    private <T> T call(Supplier<T> request) {
         try {
-            restClient
-                .post()
-                .uri(uri)
-                .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + adminKey)
-                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                .body(formData)
-                .retrieve()
-                .body(String.class);
-            return true;
-        } catch (Exception e) {
-            log.info("Failed to unlink Kakao account: {}", e.getMessage());
-            return false;
+            return circuitBreaker.executeSupplier(request);
+        } catch (CallNotPermittedException e) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "카카오 서버 장애로 잠시 후 다시 시도해주세요.");
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            log.warn("카카오 API 호출에 실패했습니다. reason={}", e.getMessage());
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "카카오 서버와 통신할 수 없습니다. 잠시 후 다시 시도해주세요.");
         }
     }
 }
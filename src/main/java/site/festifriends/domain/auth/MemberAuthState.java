@@ -0,0 +1,26 @@
+package site.festifriends.domain.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import site.festifriends.entity.enums.MemberRole;
+
+/**
+ * 인증 시 확인하는 회원 상태 (역할, 정지, 탈퇴)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberAuthState {
+
+    private static final MemberAuthState NOT_FOUND = new MemberAuthState(MemberRole.USER, false, true);
+
+    private final MemberRole role;
+    private final boolean suspended;
+    private final boolean deleted;
+
+    /**
+     * 회원이 없으면 탈퇴한 것으로 본다.
+     */
+    public static MemberAuthState notFound() {
+        return NOT_FOUND;
+    }
+}
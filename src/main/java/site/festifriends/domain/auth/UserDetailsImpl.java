@@ -1,30 +1,36 @@
 package site.festifriends.domain.auth;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import site.festifriends.entity.Member;
+import site.festifriends.entity.enums.MemberRole;
 
+/**
+ * 인증된 회원 정보
+ * 요청마다 회원을 조회하지 않도록 토큰 클레임과 회원 상태 캐시의 값만 담는다.
+ */
 @Getter
 public class UserDetailsImpl implements UserDetails {
 
     private final Long memberId;
-    private final String nickname;
+    private final MemberRole role;
 
-    public UserDetailsImpl(Long memberId, String nickname) {
+    public UserDetailsImpl(Long memberId, MemberRole role) {
         this.memberId = memberId;
-        this.nickname = nickname;
+        this.role = role;
     }
 
     public static UserDetailsImpl of(Member member) {
-        return new UserDetailsImpl(member.getId(), member.getNickname());
+        return new UserDetailsImpl(member.getId(), member.getMemberRole());
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.emptyList();
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
@@ -34,6 +40,6 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public String getUsername() {
-        return this.nickname;
+        return String.valueOf(this.memberId);
     }
 }
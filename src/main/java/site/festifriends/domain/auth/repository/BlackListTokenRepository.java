@@ -1,9 +1,32 @@
 package site.festifriends.domain.auth.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.festifriends.entity.BlackListToken;
 
 public interface BlackListTokenRepository extends JpaRepository<BlackListToken, Long> {
 
-    boolean existsByToken(String token);
+    boolean existsByTokenHashAndExpiresAtAfter(String tokenHash, LocalDateTime now);
+
+    @Query("SELECT b.token, b.tokenHash, b.createdAt, b.expiresAt FROM BlackListToken b WHERE b.createdAt >= :since")
+    List<Object[]> findRevokedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 해시 컬럼이 생기기 전에 토큰 원문으로 저장된 행
+     */
+    @Query("SELECT b FROM BlackListToken b WHERE b.tokenHash IS NULL AND b.token IS NOT NULL ORDER BY b.id")
+    List<BlackListToken> findLegacyTokens(Pageable pageable);
+
+    /**
+     * 해시/만료 시간이 없는 예전 행은 생성 시간이 legacyBefore 이전이면 삭제한다.
+     */
+    @Modifying
+    @Query("DELETE FROM BlackListToken b WHERE b.expiresAt < :now "
+        + "OR (b.expiresAt IS NULL AND b.createdAt < :legacyBefore)")
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("legacyBefore") LocalDateTime legacyBefore);
 }
@@ -0,0 +1,23 @@
+package site.festifriends.domain.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.festifriends.entity.KakaoUnlinkTask;
+
+public interface KakaoUnlinkTaskRepository extends JpaRepository<KakaoUnlinkTask, Long> {
+
+    /**
+     * 여러 인스턴스가 같은 행을 동시에 가져가지 않도록 잠긴 행은 건너뛴다.
+     */
+    @Query(value = """
+        SELECT * FROM kakao_unlink_task
+        WHERE status = 'PENDING' AND next_attempt_at <= :now
+        ORDER BY kakao_unlink_task_id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<KakaoUnlinkTask> findDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
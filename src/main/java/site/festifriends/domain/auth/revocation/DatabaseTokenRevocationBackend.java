@@ -0,0 +1,115 @@
+package site.festifriends.domain.auth.revocation;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.festifriends.domain.auth.repository.BlackListTokenRepository;
+import site.festifriends.entity.BlackListToken;
+
+/**
+ * black_list_token 테이블을 쓰는 기본 저장소
+ * 토큰 원문은 저장하지 않고 해시와 만료 시간만 저장한다.
+ * 해시/만료 시간 컬럼이 생기기 전의 행은 토큰 원문으로 해시를 만들고, 생성 후 리프레시 토큰 유효 기간까지 유효한 것으로 본다.
+ * 이런 행은 기동할 때와 정리 주기마다 해시로 바꾸고 원문을 지운다. (롤링 배포 중 이전 버전 서버가 쓴 행 포함)
+ */
+@Slf4j
+@Component
+public class DatabaseTokenRevocationBackend implements TokenRevocationBackend {
+
+    private final BlackListTokenRepository blackListTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxTokenLifetimeMillis;
+    private final int backfillBatchSize;
+
+    public DatabaseTokenRevocationBackend(
+        BlackListTokenRepository blackListTokenRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${jwt.refresh.expiration}") long maxTokenLifetimeMillis,
+        @Value("${auth.revocation.backfill-batch-size:500}") int backfillBatchSize
+    ) {
+        this.blackListTokenRepository = blackListTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxTokenLifetimeMillis = maxTokenLifetimeMillis;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    /**
+     * 요청을 받기 전에 예전 행을 해시로 바꿔 두어야 적재 전 조회(isRevoked)가 예전 행도 찾는다.
+     */
+    @PostConstruct
+    public void backfillOnStartup() {
+        try {
+            int converted = backfillLegacyTokens();
+            if (converted > 0) {
+                log.info("토큰 원문으로 저장된 폐기 토큰을 해시로 바꿨습니다. 행 수={}", converted);
+            }
+        } catch (Exception e) {
+            log.error("폐기 토큰 해시 변환에 실패했습니다. 다음 정리 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    @Override
+    public void revoke(RevokedToken revokedToken) {
+        blackListTokenRepository.save(new BlackListToken(revokedToken.getTokenHash(), revokedToken.getExpiresAt()));
+    }
+
+    @Override
+    public boolean isRevoked(String tokenHash, LocalDateTime now) {
+        return blackListTokenRepository.existsByTokenHashAndExpiresAtAfter(tokenHash, now);
+    }
+
+    /**
+     * 어떤 토큰도 리프레시 토큰 유효 기간보다 오래 살지 않으므로 그 이전에 폐기된 행은 읽지 않는다.
+     */
+    @Override
+    public List<RevokedToken> findRevokedSince(LocalDateTime since, LocalDateTime now) {
+        LocalDateTime oldest = now.minusNanos(maxTokenLifetimeMillis * 1_000_000);
+        LocalDateTime from = since != null && since.isAfter(oldest) ? since : oldest;
+
+        List<RevokedToken> revokedTokens = new ArrayList<>();
+        for (Object[] row : blackListTokenRepository.findRevokedSince(from)) {
+            String token = (String) row[0];
+            String tokenHash = row[1] != null ? (String) row[1] : TokenHashes.sha256(token);
+            LocalDateTime expiresAt = row[3] != null
+                ? (LocalDateTime) row[3]
+                : ((LocalDateTime) row[2]).plusNanos(maxTokenLifetimeMillis * 1_000_000);
+
+            if (expiresAt.isAfter(now)) {
+                revokedTokens.add(new RevokedToken(tokenHash, expiresAt));
+            }
+        }
+        return revokedTokens;
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        backfillLegacyTokens();
+        Integer deleted = transactionTemplate.execute(status -> blackListTokenRepository.deleteExpired(now,
+            now.minusNanos(maxTokenLifetimeMillis * 1_000_000)));
+        return deleted != null ? deleted : 0;
+    }
+
+    public int backfillLegacyTokens() {
+        int converted = 0;
+        int batch;
+        do {
+            Integer count = transactionTemplate.execute(status -> {
+                List<BlackListToken> legacyTokens = blackListTokenRepository.findLegacyTokens(
+                    PageRequest.of(0, backfillBatchSize));
+                legacyTokens.forEach(legacy -> legacy.replaceTokenWithHash(TokenHashes.sha256(legacy.getToken()),
+                    legacy.getCreatedAt().plusNanos(maxTokenLifetimeMillis * 1_000_000)));
+                return legacyTokens.size();
+            });
+            batch = count != null ? count : 0;
+            converted += batch;
+        } while (batch == backfillBatchSize);
+        return converted;
+    }
+}
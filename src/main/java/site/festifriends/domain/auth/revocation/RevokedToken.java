@@ -0,0 +1,16 @@
+package site.festifriends.domain.auth.revocation;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 폐기된 토큰 (토큰 원문 대신 SHA-256 해시로 구분)
+ */
+@Getter
+@AllArgsConstructor
+public class RevokedToken {
+
+    private final String tokenHash;
+    private final LocalDateTime expiresAt;  // 토큰 자체의 만료 시각, 이후에는 폐기 여부를 확인할 필요가 없다
+}
@@ -0,0 +1,22 @@
+package site.festifriends.domain.auth.revocation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 서버가 폐기 토큰을 공유하는 저장소
+ * 기본 구현은 black_list_token 테이블이며, 다른 저장소를 쓰려면 이 인터페이스를 구현한 빈을 등록한다.
+ */
+public interface TokenRevocationBackend {
+
+    void revoke(RevokedToken revokedToken);
+
+    boolean isRevoked(String tokenHash, LocalDateTime now);
+
+    /**
+     * since 이후에 폐기된 토큰 중 아직 만료되지 않은 것 (since 가 null 이면 만료되지 않은 전체)
+     */
+    List<RevokedToken> findRevokedSince(LocalDateTime since, LocalDateTime now);
+
+    int deleteExpired(LocalDateTime now);
+}
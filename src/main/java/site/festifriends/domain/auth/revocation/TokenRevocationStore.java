@@ -0,0 +1,164 @@
+package site.festifriends.domain.auth.revocation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기 토큰의 메모리 저장소
+ * 대부분의 요청은 폐기되지 않은 토큰이므로 블룸 필터에서 바로 false 로 끝난다.
+ * 블룸 필터가 있을 수도 있다고 답하면 해시 맵에서 만료 시각과 함께 확인한다.
+ * 블룸 필터는 지울 수 없으므로 만료된 항목을 정리할 때 남은 항목으로 다시 만든다.
+ * 추가와 재생성은 서로 배타적으로 실행하고, 조회는 잠그지 않는다.
+ */
+@Component
+public class TokenRevocationStore {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Map<TokenKey, Long> expiresAtMillis = new ConcurrentHashMap<>();
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationStore(
+        @Value("${auth.revocation.bloom.expected-insertions:100000}") int expectedInsertions,
+        @Value("${auth.revocation.bloom.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public synchronized void add(RevokedToken revokedToken) {
+        TokenKey key = TokenKey.of(revokedToken.getTokenHash());
+        expiresAtMillis.merge(key, toMillis(revokedToken.getExpiresAt()), Math::max);
+        bloomFilter.put(key);
+    }
+
+    public void addAll(Collection<RevokedToken> revokedTokens) {
+        revokedTokens.forEach(this::add);
+    }
+
+    public boolean isRevoked(String tokenHash, LocalDateTime now) {
+        TokenKey key = TokenKey.of(tokenHash);
+        if (!bloomFilter.mightContain(key)) {
+            return false;
+        }
+
+        Long expiresAt = expiresAtMillis.get(key);
+        return expiresAt != null && expiresAt > toMillis(now);
+    }
+
+    /**
+     * 만료된 항목을 지우고 남은 항목으로 블룸 필터를 다시 만든다. (지운 개수를 반환)
+     */
+    public synchronized int evictExpired(LocalDateTime now) {
+        long nowMillis = toMillis(now);
+        int before = expiresAtMillis.size();
+        expiresAtMillis.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, expiresAtMillis.size() * 2),
+            falsePositiveRate);
+        expiresAtMillis.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+
+        return before - expiresAtMillis.size();
+    }
+
+    public int size() {
+        return expiresAtMillis.size();
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /**
+     * SHA-256 해시의 앞 128비트 (해시 문자열보다 메모리를 적게 쓴다)
+     */
+    private static final class TokenKey {
+
+        private final long high;
+        private final long low;
+
+        private TokenKey(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        private static TokenKey of(String tokenHash) {
+            return new TokenKey(Long.parseUnsignedLong(tokenHash.substring(0, 16), 16),
+                Long.parseUnsignedLong(tokenHash.substring(16, 32), 16));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TokenKey other)) {
+                return false;
+            }
+            return high == other.high && low == other.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(high ^ low);
+        }
+    }
+
+    /**
+     * 키가 이미 균일한 해시이므로 두 64비트 값으로 이중 해싱해서 위치를 정한다.
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        private BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+            this.bitSize = Math.max(64, size);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        }
+
+        private void put(TokenKey key) {
+            for (int i = 0; i < hashCount; i++) {
+                long index = index(key, i);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        private boolean mightContain(TokenKey key) {
+            for (int i = 0; i < hashCount; i++) {
+                long index = index(key, i);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long index(TokenKey key, int i) {
+            return Math.floorMod(key.high + i * key.low, bitSize);
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class AuthService {
 
         Member member = memberService.loginOrSignUp(kakaoUserInfo);
 
-        String accessToken = accessTokenProvider.generateToken(member.getId());
+        String accessToken = accessTokenProvider.generateToken(member);
         String refreshToken = refreshTokenProvider.generateToken(member.getId());
 
         memberService.saveRefreshToken(member.getId(), refreshToken);
@@ -50,7 +50,7 @@ public class AuthService {
 
         Member member = memberService.loginOrSignUp(kakaoUserInfo);
 
-        String accessToken = accessTokenProvider.generateToken(member.getId());
+        String accessToken = accessTokenProvider.generateToken(member);
         String refreshToken = refreshTokenProvider.generateToken(member.getId());
 
         memberService.saveRefreshToken(member.getId(), refreshToken);
@@ -66,7 +66,8 @@ public class AuthService {
         blackListTokenService.addBlackListToken(refreshToken);
 
         Long memberId = Long.valueOf(refreshTokenProvider.getSubject(refreshToken));
-        String newAccessToken = accessTokenProvider.generateToken(memberId);
+        Member member = memberService.getMemberById(memberId);
+        String newAccessToken = accessTokenProvider.generateToken(member);
         String newRefreshToken = refreshTokenProvider.generateToken(memberId);
 
         memberService.saveRefreshToken(memberId, newRefreshToken);
@@ -1,21 +1,141 @@
 package site.festifriends.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import site.festifriends.domain.auth.repository.BlackListTokenRepository;
-import site.festifriends.entity.BlackListToken;
+import site.festifriends.common.jwt.AccessTokenProvider;
+import site.festifriends.common.jwt.JwtTokenProvider;
+import site.festifriends.common.jwt.RefreshTokenProvider;
+import site.festifriends.domain.auth.revocation.RevokedToken;
+import site.festifriends.domain.auth.revocation.TokenHashes;
+import site.festifriends.domain.auth.revocation.TokenRevocationBackend;
+import site.festifriends.domain.auth.revocation.TokenRevocationStore;
 
+/**
+ * 금지(폐기)된 토큰 관리
+ * - 토큰 원문 대신 SHA-256 해시와 토큰의 만료 시각으로 저장하고, 만료된 토큰은 메모리와 저장소에서 지운다.
+ * - 조회는 메모리(블룸 필터 + 해시 맵)에서 하므로 요청마다 DB를 조회하지 않는다.
+ * - 서버가 뜨면 저장소에서 만료되지 않은 항목을 읽어 오고, 다른 서버에서 폐기한 토큰은 주기적으로 가져온다.
+ *   (sync-interval-ms 만큼 늦을 수 있음, 처음 적재하기 전에는 저장소에서 직접 확인)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class BlackListTokenService {
 
-    private final BlackListTokenRepository blackListTokenRepository;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final TokenRevocationBackend tokenRevocationBackend;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final AccessTokenProvider accessTokenProvider;
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final long refreshExpirationMillis;
+    private final long syncOverlapMillis;
+
+    private volatile LocalDateTime watermark;
+
+    public BlackListTokenService(
+        TokenRevocationBackend tokenRevocationBackend,
+        TokenRevocationStore tokenRevocationStore,
+        AccessTokenProvider accessTokenProvider,
+        RefreshTokenProvider refreshTokenProvider,
+        @Value("${jwt.refresh.expiration}") long refreshExpirationMillis,
+        @Value("${auth.revocation.sync-overlap-ms:10000}") long syncOverlapMillis
+    ) {
+        this.tokenRevocationBackend = tokenRevocationBackend;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.accessTokenProvider = accessTokenProvider;
+        this.refreshTokenProvider = refreshTokenProvider;
+        this.refreshExpirationMillis = refreshExpirationMillis;
+        this.syncOverlapMillis = syncOverlapMillis;
+    }
 
     public void addBlackListToken(String token) {
-        blackListTokenRepository.save(new BlackListToken(token));
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+
+        RevokedToken revokedToken = new RevokedToken(TokenHashes.sha256(token), expiresAt(token));
+        tokenRevocationBackend.revoke(revokedToken);
+        tokenRevocationStore.add(revokedToken);
     }
 
     public boolean isBlackListed(String token) {
-        return blackListTokenRepository.existsByToken(token);
+        if (token == null || token.isEmpty()) {
+            return false;
+        }
+
+        String tokenHash = TokenHashes.sha256(token);
+        LocalDateTime now = LocalDateTime.now();
+        if (watermark == null) {
+            return tokenRevocationBackend.isRevoked(tokenHash, now);
+        }
+        return tokenRevocationStore.isRevoked(tokenHash, now);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        sync();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            // 늦게 커밋된 행을 놓치지 않도록 이전 시점보다 조금 앞에서부터 읽는다. 다시 넣어도 결과는 같다.
+            LocalDateTime since = watermark != null ? watermark.minusNanos(syncOverlapMillis * 1_000_000) : null;
+
+            tokenRevocationStore.addAll(tokenRevocationBackend.findRevokedSince(since, startedAt));
+
+            if (watermark == null) {
+                log.info("폐기 토큰을 불러왔습니다. 토큰 수={}", tokenRevocationStore.size());
+            }
+            watermark = startedAt;
+        } catch (Exception e) {
+            log.error("폐기 토큰 동기화 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Scheduled(cron = "${auth.revocation.cleanup-cron:0 0 * * * *}")
+    public void cleanup() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int evicted = tokenRevocationStore.evictExpired(now);
+            int deleted = tokenRevocationBackend.deleteExpired(now);
+            log.info("만료된 폐기 토큰을 정리했습니다. 메모리={}, 저장소={}", evicted, deleted);
+        } catch (Exception e) {
+            log.error("만료된 폐기 토큰 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 토큰의 만료 시각까지만 폐기 여부를 기억하면 된다. 읽을 수 없는 토큰은 가장 긴 유효 기간을 적용한다.
+     */
+    private LocalDateTime expiresAt(String token) {
+        Date expiration = expirationOf(accessTokenProvider, token);
+        if (expiration == null) {
+            expiration = expirationOf(refreshTokenProvider, token);
+        }
+        if (expiration == null) {
+            return LocalDateTime.now().plusNanos(refreshExpirationMillis * 1_000_000);
+        }
+        return LocalDateTime.ofInstant(expiration.toInstant(), ZONE);
+    }
+
+    private Date expirationOf(JwtTokenProvider tokenProvider, String token) {
+        try {
+            return tokenProvider.getExpiration(token);
+        } catch (ExpiredJwtException e) {
+            return e.getClaims().getExpiration();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,152 @@
+package site.festifriends.domain.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import site.festifriends.domain.auth.KakaoOAuthProvider;
+import site.festifriends.domain.auth.repository.KakaoUnlinkTaskRepository;
+import site.festifriends.entity.KakaoUnlinkTask;
+
+/**
+ * 카카오 계정 연결 해제 작업 큐
+ * 회원 탈퇴 트랜잭션에서는 작업 한 건만 저장하고, 커밋 이후 worker 스레드가 카카오 API 를 호출한다.
+ * - 탈퇴가 롤백되면 작업도 남지 않으므로 연결 해제되지 않는다.
+ * - 카카오 장애로 실패하거나 서버가 내려가도 작업이 PENDING 으로 남아 주기적으로 다시 처리된다.
+ */
+@Slf4j
+@Component
+public class KakaoUnlinkQueue {
+
+    private final KakaoUnlinkTaskRepository kakaoUnlinkTaskRepository;
+    private final KakaoOAuthProvider kakaoOAuthProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long leaseMillis;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("kakao-unlink-"));
+    private final AtomicBoolean dispatching = new AtomicBoolean(false);
+
+    public KakaoUnlinkQueue(
+        KakaoUnlinkTaskRepository kakaoUnlinkTaskRepository,
+        KakaoOAuthProvider kakaoOAuthProvider,
+        PlatformTransactionManager transactionManager,
+        @Value("${oauth.kakao.unlink.batch-size:20}") int batchSize,
+        @Value("${oauth.kakao.unlink.max-attempts:10}") int maxAttempts,
+        @Value("${oauth.kakao.unlink.retry-backoff-ms:5000}") long retryBackoffMillis,
+        @Value("${oauth.kakao.unlink.lease-ms:60000}") long leaseMillis
+    ) {
+        this.kakaoUnlinkTaskRepository = kakaoUnlinkTaskRepository;
+        this.kakaoOAuthProvider = kakaoOAuthProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * 호출한 트랜잭션에 작업을 저장하고, 커밋된 뒤에 처리를 시작한다.
+     */
+    public void enqueue(String socialId) {
+        kakaoUnlinkTaskRepository.save(new KakaoUnlinkTask(socialId));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestDispatch();
+                }
+            });
+        } else {
+            requestDispatch();
+        }
+    }
+
+    /**
+     * 커밋 이후 신호를 놓친 작업과 재시도 대상 작업을 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${oauth.kakao.unlink.poll-interval-ms:10000}")
+    public void poll() {
+        requestDispatch();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+
+    private void requestDispatch() {
+        try {
+            worker.execute(this::dispatchPending);
+        } catch (RejectedExecutionException e) {
+            log.warn("카카오 연결 해제 worker 가 종료되어 다음 기동 시 처리합니다.");
+        }
+    }
+
+    private void dispatchPending() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            List<KakaoUnlinkTask> tasks;
+            do {
+                tasks = claim();
+                tasks.forEach(this::unlink);
+            } while (tasks.size() == batchSize);
+        } catch (Exception e) {
+            log.error("카카오 연결 해제 작업 처리 중 오류가 발생했습니다.", e);
+        } finally {
+            dispatching.set(false);
+        }
+    }
+
+    /**
+     * 처리할 작업을 잠깐 잠가 가져오고 바로 커밋한다. 카카오 호출 동안 DB 커넥션과 행 잠금을 잡지 않는다.
+     */
+    private List<KakaoUnlinkTask> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<KakaoUnlinkTask> tasks = kakaoUnlinkTaskRepository.findDispatchable(now, batchSize);
+            tasks.forEach(task -> task.lease(now.plus(Duration.ofMillis(leaseMillis))));
+            return tasks;
+        });
+    }
+
+    private void unlink(KakaoUnlinkTask task) {
+        try {
+            kakaoOAuthProvider.unlinkKakaoAccount(task.getSocialId());
+            update(task.getId(), KakaoUnlinkTask::markDone);
+        } catch (HttpClientErrorException e) {
+            log.error("카카오 계정 연결 해제가 거절되었습니다. taskId={}, reason={}", task.getId(), e.getMessage());
+            update(task.getId(), found -> found.markFailed(e.getMessage()));
+        } catch (Exception e) {
+            log.warn("카카오 계정 연결 해제에 실패해 다시 시도합니다. taskId={}, reason={}", task.getId(), e.getMessage());
+            update(task.getId(), found -> found.markRetry(e.getMessage(), maxAttempts, retryBackoffMillis));
+        }
+    }
+
+    private void update(Long taskId, Consumer<KakaoUnlinkTask> change) {
+        transactionTemplate.executeWithoutResult(status -> kakaoUnlinkTaskRepository.findById(taskId)
+            .ifPresent(change));
+    }
+}
@@ -0,0 +1,75 @@
+package site.festifriends.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.festifriends.domain.auth.MemberAuthState;
+import site.festifriends.domain.member.repository.MemberRepository;
+import site.festifriends.entity.enums.MemberRole;
+
+/**
+ * 인증 필터가 요청마다 회원을 조회하지 않도록 회원 상태를 짧게 캐싱한다.
+ * 정지/탈퇴/역할 변경 시 evict 를 호출하면 이 서버에는 커밋 직후 반영되고, 다른 서버에는 TTL 안에 반영된다.
+ */
+@Component
+public class MemberAuthStateCache {
+
+    private static final String CACHE_NAME = "memberAuthState";
+
+    private final MemberRepository memberRepository;
+    private final LoadingCache<Long, MemberAuthState> cache;
+
+    public MemberAuthStateCache(
+        MemberRepository memberRepository,
+        MeterRegistry meterRegistry,
+        @Value("${auth.member-state.maximum-size:100000}") long maximumSize,
+        @Value("${auth.member-state.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build(this::load);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public MemberAuthState get(Long memberId) {
+        return cache.get(memberId);
+    }
+
+    /**
+     * 커밋 전에 다시 적재되면 변경 전 상태가 남으므로 커밋 이후에 지운다.
+     */
+    public void evict(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(memberId);
+                }
+            });
+        } else {
+            cache.invalidate(memberId);
+        }
+    }
+
+    private MemberAuthState load(Long memberId) {
+        List<Object[]> rows = memberRepository.findAuthStateById(memberId);
+        if (rows.isEmpty()) {
+            return MemberAuthState.notFound();
+        }
+
+        Object[] row = rows.get(0);
+        MemberRole role = row[0] != null ? (MemberRole) row[0] : MemberRole.USER;
+        return new MemberAuthState(role, row[1] != null, row[2] != null);
+    }
+}
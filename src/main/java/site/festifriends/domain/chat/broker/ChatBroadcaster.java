@@ -0,0 +1,10 @@
+package site.festifriends.domain.chat.broker;
+
+/**
+ * 채팅방 구독자에게 메시지를 전파한다.
+ * 구현체는 chat.broker.mode 에 따라 결정된다.
+ */
+public interface ChatBroadcaster {
+
+    void broadcast(String destination, Object payload);
+}
@@ -0,0 +1,92 @@
+package site.festifriends.domain.chat.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.jms.JMSException;
+import jakarta.jms.TextMessage;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jms.JmsException;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+
+/**
+ * cluster 모드에서 사용한다. chat-cluster 프로필이 모드와 Artemis/JMS 자동 설정을 함께 켠다.
+ * 메시지를 JMS 토픽에 발행하고, 모든 노드(발행한 노드 포함)가 토픽을 구독해 자기 인메모리 브로커로 전달한다.
+ * 발행 노드도 토픽을 거쳐 받으므로 노드 간 전달 순서가 같다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "cluster")
+public class ClusterChatBroadcaster implements ChatBroadcaster {
+
+    private static final String DESTINATION_PROPERTY = "chatDestination";
+
+    private final JmsTemplate jmsTemplate;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    public ClusterChatBroadcaster(
+        JmsTemplate jmsTemplate,
+        SimpMessagingTemplate simpMessagingTemplate,
+        ObjectMapper objectMapper,
+        @Value("${chat.broker.cluster.topic:chat.broadcast}") String topic
+    ) {
+        this.jmsTemplate = jmsTemplate;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        String body = toJson(payload);
+
+        try {
+            jmsTemplate.send(topic, session -> {
+                TextMessage message = session.createTextMessage(body);
+                message.setStringProperty(DESTINATION_PROPERTY, destination);
+                return message;
+            });
+        } catch (JmsException e) {
+            log.error("채팅 메시지 전파에 실패했습니다. destination={}", destination, e);
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "채팅 메시지를 전송할 수 없습니다.");
+        }
+    }
+
+    @JmsListener(destination = "${chat.broker.cluster.topic:chat.broadcast}")
+    public void receive(TextMessage message) throws JMSException {
+        String destination = message.getStringProperty(DESTINATION_PROPERTY);
+        if (destination == null) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        Message<byte[]> stompMessage = MessageBuilder.createMessage(
+            message.getText().getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+
+        simpMessagingTemplate.send(destination, stompMessage);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "채팅 메시지 변환에 실패했습니다.");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package site.festifriends.domain.chat.broker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * simple, relay 모드에서 사용한다.
+ * relay 모드에서는 외부 브로커가 노드 간 전파를 담당하므로 그대로 전송하면 된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${chat.broker.mode:simple}' != 'cluster'")
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        simpMessagingTemplate.convertAndSend(destination, payload);
+    }
+}
@@ -0,0 +1,15 @@
+package site.festifriends.domain.chat.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PendingChatMessage {
+
+    private Long chatRoomId;
+    private Long senderId;
+    private String content;
+    private LocalDateTime createdAt;
+}
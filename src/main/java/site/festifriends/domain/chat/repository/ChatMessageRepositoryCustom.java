@@ -1,10 +1,16 @@
 package site.festifriends.domain.chat.repository;
 
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import site.festifriends.domain.chat.dto.ChatMessageDto;
+import site.festifriends.domain.chat.dto.PendingChatMessage;
 
 public interface ChatMessageRepositoryCustom {
 
     Slice<ChatMessageDto> getChatMessages(Long chatRoomId, Long cursorId, Pageable pageable);
+
+    int insertAll(List<PendingChatMessage> messages);
+
+    int insertDeadLetters(List<PendingChatMessage> messages, String reason);
 }
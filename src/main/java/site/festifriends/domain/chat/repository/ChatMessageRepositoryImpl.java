@@ -2,30 +2,33 @@ package site.festifriends.domain.chat.repository;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import site.festifriends.domain.chat.dto.ChatMessageDto;
-import site.festifriends.domain.image.dto.ImageDto;
+import site.festifriends.domain.chat.dto.PendingChatMessage;
 
 @Repository
 @RequiredArgsConstructor
 public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
 
     private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Slice<ChatMessageDto> getChatMessages(Long chatRoomId, Long cursorId, Pageable pageable) {
         int pageSize = pageable.getPageSize() + 1;
 
         String sql = """
-            SELECT cm.chat_message_id, m.member_id, m.nickname, mi.member_image_id, mi.src, mi.alt, cm.content, cm.created_at
+            SELECT cm.chat_message_id, cm.member_id, cm.content, cm.created_at
             FROM chat_message cm
-            JOIN member m ON cm.member_id = m.member_id
-            LEFT JOIN member_image mi ON m.member_id = mi.member_id
             WHERE cm.chat_room_id = :chatRoomId
             AND (:cursorId IS NULL OR cm.chat_message_id <= :cursorId)
             AND cm.deleted IS NULL
@@ -41,18 +44,13 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
 
         List<Object[]> results = query.getResultList();
 
+        // 발신자 닉네임과 이미지는 ChatService 에서 SenderProfileCache 로 채운다.
         List<ChatMessageDto> dtos = results.stream()
             .map(result -> ChatMessageDto.builder()
                 .chatId(((Number) result[0]).longValue())
                 .senderId(((Number) result[1]).longValue())
-                .senderName((String) result[2])
-                .senderImage(result[3] != null ? ImageDto.builder()
-                    .id(((Long) result[3]).toString())
-                    .src((String) result[4])
-                    .alt((String) result[5])
-                    .build() : null)
-                .content((String) result[6])
-                .createdAt(((java.sql.Timestamp) result[7]).toLocalDateTime())
+                .content((String) result[2])
+                .createdAt(((Timestamp) result[3]).toLocalDateTime())
                 .build())
             .toList();
 
@@ -60,4 +58,56 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
 
         return new SliceImpl<>(dtos, pageable, hasNext);
     }
+
+    @Override
+    public int insertAll(List<PendingChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO chat_message (chat_room_id, member_id, content, created_at, updated_at) VALUES ");
+        List<Object> params = new ArrayList<>(messages.size() * 5);
+
+        for (int i = 0; i < messages.size(); i++) {
+            PendingChatMessage message = messages.get(i);
+            Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+            params.add(message.getChatRoomId());
+            params.add(message.getSenderId());
+            params.add(message.getContent());
+            params.add(createdAt);
+            params.add(createdAt);
+        }
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * chat_message 에 저장하지 못한 메시지를 보관한다. 외래키와 길이 제한이 없어 원래 테이블에 들어가지 못한 메시지도 받는다.
+     */
+    @Override
+    public int insertDeadLetters(List<PendingChatMessage> messages, String reason) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp failedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> params = messages.stream()
+            .map(message -> new Object[]{
+                message.getChatRoomId(),
+                message.getSenderId(),
+                message.getContent(),
+                Timestamp.valueOf(message.getCreatedAt()),
+                reason,
+                failedAt
+            })
+            .toList();
+
+        int[] updated = jdbcTemplate.batchUpdate(
+            "INSERT INTO chat_message_dead_letter (chat_room_id, member_id, content, created_at, reason, failed_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", params);
+        return updated.length;
+    }
 }
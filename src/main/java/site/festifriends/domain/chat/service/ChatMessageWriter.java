@@ -0,0 +1,263 @@
+package site.festifriends.domain.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+import site.festifriends.domain.chat.dto.PendingChatMessage;
+import site.festifriends.domain.chat.repository.ChatMessageRepository;
+
+/**
+ * 채팅 메시지 지연 저장(write-behind)
+ * 메시지는 큐에 넣은 뒤 구독자에게 전송되고, 큐에 쌓인 메시지를 단일 스레드가 모아서 multi-row insert로 저장한다.
+ * 단일 스레드가 FIFO 큐를 비우므로 저장 순서는 수신 순서와 같다.
+ * 재시도 후에도 저장에 실패한 배치는 chat_message_dead_letter 에 보관하고, 그마저 실패하면(DB 장애, 테이블 없음)
+ * maxStoreAttempts 까지 배치를 붙잡고 재시도한다. 그동안 큐가 차면 enqueue 가 거절되어 전송 전에 실패한다.
+ * 한도를 넘기면 뒤에 쌓인 메시지가 계속 밀리지 않도록 배치 내용을 로그로 남기고 버린다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5000;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int flushSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final int maxStoreAttempts;
+
+    private BlockingQueue<PendingChatMessage> queue;
+    private Thread flusher;
+    private volatile boolean running;
+    private volatile long shutdownDeadline;
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    public ChatMessageWriter(
+        ChatMessageRepository chatMessageRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${chat.write-behind.enabled:false}") boolean enabled,
+        @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+        @Value("${chat.write-behind.flush-size:200}") int flushSize,
+        @Value("${chat.write-behind.flush-interval-ms:100}") long flushIntervalMillis,
+        @Value("${chat.write-behind.offer-timeout-ms:50}") long offerTimeoutMillis,
+        @Value("${chat.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+        @Value("${chat.write-behind.max-store-attempts:10}") int maxStoreAttempts
+    ) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+        this.flushSize = flushSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.maxStoreAttempts = maxStoreAttempts;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+
+        flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+
+        log.info("채팅 메시지 지연 저장을 시작합니다. flushSize={}, flushIntervalMs={}", flushSize, flushIntervalMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 큐가 가득 차면 offerTimeout 만큼 대기하고, 그래도 자리가 없으면 요청을 거절한다.
+     * 호출 스레드에서 직접 저장하면 이미 큐에 있는 메시지보다 먼저 저장되어 순서가 깨지므로 거절로 역압을 건다.
+     * 종료가 시작된 뒤에는 큐를 비우는 중이므로 받지 않는다. 읽기 잠금으로 종료와 겹친 offer 가 drain 뒤에 들어가지 않게 한다.
+     */
+    public void enqueue(PendingChatMessage message) {
+        acceptLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (queue.offer(message, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+
+        log.warn("채팅 메시지 저장 큐가 가득 찼습니다. chatRoomId={}, senderId={}",
+            message.getChatRoomId(), message.getSenderId());
+        throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "채팅 메시지가 많아 잠시 후 다시 시도해주세요.");
+    }
+
+    public int getPendingCount() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        acceptLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            shutdownDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+
+        try {
+            flusher.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingChatMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += flushSize) {
+            store(remaining.subList(from, Math.min(from + flushSize, remaining.size())));
+        }
+
+        log.info("채팅 메시지 지연 저장을 종료합니다.");
+    }
+
+    private void runFlushLoop() {
+        List<PendingChatMessage> batch = new ArrayList<>(flushSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingChatMessage first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                fillBatch(batch);
+                store(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("채팅 메시지 저장 스레드에서 오류가 발생했습니다.", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 메시지를 받은 뒤 flushInterval 동안 flushSize 까지 메시지를 모은다.
+     */
+    private void fillBatch(List<PendingChatMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        while (batch.size() < flushSize) {
+            queue.drainTo(batch, flushSize - batch.size());
+            if (batch.size() >= flushSize || !running) {
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            PendingChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 저장하거나 dead letter 로 보관할 때까지 maxStoreAttempts 번 재시도한다. 종료 중에는 shutdownTimeout 까지만 시도한다.
+     */
+    private void store(List<PendingChatMessage> batch) {
+        long backoffMillis = 100;
+        for (int attempt = 1; !tryStore(batch); attempt++) {
+            if (attempt >= maxStoreAttempts) {
+                drop(batch, "저장 시도 " + attempt + "회를 모두 실패했습니다.");
+                return;
+            }
+            if (!running && System.nanoTime() - shutdownDeadline >= 0) {
+                drop(batch, "종료 제한 시간 안에 저장하지 못했습니다.");
+                return;
+            }
+            sleep(backoffMillis);
+            backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+        }
+    }
+
+    private boolean tryStore(List<PendingChatMessage> batch) {
+        Exception failure = null;
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> chatMessageRepository.insertAll(batch));
+                return true;
+            } catch (Exception e) {
+                failure = e;
+                log.warn("채팅 메시지 저장 재시도 {}/{}: {}", attempt, MAX_FLUSH_ATTEMPTS, e.getMessage());
+                if (attempt < MAX_FLUSH_ATTEMPTS) {
+                    sleep(100L * attempt);
+                }
+            }
+        }
+
+        String reason = String.valueOf(failure.getMessage());
+        try {
+            transactionTemplate.executeWithoutResult(status -> chatMessageRepository.insertDeadLetters(batch,
+                reason.substring(0, Math.min(reason.length(), 500))));
+            log.error("채팅 메시지 {}건을 저장하지 못해 chat_message_dead_letter 에 보관했습니다.", batch.size(), failure);
+            return true;
+        } catch (Exception e) {
+            log.error("채팅 메시지 {}건의 저장과 보관에 모두 실패해 다시 시도합니다.", batch.size(), e);
+            return false;
+        }
+    }
+
+    private void drop(List<PendingChatMessage> batch, String reason) {
+        log.error("채팅 메시지 {}건을 버립니다. {} chatRoomIds={}", batch.size(), reason,
+            batch.stream().map(PendingChatMessage::getChatRoomId).distinct().toList());
+        for (PendingChatMessage message : batch) {
+            log.error("버려진 채팅 메시지 chatRoomId={}, senderId={}, createdAt={}, content={}",
+                message.getChatRoomId(), message.getSenderId(), message.getCreatedAt(), message.getContent());
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,32 +1,34 @@
 package site.festifriends.domain.chat.service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import site.festifriends.common.exception.BusinessException;
 import site.festifriends.common.exception.ErrorCode;
 import site.festifriends.common.response.CursorResponseWrapper;
+import site.festifriends.domain.chat.broker.ChatBroadcaster;
 import site.festifriends.domain.chat.dto.ChatMessageDto;
 import site.festifriends.domain.chat.dto.ChatMessageRequest;
 import site.festifriends.domain.chat.dto.ChatMessageResponse;
+import site.festifriends.domain.chat.dto.PendingChatMessage;
 import site.festifriends.domain.chat.repository.ChatMessageRepository;
 import site.festifriends.domain.chat.repository.ChatRoomRepository;
 import site.festifriends.domain.chat.repository.MemberChatRoomRepository;
-import site.festifriends.domain.image.dto.ImageDto;
-import site.festifriends.domain.member.repository.MemberImageRepository;
+import site.festifriends.domain.member.dto.SenderProfile;
 import site.festifriends.domain.member.service.MemberService;
+import site.festifriends.domain.member.service.SenderProfileCache;
 import site.festifriends.entity.ChatMessage;
 import site.festifriends.entity.ChatRoom;
 import site.festifriends.entity.Group;
 import site.festifriends.entity.Member;
 import site.festifriends.entity.MemberChatRoom;
-import site.festifriends.entity.MemberImage;
 
 @Service
 @RequiredArgsConstructor
@@ -36,8 +38,9 @@ public class ChatService {
     private final MemberChatRoomRepository memberChatRoomRepository;
     private final MemberService memberService;
     private final ChatMessageRepository chatMessageRepository;
-    private final SimpMessagingTemplate simpMessagingTemplate;
-    private final MemberImageRepository memberImageRepository;
+    private final ChatBroadcaster chatBroadcaster;
+    private final SenderProfileCache senderProfileCache;
+    private final ChatMessageWriter chatMessageWriter;
 
     private static final String CHAT_ROOM_PREFIX = "/sub/chat/";
 
@@ -78,42 +81,79 @@ public class ChatService {
 
     @Transactional
     public ChatMessageResponse sendToChatRoom(String chatRoomId, ChatMessageRequest message) {
+        if (chatMessageWriter.isEnabled()) {
+            return sendToChatRoomWriteBehind(chatRoomId, message);
+        }
+
         ChatRoom chatRoom = chatRoomRepository.findById(Long.parseLong(chatRoomId))
             .orElseThrow(() -> new BusinessException(ErrorCode.BAD_REQUEST, "해당하는 채팅방이 없습니다."));
 
-        Member member = memberService.getMemberById(message.getSenderId());
+        SenderProfile sender = getSenderProfile(message.getSenderId());
 
         ChatMessage newMessage = ChatMessage.builder()
             .chatRoom(chatRoom)
-            .member(member)
+            .member(memberService.getMemberReference(sender.getMemberId()))
             .content(message.getContent())
             .build();
 
         chatMessageRepository.save(newMessage);
 
-        MemberImage senderImage = memberImageRepository.findByMemberId(member.getId()).orElse(null);
-
-        ImageDto senderImageDto = senderImage != null ?
-            ImageDto.builder()
-                .id(senderImage.getId().toString())
-                .src(senderImage.getSrc())
-                .alt(senderImage.getAlt())
-                .build() : null;
-
         ChatMessageResponse chatMessageResponse = ChatMessageResponse.builder()
             .chatId(newMessage.getId())
-            .senderId(member.getId())
-            .senderName(member.getNickname())
-            .senderImage(senderImageDto)
+            .senderId(sender.getMemberId())
+            .senderName(sender.getNickname())
+            .senderImage(sender.getImage())
             .content(message.getContent())
             .createdAt(newMessage.getCreatedAt())
             .build();
 
-        simpMessagingTemplate.convertAndSend(CHAT_ROOM_PREFIX + chatRoomId, chatMessageResponse);
+        chatBroadcaster.broadcast(CHAT_ROOM_PREFIX + chatRoomId, chatMessageResponse);
+
+        return chatMessageResponse;
+    }
+
+    /**
+     * 저장 큐에 넣은 뒤 구독자에게 전송하고, 저장은 ChatMessageWriter에 맡긴다.
+     * 큐가 가득 찼거나 종료 중이면 enqueue 가 거절되어 전송하지 않는다.
+     * chatId는 저장 시점에 발급되므로 응답에는 포함되지 않는다.
+     */
+    private ChatMessageResponse sendToChatRoomWriteBehind(String chatRoomId, ChatMessageRequest message) {
+        Long roomId = Long.parseLong(chatRoomId);
+        if (!chatRoomRepository.existsById(roomId)) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당하는 채팅방이 없습니다.");
+        }
+
+        SenderProfile sender = getSenderProfile(message.getSenderId());
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        chatMessageWriter.enqueue(PendingChatMessage.builder()
+            .chatRoomId(roomId)
+            .senderId(sender.getMemberId())
+            .content(message.getContent())
+            .createdAt(createdAt)
+            .build());
+
+        ChatMessageResponse chatMessageResponse = ChatMessageResponse.builder()
+            .senderId(sender.getMemberId())
+            .senderName(sender.getNickname())
+            .senderImage(sender.getImage())
+            .content(message.getContent())
+            .createdAt(createdAt)
+            .build();
+
+        chatBroadcaster.broadcast(CHAT_ROOM_PREFIX + chatRoomId, chatMessageResponse);
 
         return chatMessageResponse;
     }
 
+    private SenderProfile getSenderProfile(Long memberId) {
+        SenderProfile sender = senderProfileCache.get(memberId);
+        if (sender == null) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "존재하지 않는 회원입니다.");
+        }
+        return sender;
+    }
+
     @Transactional(readOnly = true)
     public CursorResponseWrapper<ChatMessageResponse> getChatMessages(Long chatRoomId, Long cursorId, int size) {
         if (!chatRoomRepository.existsById(chatRoomId)) {
@@ -132,14 +172,21 @@ public class ChatService {
             );
         }
 
+        Map<Long, SenderProfile> senders = senderProfileCache.getAll(slice.getContent().stream()
+            .map(ChatMessageDto::getSenderId)
+            .distinct()
+            .toList());
+
         List<ChatMessageResponse> response = new ArrayList<>();
 
         for (ChatMessageDto chatMessage : slice.getContent()) {
+            SenderProfile sender = senders.get(chatMessage.getSenderId());
+
             response.add(ChatMessageResponse.builder()
                 .chatId(chatMessage.getChatId())
                 .senderId(chatMessage.getSenderId())
-                .senderName(chatMessage.getSenderName())
-                .senderImage(chatMessage.getSenderImage())
+                .senderName(sender != null ? sender.getNickname() : null)
+                .senderImage(sender != null ? sender.getImage() : null)
                 .content(chatMessage.getContent())
                 .createdAt(chatMessage.getCreatedAt())
                 .build());
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,8 +29,9 @@ import site.festifriends.domain.group.dto.PerformanceGroupsData;
 import site.festifriends.domain.group.dto.UpdateMemberRoleRequest;
 import site.festifriends.domain.group.repository.GroupRepository;
 import site.festifriends.domain.member.repository.MemberRepository;
-import site.festifriends.domain.notifications.dto.NotificationEvent;
-import site.festifriends.domain.notifications.service.NotificationService;
+import site.festifriends.domain.notifications.NotificationSender;
+import site.festifriends.domain.performance.leaderboard.LeaderboardType;
+import site.festifriends.domain.performance.leaderboard.PerformanceCountChangedEvent;
 import site.festifriends.domain.performance.repository.PerformanceRepository;
 import site.festifriends.domain.review.repository.ReviewRepository;
 import site.festifriends.entity.ChatRoom;
@@ -53,8 +55,9 @@ public class GroupService {
     private final PerformanceRepository performanceRepository;
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
-    private final NotificationService notificationService;
+    private final NotificationSender notificationSender;
     private final ChatService chatService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
 
@@ -93,6 +96,8 @@ public class GroupService {
         }
 
         Group savedGroup = groupRepository.save(group);
+        performanceRepository.increaseGroupCount(performanceId);
+        eventPublisher.publishEvent(new PerformanceCountChangedEvent(performanceId, LeaderboardType.GROUP));
 
         MemberGroup hostMemberGroup = MemberGroup.builder()
             .member(member)
@@ -447,19 +452,14 @@ public class GroupService {
             currentHost.changeRole(Role.MEMBER);
             targetMemberGroup.changeRole(Role.HOST);
 
-            NotificationEvent event = notificationService.createNotification(
-                targetMemberGroup.getMember(),
+            notificationSender.send(
+                targetMemberId,
                 NotificationType.GROUP,
                 group.getTitle(),
                 groupId,
                 null
             );
 
-            notificationService.sendNotification(
-                targetMemberId,
-                event
-            );
-
         } else if (newRole == Role.MEMBER) {
             if (targetMemberGroup.getRole() == Role.HOST) {
                 throw new BusinessException(ErrorCode.BAD_REQUEST, "호스트는 다른 사람을 호스트로 지정한 후에만 권한을 변경할 수 있습니다.");
@@ -501,7 +501,7 @@ public class GroupService {
                 chatService.deleteChatRoom(chatRoom);
 
                 // 모임 삭제 (soft delete)
-                group.delete();
+                deleteGroup(group);
                 return;
             }
         }
@@ -514,7 +514,16 @@ public class GroupService {
         // 탈퇴 후 모임에 아무도 없으면 모임 삭제 (이론적으로는 위에서 처리되지만 안전장치)
         int remainingMemberCount = applicationRepository.countGroupMembers(groupId);
         if (remainingMemberCount == 0) {
-            group.delete();
+            deleteGroup(group);
+        }
+    }
+
+    private void deleteGroup(Group group) {
+        group.delete();
+        if (group.getPerformance() != null) {
+            performanceRepository.decreaseGroupCount(group.getPerformance().getId());
+            eventPublisher.publishEvent(
+                new PerformanceCountChangedEvent(group.getPerformance().getId(), LeaderboardType.GROUP));
         }
     }
 
@@ -542,19 +551,14 @@ public class GroupService {
             throw new BusinessException(ErrorCode.BAD_REQUEST, "호스트는 퇴출시킬 수 없습니다.");
         }
 
-        NotificationEvent event = notificationService.createNotification(
-            targetMemberGroup.getMember(),
+        notificationSender.send(
+            targetMemberId,
             NotificationType.BANNED,
             group.getTitle(),
             null,
             null
         );
 
-        notificationService.sendNotification(
-            targetMemberId,
-            event
-        );
-
         chatService.leaveChatRoom(targetMemberGroup.getMember(), group);
 
         // 멤버 퇴출 (hard delete)
@@ -0,0 +1,14 @@
+package site.festifriends.domain.member.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import site.festifriends.domain.image.dto.ImageDto;
+
+@Getter
+@Builder
+public class SenderProfile {
+
+    private Long memberId;
+    private String nickname;
+    private ImageDto image;
+}
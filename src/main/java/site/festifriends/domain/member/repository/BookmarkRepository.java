@@ -1,15 +1,21 @@
 package site.festifriends.domain.member.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.festifriends.entity.Bookmark;
 import site.festifriends.entity.enums.BookmarkType;
 
-public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, BookmarkRepositoryCustom {
+public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     Optional<Bookmark> findByMemberIdAndTypeAndTargetId(Long memberId, BookmarkType type, Long targetId);
 
     boolean existsByMemberIdAndTypeAndTargetId(Long memberId, BookmarkType type, Long targetId);
 
-    void deleteByMemberIdAndTypeAndTargetId(Long memberId, BookmarkType type, Long targetId);
+    long deleteByMemberIdAndTypeAndTargetId(Long memberId, BookmarkType type, Long targetId);
+
+    @Query("SELECT b.type, b.targetId FROM Bookmark b WHERE b.member.id = :memberId")
+    List<Object[]> findTypeAndTargetIdsByMemberId(@Param("memberId") Long memberId);
 }
@@ -1,5 +1,7 @@
 package site.festifriends.domain.member.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import site.festifriends.entity.MemberImage;
@@ -7,4 +9,6 @@ import site.festifriends.entity.MemberImage;
 public interface MemberImageRepository extends JpaRepository<MemberImage, Long> {
 
     Optional<MemberImage> findByMemberId(Long memberId);
+
+    List<MemberImage> findAllByMemberIdIn(Collection<? extends Long> memberIds);
 }
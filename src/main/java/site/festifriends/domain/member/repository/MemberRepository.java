@@ -1,9 +1,11 @@
 package site.festifriends.domain.member.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.festifriends.entity.Member;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
@@ -15,5 +17,11 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     void deleteMember(Member member);
 
     boolean existsByNickname(String nickname);
+
+    /**
+     * 인증에 필요한 역할, 정지 일시, 탈퇴 일시만 조회한다.
+     */
+    @Query("SELECT m.memberRole, m.suspendedAt, m.deleted FROM Member m WHERE m.id = :memberId")
+    List<Object[]> findAuthStateById(@Param("memberId") Long memberId);
     
 }
@@ -201,17 +201,11 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
     @Override
     public Object[] getMemberExtraData(Long targetId, Long memberId) {
         if (memberId == null) {
-            return new Object[]{0, 0, 0};
+            return new Object[]{0, 0};
         }
 
         String sql = """
             SELECT
-            CASE WHEN EXISTS (
-                SELECT 1 FROM bookmark b
-                WHERE b.member_id = :memberId
-                AND b.target_id = :targetId
-                AND b.type = 'MEMBER'
-            ) THEN 1 ELSE 0 END as isLiked,
             CASE WHEN EXISTS (
                 SELECT 1 FROM report r
                 WHERE r.member_id = :memberId
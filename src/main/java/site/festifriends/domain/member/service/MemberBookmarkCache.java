@@ -0,0 +1,185 @@
+package site.festifriends.domain.member.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.festifriends.domain.member.repository.BookmarkRepository;
+import site.festifriends.entity.enums.BookmarkType;
+
+/**
+ * 회원별 찜(북마크) 대상 ID 집합
+ * 목록/상세 응답의 isLiked 를 요청마다 북마크 테이블에서 조회하지 않도록, 처음 조회할 때 회원의 북마크를 한 번에 적재한다.
+ * 타입별로 정렬된 long 배열을 두고 이진 탐색으로 확인하며, 찜/찜 취소 시 커밋 이후 새 배열로 교체한다.
+ * 최근에 사용한 회원만 maximumSize 까지 유지한다.
+ * 다른 서버에서 일어난 찜 변경은 이 서버에 전달되지 않으므로, 적재 후 ttl 이 지나면 사용 중인 회원도 다시 적재한다.
+ * 이 서버의 찜/찜 취소 반영은 만료 시간을 늘리지 않는다.
+ */
+@Component
+public class MemberBookmarkCache {
+
+    private static final String CACHE_NAME = "memberBookmark";
+
+    private final BookmarkRepository bookmarkRepository;
+    private final LoadingCache<Long, MemberBookmarks> cache;
+
+    public MemberBookmarkCache(
+        BookmarkRepository bookmarkRepository,
+        MeterRegistry meterRegistry,
+        @Value("${cache.member-bookmark.maximum-size:50000}") long maximumSize,
+        @Value("${cache.member-bookmark.ttl-minutes:10}") long ttlMinutes
+    ) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(expireAfterLoad(Duration.ofMinutes(ttlMinutes)))
+            .recordStats()
+            .build(this::load);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isBookmarked(Long memberId, BookmarkType type, Long targetId) {
+        if (memberId == null || targetId == null) {
+            return false;
+        }
+        return cache.get(memberId).contains(type, targetId);
+    }
+
+    /**
+     * 로그인하지 않은 경우 모든 대상에 대해 false
+     */
+    public Map<Long, Boolean> isBookmarked(Long memberId, BookmarkType type, Collection<Long> targetIds) {
+        Map<Long, Boolean> result = new HashMap<>();
+        MemberBookmarks bookmarks = memberId != null ? cache.get(memberId) : null;
+
+        for (Long targetId : targetIds) {
+            result.put(targetId, bookmarks != null && bookmarks.contains(type, targetId));
+        }
+        return result;
+    }
+
+    public void bookmarked(Long memberId, BookmarkType type, Long targetId) {
+        afterCommit(() -> cache.asMap().computeIfPresent(memberId,
+            (key, bookmarks) -> bookmarks.with(type, targetId)));
+    }
+
+    public void unbookmarked(Long memberId, BookmarkType type, Long targetId) {
+        afterCommit(() -> cache.asMap().computeIfPresent(memberId,
+            (key, bookmarks) -> bookmarks.without(type, targetId)));
+    }
+
+    /**
+     * 적재 중인 회원이면 적재가 끝난 뒤에 반영된다. 추가/삭제는 여러 번 반영해도 결과가 같다.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Expiry<Long, MemberBookmarks> expireAfterLoad(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long key, MemberBookmarks value, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Long key, MemberBookmarks value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Long key, MemberBookmarks value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private MemberBookmarks load(Long memberId) {
+        Map<BookmarkType, List<Long>> targetIds = new EnumMap<>(BookmarkType.class);
+        for (Object[] row : bookmarkRepository.findTypeAndTargetIdsByMemberId(memberId)) {
+            targetIds.computeIfAbsent((BookmarkType) row[0], type -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        Map<BookmarkType, long[]> sets = new EnumMap<>(BookmarkType.class);
+        targetIds.forEach((type, ids) -> sets.put(type,
+            ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray()));
+        return new MemberBookmarks(sets);
+    }
+
+    /**
+     * 불변 객체: 변경하면 새 객체를 만든다.
+     */
+    private static class MemberBookmarks {
+
+        private static final long[] EMPTY = new long[0];
+
+        private final Map<BookmarkType, long[]> targetIds;
+
+        private MemberBookmarks(Map<BookmarkType, long[]> targetIds) {
+            this.targetIds = targetIds;
+        }
+
+        private boolean contains(BookmarkType type, long targetId) {
+            return Arrays.binarySearch(targetIds.getOrDefault(type, EMPTY), targetId) >= 0;
+        }
+
+        private MemberBookmarks with(BookmarkType type, long targetId) {
+            long[] current = targetIds.getOrDefault(type, EMPTY);
+            int index = Arrays.binarySearch(current, targetId);
+            if (index >= 0) {
+                return this;
+            }
+
+            int insertAt = -index - 1;
+            long[] next = new long[current.length + 1];
+            System.arraycopy(current, 0, next, 0, insertAt);
+            next[insertAt] = targetId;
+            System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+            return replace(type, next);
+        }
+
+        private MemberBookmarks without(BookmarkType type, long targetId) {
+            long[] current = targetIds.getOrDefault(type, EMPTY);
+            int index = Arrays.binarySearch(current, targetId);
+            if (index < 0) {
+                return this;
+            }
+
+            long[] next = new long[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            return replace(type, next);
+        }
+
+        private MemberBookmarks replace(BookmarkType type, long[] ids) {
+            Map<BookmarkType, long[]> next = new EnumMap<>(BookmarkType.class);
+            next.putAll(targetIds);
+            next.put(type, ids);
+            return new MemberBookmarks(next);
+        }
+    }
+}
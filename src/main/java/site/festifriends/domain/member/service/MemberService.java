@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -15,9 +16,10 @@ import site.festifriends.common.exception.BusinessException;
 import site.festifriends.common.exception.ErrorCode;
 import site.festifriends.common.jwt.TokenResolver;
 import site.festifriends.common.response.CursorResponseWrapper;
-import site.festifriends.domain.auth.KakaoOAuthProvider;
 import site.festifriends.domain.auth.KakaoUserInfo;
 import site.festifriends.domain.auth.service.BlackListTokenService;
+import site.festifriends.domain.auth.service.KakaoUnlinkQueue;
+import site.festifriends.domain.auth.service.MemberAuthStateCache;
 import site.festifriends.domain.chat.repository.MemberChatRoomRepository;
 import site.festifriends.domain.comment.repository.CommentRepository;
 import site.festifriends.domain.member.dto.LikedMemberDto;
@@ -34,6 +36,7 @@ import site.festifriends.entity.Bookmark;
 import site.festifriends.entity.Member;
 import site.festifriends.entity.MemberGroup;
 import site.festifriends.entity.MemberImage;
+import site.festifriends.entity.Performance;
 import site.festifriends.entity.enums.BookmarkType;
 import site.festifriends.entity.enums.Gender;
 import site.festifriends.entity.enums.MemberRole;
@@ -48,12 +51,15 @@ public class MemberService {
     private final PerformanceRepository performanceRepository;
     private final BookmarkRepository bookmarkRepository;
     private final MemberImageRepository memberImageRepository;
-    private final KakaoOAuthProvider kakaoOAuthProvider;
+    private final KakaoUnlinkQueue kakaoUnlinkQueue;
 
     private static final String DEFAULT_PROFILE_IMAGE_URL = "http://img1.kakaocdn.net/thumb/R640x640.q70/?fname=http://t1.kakaocdn.net/account_images/default_profile.jpeg";
     private final MemberChatRoomRepository memberChatRoomRepository;
     private final MemberGroupRepository memberGroupRepository;
     private final CommentRepository commentRepository;
+    private final SenderProfileCache senderProfileCache;
+    private final MemberBookmarkCache memberBookmarkCache;
+    private final MemberAuthStateCache memberAuthStateCache;
 
     @Transactional
     public Member loginOrSignUp(KakaoUserInfo userInfo) {
@@ -105,10 +111,6 @@ public class MemberService {
     public void deleteMember(Long memberId, HttpServletRequest request) {
         Member member = getMemberById(memberId);
 
-        if (!kakaoOAuthProvider.unlinkKakaoAccount(member.getSocialId())) {
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "카카오 계정 연결 해제에 실패했습니다.");
-        }
-
         List<MemberGroup> memberGroups = memberGroupRepository.findAllByMember(member);
 
         for (MemberGroup memberGroup : memberGroups) {
@@ -120,8 +122,13 @@ public class MemberService {
 
         memberChatRoomRepository.deleteAllByMember(member);
 
+        // 카카오 호출은 탈퇴가 커밋된 뒤 백그라운드에서 재시도하며 처리한다 (withdrawal 이 socialId 를 바꾸기 전에 등록)
+        kakaoUnlinkQueue.enqueue(member.getSocialId());
+
         member.withdrawal();
         memberRepository.deleteMember(member);
+        senderProfileCache.evict(memberId);
+        memberAuthStateCache.evict(memberId);
 
         String accessToken = TokenResolver.extractAccessToken(request);
         String refreshToken = TokenResolver.extractRefreshToken(request);
@@ -187,12 +194,14 @@ public class MemberService {
             .map(LikedPerformanceDto::getId)
             .collect(Collectors.toList());
 
-        Map<Long, Integer> groupCounts = performanceRepository.getGroupCountsByPerformanceIds(performanceIds);
-        Map<Long, Integer> favoriteCounts = bookmarkRepository.getCountByPerformanceIds(performanceIds);
+        // 모임 수/찜 수는 공연의 집계 컬럼에서 읽는다
+        Map<Long, Performance> performances = performanceRepository.findAllById(performanceIds).stream()
+            .collect(Collectors.toMap(Performance::getId, Function.identity()));
 
         List<LikedPerformanceResponse> response = new ArrayList<>();
 
         for (LikedPerformanceDto likedPerformance : slice.getContent()) {
+            Performance performance = performances.get(likedPerformance.getId());
             response.add(new LikedPerformanceResponse(
                 likedPerformance.getId(),
                 likedPerformance.getTitle(),
@@ -213,8 +222,8 @@ public class MemberService {
                 likedPerformance.getVisit(),
                 likedPerformance.getImages(),
                 likedPerformance.getTime(),
-                groupCounts.getOrDefault(likedPerformance.getId(), 0),
-                favoriteCounts.getOrDefault(likedPerformance.getId(), 0),
+                performance != null ? performance.getGroupCount() : 0,
+                performance != null ? performance.getFavoriteCount() : 0,
                 true
             ));
         }
@@ -269,6 +278,7 @@ public class MemberService {
                 .targetId(targetId)
                 .build();
             bookmarkRepository.save(newBookmark);
+            memberBookmarkCache.bookmarked(memberId, BookmarkType.MEMBER, targetId);
 
             return new ToggleUserLikeResponse(
                 true,
@@ -278,6 +288,7 @@ public class MemberService {
 
         if (alreadyLiked && !like) {
             bookmarkRepository.delete(bookmark);
+            memberBookmarkCache.unbookmarked(memberId, BookmarkType.MEMBER, targetId);
 
             return new ToggleUserLikeResponse(
                 false,
@@ -293,6 +304,13 @@ public class MemberService {
             .orElseThrow(() -> new BusinessException(ErrorCode.BAD_REQUEST, "존재하지 않는 회원입니다."));
     }
 
+    /**
+     * 존재 여부를 이미 확인한 회원을 연관관계로만 참조할 때 사용한다.
+     */
+    public Member getMemberReference(Long memberId) {
+        return memberRepository.getReferenceById(memberId);
+    }
+
     public boolean checkNicknameDuplication(String nickname) {
         return !memberRepository.existsByNickname(nickname);
     }
@@ -19,6 +19,7 @@ import site.festifriends.domain.member.dto.UpdateProfileRequest;
 import site.festifriends.domain.member.repository.MemberRepository;
 import site.festifriends.domain.review.dto.ReviewSummaryDto;
 import site.festifriends.domain.review.repository.ReviewRepository;
+import site.festifriends.entity.enums.BookmarkType;
 import site.festifriends.entity.enums.ReviewTag;
 
 @Service
@@ -31,6 +32,8 @@ public class ProfileService {
     private final MemberService memberService;
     private final MemberImageService memberImageService;
     private final ApplicationRepository applicationRepository;
+    private final SenderProfileCache senderProfileCache;
+    private final MemberBookmarkCache memberBookmarkCache;
 
     @Transactional(readOnly = true)
     public GetProfileResponse getMemberProfile(Long targetId, Long memberId) {
@@ -79,9 +82,9 @@ public class ProfileService {
                     .map(tag -> "#" + tag)
                     .collect(Collectors.toList()))
             .sns((String) memberData[7])
-            .isLiked(((Number) extraData[0]).intValue() == 1)
-            .isReported(((Number) extraData[1]).intValue() == 1)
-            .isMine(((Number) extraData[2]).intValue() == 1)
+            .isLiked(memberBookmarkCache.isBookmarked(memberId, BookmarkType.MEMBER, targetId))
+            .isReported(((Number) extraData[0]).intValue() == 1)
+            .isMine(((Number) extraData[1]).intValue() == 1)
             .groupSummary(groupDto)
             .reviewSummary(reviewSummaryDto)
             .rating(reviewData != null && reviewData[0] != null ? ((Number) reviewData[0]).doubleValue() : 0.0)
@@ -134,9 +137,9 @@ public class ProfileService {
                     .map(tag -> "#" + tag)
                     .collect(Collectors.toList()))
             .sns((String) memberData[7])
-            .isLiked(((Number) extraData[0]).intValue() == 1)
-            .isReported(((Number) extraData[1]).intValue() == 1)
-            .isMine(((Number) extraData[2]).intValue() == 1)
+            .isLiked(memberBookmarkCache.isBookmarked(memberId, BookmarkType.MEMBER, memberId))
+            .isReported(((Number) extraData[0]).intValue() == 1)
+            .isMine(((Number) extraData[1]).intValue() == 1)
             .groupSummary(groupDto)
             .reviewSummary(reviewSummaryDto)
             .rating(reviewData != null && reviewData[0] != null ? ((Number) reviewData[0]).doubleValue() : 0.0)
@@ -152,6 +155,8 @@ public class ProfileService {
             request.getProfileImage().getSrc(), request.getHashtag(), request.getSns());
 
         memberImageService.updateProfileImage(memberId, request.getProfileImage());
+
+        senderProfileCache.evict(memberId);
     }
 
     private ImageDto parseImage(String value) {
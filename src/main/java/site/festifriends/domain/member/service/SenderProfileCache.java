@@ -0,0 +1,120 @@
+package site.festifriends.domain.member.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.festifriends.domain.image.dto.ImageDto;
+import site.festifriends.domain.member.dto.SenderProfile;
+import site.festifriends.domain.member.repository.MemberImageRepository;
+import site.festifriends.domain.member.repository.MemberRepository;
+import site.festifriends.entity.Member;
+import site.festifriends.entity.MemberImage;
+
+/**
+ * 채팅 발신자 프로필(닉네임, 프로필 이미지) 캐시
+ * 메시지마다 회원과 회원 이미지를 조회하지 않도록 회원 ID 기준으로 캐싱한다.
+ * 프로필이 바뀌면 evict로 즉시 무효화하고, 누락된 무효화는 TTL로 정리된다.
+ */
+@Component
+public class SenderProfileCache {
+
+    private static final String CACHE_NAME = "senderProfile";
+
+    private final MemberRepository memberRepository;
+    private final MemberImageRepository memberImageRepository;
+    private final LoadingCache<Long, SenderProfile> cache;
+
+    public SenderProfileCache(
+        MemberRepository memberRepository,
+        MemberImageRepository memberImageRepository,
+        MeterRegistry meterRegistry,
+        @Value("${cache.sender-profile.maximum-size:10000}") long maximumSize,
+        @Value("${cache.sender-profile.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.memberRepository = memberRepository;
+        this.memberImageRepository = memberImageRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build(new CacheLoader<>() {
+                @Override
+                public SenderProfile load(Long memberId) {
+                    return loadProfiles(Set.of(memberId)).get(memberId);
+                }
+
+                @Override
+                public Map<Long, SenderProfile> loadAll(Set<? extends Long> memberIds) {
+                    return loadProfiles(memberIds);
+                }
+            });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 존재하지 않는 회원이면 null을 반환한다.
+     */
+    public SenderProfile get(Long memberId) {
+        return cache.get(memberId);
+    }
+
+    /**
+     * 캐시에 없는 회원은 한 번의 IN 조회로 함께 적재한다.
+     */
+    public Map<Long, SenderProfile> getAll(Collection<Long> memberIds) {
+        return cache.getAll(memberIds);
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안이라면 커밋 이후에 한 번 더 무효화한다.
+     * 커밋 전에 다른 스레드가 이전 값을 다시 적재하는 경우를 막기 위함이다.
+     */
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(memberId);
+                }
+            });
+        }
+    }
+
+    private Map<Long, SenderProfile> loadProfiles(Collection<? extends Long> memberIds) {
+        Map<Long, MemberImage> images = memberImageRepository.findAllByMemberIdIn(memberIds).stream()
+            .collect(Collectors.toMap(image -> image.getMember().getId(), Function.identity(), (a, b) -> a));
+
+        Map<Long, SenderProfile> profiles = new HashMap<>();
+        for (Member member : memberRepository.findAllById(Set.copyOf(memberIds))) {
+            MemberImage image = images.get(member.getId());
+
+            profiles.put(member.getId(), SenderProfile.builder()
+                .memberId(member.getId())
+                .nickname(member.getNickname())
+                .image(image != null ? ImageDto.builder()
+                    .id(image.getId().toString())
+                    .src(image.getSrc())
+                    .alt(image.getAlt())
+                    .build() : null)
+                .build());
+        }
+
+        return profiles;
+    }
+}
@@ -1,8 +1,246 @@
 package site.festifriends.domain.notifications;
 
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.festifriends.domain.notifications.dto.NotificationEvent;
+import site.festifriends.domain.notifications.dto.NotificationOutboxSavedEvent;
+import site.festifriends.domain.notifications.emitter.NotificationReplayBuffer;
+import site.festifriends.domain.notifications.emitter.SseEmitterRegistry;
+import site.festifriends.domain.notifications.emitter.SseMessage;
+import site.festifriends.domain.notifications.emitter.SsePayload;
+import site.festifriends.domain.notifications.emitter.SsePayloadEncoder;
+import site.festifriends.domain.notifications.repository.NotificationOutboxRepository;
+import site.festifriends.domain.notifications.repository.NotificationRepository;
+import site.festifriends.domain.notifications.service.UnreadNotificationCounter;
+import site.festifriends.entity.NotificationOutbox;
+import site.festifriends.entity.enums.NotificationType;
 
+/**
+ * 알림 아웃박스
+ * 비즈니스 트랜잭션에서는 알림 의도(outbox) 한 건만 저장하고,
+ * 커밋 이후 dispatcher 스레드가 알림 저장(multi-row insert)과 SSE 전송을 처리한다.
+ * - 롤백된 트랜잭션의 알림은 outbox 가 남지 않으므로 전송되지 않는다.
+ * - 처리 도중 실패하거나 서버가 내려가도 outbox 가 PENDING 으로 남아 주기적으로 다시 처리된다(at-least-once).
+ */
+@Slf4j
 @Component
 public class NotificationSender {
 
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final SsePayloadEncoder ssePayloadEncoder;
+    private final NotificationReplayBuffer notificationReplayBuffer;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("notification-dispatch-"));
+    private final AtomicBoolean dispatching = new AtomicBoolean(false);
+
+    public NotificationSender(
+        NotificationOutboxRepository notificationOutboxRepository,
+        NotificationRepository notificationRepository,
+        SseEmitterRegistry sseEmitterRegistry,
+        SsePayloadEncoder ssePayloadEncoder,
+        NotificationReplayBuffer notificationReplayBuffer,
+        UnreadNotificationCounter unreadNotificationCounter,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager,
+        @Value("${notification.outbox.batch-size:50}") int batchSize,
+        @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+        @Value("${notification.outbox.retry-backoff-ms:1000}") long retryBackoffMillis
+    ) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.sseEmitterRegistry = sseEmitterRegistry;
+        this.ssePayloadEncoder = ssePayloadEncoder;
+        this.notificationReplayBuffer = notificationReplayBuffer;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @Transactional
+    public void send(Long recipientId, NotificationType type, String s, Long targetId, Long subTargetId) {
+        sendAll(List.of(recipientId), type, s, targetId, subTargetId, null);
+    }
+
+    /**
+     * pushExcludedMemberId 는 알림은 저장하되 실시간 전송은 하지 않을 회원이다.
+     */
+    @Transactional
+    public void sendAll(List<Long> recipientIds, NotificationType type, String s, Long targetId, Long subTargetId,
+        Long pushExcludedMemberId) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+
+        NotificationOutbox outbox = notificationOutboxRepository.save(NotificationOutbox.builder()
+            .type(type)
+            .message(s + type.getDescription())
+            .targetId(targetId)
+            .subTargetId(subTargetId)
+            .recipientIds(recipientIds)
+            .pushExcludedMemberId(pushExcludedMemberId)
+            .build());
+
+        eventPublisher.publishEvent(new NotificationOutboxSavedEvent(outbox.getId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutboxSaved(NotificationOutboxSavedEvent event) {
+        requestDispatch();
+    }
+
+    /**
+     * 커밋 이후 신호를 놓친 outbox 와 재시도 대상 outbox 를 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        requestDispatch();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    private void requestDispatch() {
+        try {
+            dispatcher.execute(this::dispatchPending);
+        } catch (RejectedExecutionException e) {
+            log.warn("알림 dispatcher 가 종료되어 다음 기동 시 처리합니다.");
+        }
+    }
+
+    private void dispatchPending() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int processed;
+            do {
+                processed = dispatchBatch();
+            } while (processed == batchSize);
+        } catch (Exception e) {
+            log.error("알림 outbox 처리 중 오류가 발생했습니다.", e);
+        } finally {
+            dispatching.set(false);
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 batchSize 만큼의 outbox 를 처리하고, 커밋 이후 SSE 로 전송한다.
+     * 배치가 실패하면 문제 있는 행만 재시도되도록 한 건씩 다시 처리한다.
+     */
+    private int dispatchBatch() {
+        List<Long> ids = new ArrayList<>();
+        List<Dispatched> done;
+
+        try {
+            done = transactionTemplate.execute(status -> {
+                List<NotificationOutbox> outboxes = notificationOutboxRepository.findDispatchable(
+                    LocalDateTime.now(), batchSize);
+                outboxes.forEach(outbox -> ids.add(outbox.getId()));
+                return outboxes.stream()
+                    .map(this::store)
+                    .toList();
+            });
+        } catch (Exception e) {
+            log.warn("알림 outbox {}건 일괄 처리에 실패해 개별 처리합니다. reason={}", ids.size(), e.getMessage());
+            done = new ArrayList<>();
+            for (Long id : ids) {
+                Dispatched dispatched = dispatchOne(id);
+                if (dispatched != null) {
+                    done.add(dispatched);
+                }
+            }
+        }
+
+        done.forEach(this::push);
+        return ids.size();
+    }
+
+    /**
+     * 일괄 처리가 롤백되면 행 잠금도 풀리므로 다시 잠가 가져온다. 다른 인스턴스가 먼저 가져간 행은 건너뛴다.
+     */
+    private Dispatched dispatchOne(Long id) {
+        try {
+            return transactionTemplate.execute(status -> notificationOutboxRepository.claimPending(id)
+                .map(this::store)
+                .orElse(null));
+        } catch (Exception e) {
+            log.error("알림 outbox 처리에 실패했습니다. outboxId={}", id, e);
+            transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.claimPending(id)
+                .ifPresent(outbox -> outbox.markRetry(e.getMessage(), maxAttempts, retryBackoffMillis)));
+            return null;
+        }
+    }
+
+    private Dispatched store(NotificationOutbox outbox) {
+        List<Long> notificationIds = notificationRepository.insertAll(outbox.getRecipientIdList(), outbox.getType(),
+            outbox.getMessage(), outbox.getTargetId(), outbox.getSubTargetId());
+        outbox.markDone();
+        return new Dispatched(outbox, notificationIds);
+    }
+
+    /**
+     * 연결되어 있지 않은 회원도 재연결 시 받을 수 있도록 replay 버퍼에 남긴다.
+     * 이벤트는 한 번만 직렬화하고 모든 수신자가 같은 바이트 배열을 공유한다.
+     */
+    private void push(Dispatched dispatched) {
+        NotificationOutbox outbox = dispatched.getOutbox();
+        SsePayload event = ssePayloadEncoder.encode(NotificationEvent.builder()
+            .message(outbox.getMessage())
+            .createdAt(outbox.getCreatedAt())
+            .build());
+
+        List<Long> recipientIds = outbox.getRecipientIdList();
+        unreadNotificationCounter.invalidateAll(recipientIds);
+        for (int i = 0; i < recipientIds.size(); i++) {
+            Long recipientId = recipientIds.get(i);
+            if (recipientId.equals(outbox.getPushExcludedMemberId())) {
+                continue;
+            }
+
+            SseMessage message = new SseMessage(dispatched.getNotificationIds().get(i), "notification", event);
+            notificationReplayBuffer.append(recipientId, message);
+            sseEmitterRegistry.send(recipientId, message);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Dispatched {
+
+        private final NotificationOutbox outbox;
+        private final List<Long> notificationIds;
+    }
 }
@@ -1,10 +1,12 @@
 package site.festifriends.domain.notifications.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import site.festifriends.common.response.CursorResponseWrapper;
@@ -29,14 +31,16 @@ public interface NotificationApi {
 
     @Operation(
         summary = "알림 구독",
-        description = "알림을 실시간으로 구독합니다.",
+        description = "알림을 실시간으로 구독합니다. 재연결 시 Last-Event-ID 이후의 알림을 다시 전송합니다.",
         responses = {
             @ApiResponse(responseCode = "200", description = "알림 구독 성공"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
         }
     )
     ResponseEntity<SseEmitter> subscribe(
-        @AuthenticationPrincipal UserDetailsImpl userDetails
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Parameter(description = "마지막으로 받은 알림 ID")
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
     );
 
     @Operation(
@@ -91,7 +95,7 @@ public interface NotificationApi {
 
     @Operation(
         summary = "새로운 알림 조회",
-        description = "회원이 읽지 않은 새로운 알림이 있는지 조회합니다.",
+        description = "회원이 읽지 않은 새로운 알림이 있는지와 읽지 않은 알림 수를 조회합니다.",
         responses = {
             @ApiResponse(responseCode = "200", description = "알림 상태를 확인했습니다."),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -39,9 +40,10 @@ public class NotificationController implements NotificationApi {
     @Override
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public ResponseEntity<SseEmitter> subscribe(
-        @AuthenticationPrincipal UserDetailsImpl userDetails
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
     ) {
-        return ResponseEntity.ok(notificationService.subscribe(userDetails.getMemberId()));
+        return ResponseEntity.ok(notificationService.subscribe(userDetails.getMemberId(), lastEventId));
     }
 
     @Override
@@ -87,10 +89,11 @@ public class NotificationController implements NotificationApi {
     public ResponseEntity<?> existUnreadNotification(
         @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        boolean exists = notificationService.existUnreadNotification(userDetails.getMemberId());
+        long unreadCount = notificationService.getUnreadCount(userDetails.getMemberId());
 
         ExistUnreadNotificationResponse response = ExistUnreadNotificationResponse.builder()
-            .hasUnread(exists)
+            .hasUnread(unreadCount > 0)
+            .unreadCount(unreadCount)
             .build();
 
         return ResponseEntity.ok(ResponseWrapper.success(
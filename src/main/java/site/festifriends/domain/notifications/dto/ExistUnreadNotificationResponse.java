@@ -10,4 +10,7 @@ public class ExistUnreadNotificationResponse {
 
     @JsonProperty("hasUnread")
     private Boolean hasUnread;
+
+    @JsonProperty("unreadCount")
+    private Long unreadCount;
 }
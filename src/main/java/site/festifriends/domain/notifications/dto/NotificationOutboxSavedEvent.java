@@ -0,0 +1,11 @@
+package site.festifriends.domain.notifications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationOutboxSavedEvent {
+
+    private final Long outboxId;
+}
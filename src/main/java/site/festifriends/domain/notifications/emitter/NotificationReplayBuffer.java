@@ -0,0 +1,70 @@
+package site.festifriends.domain.notifications.emitter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 최근 알림 링 버퍼
+ * 재연결 시 Last-Event-ID 이후의 알림을 DB 조회 없이 다시 보내기 위해 사용한다.
+ * 버퍼가 Last-Event-ID 시점까지 거슬러 올라가지 못하면 DB에서 조회해야 한다.
+ * 이 인스턴스가 보낸 알림만 담기므로, 빠진 알림이 없는지는 호출하는 쪽에서 DB 알림 수와 비교해 확인한다.
+ */
+@Component
+public class NotificationReplayBuffer {
+
+    private final Cache<Long, Deque<SseMessage>> buffers;
+    private final int capacity;
+
+    public NotificationReplayBuffer(
+        @Value("${notification.sse.replay.capacity:50}") int capacity,
+        @Value("${notification.sse.replay.maximum-members:100000}") long maximumMembers,
+        @Value("${notification.sse.replay.ttl-minutes:60}") long ttlMinutes
+    ) {
+        this.capacity = capacity;
+        this.buffers = Caffeine.newBuilder()
+            .maximumSize(maximumMembers)
+            .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+            .build();
+    }
+
+    /**
+     * 알림 ID 오름차순으로 추가되어야 한다.
+     */
+    public void append(Long memberId, SseMessage message) {
+        Deque<SseMessage> buffer = buffers.get(memberId, id -> new ArrayDeque<>(capacity));
+
+        synchronized (buffer) {
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+            }
+            buffer.addLast(message);
+        }
+    }
+
+    /**
+     * 버퍼가 lastEventId 시점까지 거슬러 올라갈 때만 결과를 반환한다.
+     */
+    public Optional<List<SseMessage>> findAfter(Long memberId, long lastEventId) {
+        Deque<SseMessage> buffer = buffers.getIfPresent(memberId);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+
+        synchronized (buffer) {
+            if (buffer.isEmpty() || buffer.peekFirst().getId() > lastEventId) {
+                return Optional.empty();
+            }
+
+            return Optional.of(buffer.stream()
+                .filter(message -> message.getId() > lastEventId)
+                .toList());
+        }
+    }
+}
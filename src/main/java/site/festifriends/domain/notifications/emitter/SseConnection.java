@@ -0,0 +1,46 @@
+package site.festifriends.domain.notifications.emitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 회원의 SSE 연결 하나(기기 하나)
+ * 전송할 이벤트는 bounded 큐에 쌓이고, 한 번에 하나의 dispatcher 작업만 큐를 비운다.
+ */
+@Getter
+class SseConnection {
+
+    private final Long memberId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseMessage> queue;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    SseConnection(Long memberId, SseEmitter emitter, int queueCapacity) {
+        this.memberId = memberId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    boolean offer(SseMessage message) {
+        return queue.offer(message);
+    }
+
+    SseMessage poll() {
+        return queue.poll();
+    }
+
+    int pendingCount() {
+        return queue.size();
+    }
+
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+}
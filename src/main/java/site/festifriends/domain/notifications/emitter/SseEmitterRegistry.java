@@ -0,0 +1,268 @@
+package site.festifriends.domain.notifications.emitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import site.festifriends.common.thread.BlockingTaskExecutors;
+
+/**
+ * 회원별 SSE 연결 저장소
+ * - 회원 ID 기준으로 샤드를 나누고 샤드마다 별도 락을 사용한다.
+ * - 회원당 여러 기기의 연결을 유지하고, 한도를 넘으면 가장 오래된 연결을 닫는다.
+ * - 전송은 연결별 bounded 큐에 넣고 dispatcher 스레드가 비동기로 내보낸다.
+ *   큐가 가득 찬 느린 연결은 overflow-policy 에 따라 이벤트를 버리거나(DROP) 연결을 닫는다(CLOSE).
+ * - 데이터가 SsePayload 면 직렬화 없이 같은 바이트 배열을 그대로 내보낸다.
+ */
+@Slf4j
+@Component
+public class SseEmitterRegistry {
+
+    public enum OverflowPolicy {
+        DROP, CLOSE
+    }
+
+    private final Shard[] shards;
+    private final ExecutorService dispatcher;
+    private final long timeoutMillis;
+    private final int maxConnectionsPerMember;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Counter droppedCounter;
+    private final Counter slowClosedCounter;
+
+    public SseEmitterRegistry(
+        MeterRegistry meterRegistry,
+        BlockingTaskExecutors blockingTaskExecutors,
+        @Value("${notification.sse.shard-count:16}") int shardCount,
+        @Value("${notification.sse.timeout-ms:3600000}") long timeoutMillis,
+        @Value("${notification.sse.max-connections-per-member:5}") int maxConnectionsPerMember,
+        @Value("${notification.sse.queue-capacity:100}") int queueCapacity,
+        @Value("${notification.sse.dispatcher-threads:4}") int dispatcherThreads,
+        @Value("${notification.sse.overflow-policy:DROP}") OverflowPolicy overflowPolicy
+    ) {
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        // 가상 스레드 모드에서는 느린 클라이언트에 쓰는 동안에도 다른 연결의 전송이 dispatcherThreads 수에 묶이지 않는다
+        this.dispatcher = blockingTaskExecutors.newExecutor("sse-dispatch-", dispatcherThreads);
+        this.timeoutMillis = timeoutMillis;
+        this.maxConnectionsPerMember = maxConnectionsPerMember;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("notification.sse.connections", connectionCount, AtomicInteger::get)
+            .description("활성 SSE 연결 수")
+            .register(meterRegistry);
+        Gauge.builder("notification.sse.queue.depth", this, SseEmitterRegistry::getPendingCount)
+            .description("전송 대기 중인 SSE 이벤트 수")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.sse.dropped")
+            .description("큐가 가득 차 버려진 SSE 이벤트 수")
+            .register(meterRegistry);
+        this.slowClosedCounter = Counter.builder("notification.sse.slow.closed")
+            .description("큐가 가득 차 종료된 SSE 연결 수")
+            .register(meterRegistry);
+    }
+
+    public SseEmitter register(Long memberId) {
+        return register(memberId, List::of);
+    }
+
+    /**
+     * replay 는 연결을 등록한 뒤에 조회해야 그 사이에 발생한 알림을 놓치지 않는다.
+     * 새 연결에만 전송하며, 중복된 알림은 클라이언트가 id로 걸러낸다.
+     */
+    public SseEmitter register(Long memberId, Supplier<List<SseMessage>> replay) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        SseConnection connection = new SseConnection(memberId, emitter, queueCapacity);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        SseConnection evicted = null;
+        Shard shard = shardOf(memberId);
+        synchronized (shard) {
+            List<SseConnection> connections = shard.connections.computeIfAbsent(memberId, id -> new ArrayList<>());
+            if (connections.size() >= maxConnectionsPerMember) {
+                evicted = connections.remove(0);
+                connectionCount.decrementAndGet();
+            }
+            connections.add(connection);
+            connectionCount.incrementAndGet();
+        }
+
+        if (evicted != null) {
+            evicted.getEmitter().complete();
+        }
+
+        enqueue(connection, new SseMessage("connect", "연결이 성공되었습니다."));
+        replay.get().forEach(message -> enqueue(connection, message));
+
+        return emitter;
+    }
+
+    public void send(Long memberId, SseMessage message) {
+        for (SseConnection connection : connectionsOf(memberId)) {
+            enqueue(connection, message);
+        }
+    }
+
+    public void sendAll(SseMessage message) {
+        for (Shard shard : shards) {
+            List<SseConnection> snapshot = new ArrayList<>();
+            synchronized (shard) {
+                shard.connections.values().forEach(snapshot::addAll);
+            }
+            snapshot.forEach(connection -> enqueue(connection, message));
+        }
+    }
+
+    public boolean isConnected(Long memberId) {
+        Shard shard = shardOf(memberId);
+        synchronized (shard) {
+            return shard.connections.containsKey(memberId);
+        }
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public int getPendingCount() {
+        int pending = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                for (List<SseConnection> connections : shard.connections.values()) {
+                    for (SseConnection connection : connections) {
+                        pending += connection.pendingCount();
+                    }
+                }
+            }
+        }
+        return pending;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+        try {
+            if (!dispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
+                dispatcher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            dispatcher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(SseConnection connection, SseMessage message) {
+        if (connection.offer(message)) {
+            schedule(connection);
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CLOSE) {
+            log.warn("SSE 전송 큐가 가득 차 연결을 종료합니다. memberId={}", connection.getMemberId());
+            slowClosedCounter.increment();
+            remove(connection);
+            connection.getEmitter().complete();
+            return;
+        }
+
+        droppedCounter.increment();
+    }
+
+    private void schedule(SseConnection connection) {
+        if (!connection.tryStartDrain()) {
+            return;
+        }
+
+        try {
+            dispatcher.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.finishDrain();
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        try {
+            SseMessage message;
+            while ((message = connection.poll()) != null) {
+                SseEmitter.SseEventBuilder event = SseEmitter.event().name(message.getName());
+                if (message.getData() instanceof SsePayload payload) {
+                    event.data(payload.getJson(), MediaType.APPLICATION_JSON);
+                } else {
+                    event.data(message.getData());
+                }
+                if (message.getId() != null) {
+                    event.id(message.getId().toString());
+                }
+                connection.getEmitter().send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.warn("SSE 전송에 실패해 연결을 종료합니다. memberId={}, reason={}", connection.getMemberId(), e.getMessage());
+            remove(connection);
+            connection.getEmitter().completeWithError(e);
+            return;
+        } finally {
+            connection.finishDrain();
+        }
+
+        // 작업을 마치는 사이에 들어온 이벤트가 있으면 다시 예약한다.
+        if (connection.pendingCount() > 0) {
+            schedule(connection);
+        }
+    }
+
+    private void remove(SseConnection connection) {
+        Shard shard = shardOf(connection.getMemberId());
+        synchronized (shard) {
+            List<SseConnection> connections = shard.connections.get(connection.getMemberId());
+            if (connections == null || !connections.remove(connection)) {
+                return;
+            }
+            connectionCount.decrementAndGet();
+            if (connections.isEmpty()) {
+                shard.connections.remove(connection.getMemberId());
+            }
+        }
+    }
+
+    private Collection<SseConnection> connectionsOf(Long memberId) {
+        Shard shard = shardOf(memberId);
+        synchronized (shard) {
+            List<SseConnection> connections = shard.connections.get(memberId);
+            return connections == null ? List.of() : new ArrayList<>(connections);
+        }
+    }
+
+    private Shard shardOf(Long memberId) {
+        return shards[Math.floorMod(memberId.hashCode(), shards.length)];
+    }
+
+    private static final class Shard {
+
+        private final Map<Long, List<SseConnection>> connections = new HashMap<>();
+    }
+}
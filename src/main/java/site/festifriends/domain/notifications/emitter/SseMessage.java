@@ -0,0 +1,22 @@
+package site.festifriends.domain.notifications.emitter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * SseEventBuilder는 한 번 전송하면 재사용할 수 없으므로 이름과 데이터만 큐에 보관한다.
+ * id는 알림 ID이며, 클라이언트가 재연결할 때 Last-Event-ID 로 돌려준다.
+ * 여러 연결에 같은 데이터를 보낼 때는 data 에 SsePayload 를 넣어 직렬화를 한 번만 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class SseMessage {
+
+    private final Long id;
+    private final String name;
+    private final Object data;
+
+    public SseMessage(String name, Object data) {
+        this(null, name, data);
+    }
+}
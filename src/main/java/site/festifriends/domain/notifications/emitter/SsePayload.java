@@ -0,0 +1,22 @@
+package site.festifriends.domain.notifications.emitter;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * 미리 JSON 으로 직렬화한 SSE 데이터
+ * 같은 이벤트를 받는 모든 연결이 하나의 배열을 공유하므로 내용을 수정하지 않는다.
+ */
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class SsePayload {
+
+    private final byte[] json;
+
+    byte[] getJson() {
+        return json;
+    }
+
+    public int size() {
+        return json.length;
+    }
+}
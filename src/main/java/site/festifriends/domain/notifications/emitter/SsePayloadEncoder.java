@@ -0,0 +1,29 @@
+package site.festifriends.domain.notifications.emitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+
+/**
+ * 여러 회원에게 보내는 이벤트를 한 번만 직렬화한다.
+ * SseEmitter 에 객체를 그대로 넘기면 연결마다 메시지 컨버터가 다시 직렬화하지만,
+ * byte[] 는 ByteArrayHttpMessageConverter 가 그대로 쓰므로 직렬화 결과를 모든 연결이 공유할 수 있다.
+ * 응답 본문과 같은 ObjectMapper 를 사용하므로 JSON 형식은 기존과 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SsePayloadEncoder {
+
+    private final ObjectMapper objectMapper;
+
+    public SsePayload encode(Object data) {
+        try {
+            return new SsePayload(objectMapper.writeValueAsBytes(data));
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "알림 데이터 변환에 실패했습니다.");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package site.festifriends.domain.notifications.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.festifriends.entity.NotificationOutbox;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 여러 인스턴스가 같은 행을 동시에 처리하지 않도록 잠긴 행은 건너뛴다.
+     */
+    @Query(value = """
+        SELECT * FROM notification_outbox
+        WHERE status = 'PENDING' AND next_attempt_at <= :now
+        ORDER BY notification_outbox_id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<NotificationOutbox> findDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 일괄 처리가 롤백되어 잠금이 풀린 뒤 한 건씩 다시 처리할 때 사용한다.
+     * 그 사이 다른 인스턴스가 가져갔거나 처리를 끝낸 행은 반환하지 않는다.
+     */
+    @Query(value = """
+        SELECT * FROM notification_outbox
+        WHERE notification_outbox_id = :id AND status = 'PENDING'
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    Optional<NotificationOutbox> claimPending(@Param("id") Long id);
+}
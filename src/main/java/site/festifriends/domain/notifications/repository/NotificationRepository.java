@@ -13,7 +13,7 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     int readAllNotifications(Long memberId);
 
     @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.member.id = :memberId AND n.id = :notificationId")
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.member.id = :memberId AND n.id = :notificationId AND n.isRead = false")
     int readNotification(Long memberId, Long notificationId);
 
     @Modifying
@@ -25,4 +25,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     int deleteNotification(Long memberId, Long notificationId);
 
     boolean existsByMemberIdAndIsReadFalseAndDeletedIsNull(Long memberId);
+
+    long countByMemberIdAndIsReadFalseAndDeletedIsNull(Long memberId);
+
+    long countByMemberIdAndIdGreaterThanAndDeletedIsNull(Long memberId, Long notificationId);
 }
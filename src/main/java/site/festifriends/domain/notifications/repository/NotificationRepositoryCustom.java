@@ -1,11 +1,28 @@
 package site.festifriends.domain.notifications.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import site.festifriends.domain.notifications.dto.NotificationDto;
+import site.festifriends.entity.enums.NotificationType;
 
 public interface NotificationRepositoryCustom {
 
     Slice<NotificationDto> getNotifications(Long memberId, Long cursorId, Pageable pageable);
 
+    /**
+     * 생성된 알림 ID를 memberIds 순서대로 반환한다.
+     */
+    List<Long> insertAll(List<Long> memberIds, NotificationType type, String message, Long targetId,
+        Long subTargetId);
+
+    List<NotificationDto> findNotificationsAfter(Long memberId, Long lastNotificationId, int limit);
+
+    /**
+     * 읽지 않은 알림이 없는 회원은 결과에 포함되지 않는다.
+     */
+    Map<Long, Long> countUnreadByMemberIds(Collection<Long> memberIds);
+
 }
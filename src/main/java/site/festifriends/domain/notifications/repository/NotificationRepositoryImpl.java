@@ -2,20 +2,34 @@ package site.festifriends.domain.notifications.repository;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import site.festifriends.domain.notifications.dto.NotificationDto;
+import site.festifriends.entity.enums.NotificationType;
 
 @Repository
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
 
+    private static final int INSERT_CHUNK_SIZE = 500;
+
     private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Slice<NotificationDto> getNotifications(Long memberId, Long cursorId, Pageable pageable) {
@@ -40,19 +54,129 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
         List<Object[]> results = query.getResultList();
 
         List<NotificationDto> notifications = results.stream()
-            .map(result -> NotificationDto.builder()
-                .id(((Number) result[0]).longValue())
-                .message((String) result[1])
-                .type((String) result[2])
-                .createdAt(((Timestamp) result[3]).toLocalDateTime())
-                .isRead((Boolean) result[4])
-                .targetId(result[5] != null ? ((Number) result[5]).longValue() : null)
-                .subTargetId(result[6] != null ? ((Number) result[6]).longValue() : null)
-                .build())
+            .map(this::toNotificationDto)
             .toList();
 
         boolean hasNext = notifications.size() == pageSize;
 
         return new SliceImpl<>(notifications, pageable, hasNext);
     }
+
+    /**
+     * IDENTITY 전략에서는 Hibernate 가 insert 를 배치로 묶지 못하므로 multi-row insert 로 직접 저장한다.
+     * 한 문장이 너무 커지지 않도록 INSERT_CHUNK_SIZE 단위로 나눈다.
+     */
+    @Override
+    public List<Long> insertAll(List<Long> memberIds, NotificationType type, String message, Long targetId,
+        Long subTargetId) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = new ArrayList<>(memberIds.size());
+
+        for (int from = 0; from < memberIds.size(); from += INSERT_CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + INSERT_CHUNK_SIZE, memberIds.size()));
+            ids.addAll(insertChunk(chunk, type, message, targetId, subTargetId, now));
+        }
+
+        return ids;
+    }
+
+    private List<Long> insertChunk(List<Long> memberIds, NotificationType type, String message, Long targetId,
+        Long subTargetId, Timestamp now) {
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO notification (member_id, type, message, is_read, target_id, sub_target_id, created_at, updated_at) VALUES ");
+        List<Object> params = new ArrayList<>(memberIds.size() * 8);
+
+        for (int i = 0; i < memberIds.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?, ?, ?)");
+            params.add(memberIds.get(i));
+            params.add(type.name());
+            params.add(message);
+            params.add(false);
+            params.add(targetId);
+            params.add(subTargetId);
+            params.add(now);
+            params.add(now);
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, keyHolder);
+
+        return keyHolder.getKeyList().stream()
+            .map(key -> ((Number) key.values().iterator().next()).longValue())
+            .toList();
+    }
+
+    @Override
+    public List<NotificationDto> findNotificationsAfter(Long memberId, Long lastNotificationId, int limit) {
+        String sql = """
+            SELECT n.notification_id, n.message, n.type ,n.created_at, n.is_read, n.target_id, n.sub_target_id
+            FROM notification n
+            WHERE n.member_id = :memberId
+            AND n.notification_id > :lastNotificationId
+            AND n.deleted IS NULL
+            ORDER BY n.notification_id ASC
+            LIMIT :size
+            """;
+
+        Query query = em.createNativeQuery(sql);
+
+        query.setParameter("memberId", memberId);
+        query.setParameter("lastNotificationId", lastNotificationId);
+        query.setParameter("size", limit);
+
+        List<Object[]> results = query.getResultList();
+
+        return results.stream()
+            .map(this::toNotificationDto)
+            .toList();
+    }
+
+    @Override
+    public Map<Long, Long> countUnreadByMemberIds(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String sql = """
+            SELECT n.member_id, COUNT(*)
+            FROM notification n
+            WHERE n.member_id IN (:memberIds)
+            AND n.is_read = false
+            AND n.deleted IS NULL
+            GROUP BY n.member_id
+            """;
+
+        Query query = em.createNativeQuery(sql);
+        query.setParameter("memberIds", memberIds);
+
+        List<Object[]> results = query.getResultList();
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] result : results) {
+            counts.put(((Number) result[0]).longValue(), ((Number) result[1]).longValue());
+        }
+        return counts;
+    }
+
+    private NotificationDto toNotificationDto(Object[] result) {
+        return NotificationDto.builder()
+            .id(((Number) result[0]).longValue())
+            .message((String) result[1])
+            .type((String) result[2])
+            .createdAt(((Timestamp) result[3]).toLocalDateTime())
+            .isRead((Boolean) result[4])
+            .targetId(result[5] != null ? ((Number) result[5]).longValue() : null)
+            .subTargetId(result[6] != null ? ((Number) result[6]).longValue() : null)
+            .build();
+    }
 }
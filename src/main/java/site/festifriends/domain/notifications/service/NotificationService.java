@@ -1,13 +1,12 @@
 package site.festifriends.domain.notifications.service;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -22,10 +21,10 @@ import site.festifriends.domain.notifications.dto.GetNotificationsResponse;
 import site.festifriends.domain.notifications.dto.GetNotificationsResponse.TargetDto;
 import site.festifriends.domain.notifications.dto.NotificationDto;
 import site.festifriends.domain.notifications.dto.NotificationEvent;
+import site.festifriends.domain.notifications.emitter.NotificationReplayBuffer;
+import site.festifriends.domain.notifications.emitter.SseEmitterRegistry;
+import site.festifriends.domain.notifications.emitter.SseMessage;
 import site.festifriends.domain.notifications.repository.NotificationRepository;
-import site.festifriends.entity.Member;
-import site.festifriends.entity.Notification;
-import site.festifriends.entity.enums.NotificationType;
 
 @Service
 @Slf4j
@@ -34,8 +33,12 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
 
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final NotificationReplayBuffer notificationReplayBuffer;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    @Value("${notification.sse.replay.limit:50}")
+    private int replayLimit;
 
     public CursorResponseWrapper<GetNotificationsResponse> getNotifications(Long memberId, Long cursorId, int size) {
         Pageable pageable = PageRequest.of(0, size);
@@ -75,120 +78,46 @@ public class NotificationService {
         );
     }
 
-    public SseEmitter subscribe(Long memberId) {
-        SseEmitter oldEmitter = emitters.get(memberId);
-        if (oldEmitter != null) {
-            oldEmitter.complete();
-            emitters.remove(memberId);
-        }
-
-        SseEmitter sseEmitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitters.put(memberId, sseEmitter);
-
-        sseEmitter.onCompletion(() -> emitters.remove(memberId));
-        sseEmitter.onTimeout(() -> emitters.remove(memberId));
-        sseEmitter.onError((ex) -> {
-            emitters.remove(memberId);
-            log.error("SSE connection error for member: {}", memberId, ex);
-        });
-
-        try {
-            sseEmitter.send(SseEmitter.event()
-                .name("connect")
-                .data("연결이 성공되었습니다."));
-        } catch (IOException e) {
-            log.error("Failed to send initial message", e);
-            emitters.remove(memberId);
-            sseEmitter.completeWithError(e);
+    public SseEmitter subscribe(Long memberId, String lastEventId) {
+        Long lastNotificationId = parseLastEventId(lastEventId);
+        if (lastNotificationId == null) {
+            return sseEmitterRegistry.register(memberId);
         }
 
-        return sseEmitter;
+        return sseEmitterRegistry.register(memberId, () -> findMissedNotifications(memberId, lastNotificationId));
     }
 
-    public void sendNotification(Long subjectId, NotificationEvent event) {
-        SseEmitter emitter = emitters.get(subjectId);
-
-        if (emitter == null) {
-            log.warn("No active SSE emitter found for member: {}", subjectId);
-            return;
+    /**
+     * 재연결 전에 놓친 알림을 replay 버퍼에서 찾고, 버퍼가 충분하지 않으면 DB에서 한 번 조회한다.
+     * 다른 인스턴스가 보낸 알림이나 재시작 전 알림은 이 버퍼에 없으므로,
+     * DB의 Last-Event-ID 이후 알림 수와 버퍼의 알림 수가 같을 때만 버퍼를 사용한다.
+     */
+    private List<SseMessage> findMissedNotifications(Long memberId, Long lastNotificationId) {
+        Optional<List<SseMessage>> buffered = notificationReplayBuffer.findAfter(memberId, lastNotificationId);
+        if (buffered.isPresent() && buffered.get().size()
+            == notificationRepository.countByMemberIdAndIdGreaterThanAndDeletedIsNull(memberId, lastNotificationId)) {
+            return buffered.get();
         }
 
-        try {
-            emitter.send(SseEmitter.event()
-                .name("notification")
-                .data(event));
-        } catch (IOException e) {
-            log.error("Failed to send notification to member: {}", subjectId, e);
-            emitters.remove(subjectId);
-            emitter.completeWithError(e);
-        }
+        return notificationRepository.findNotificationsAfter(memberId, lastNotificationId, replayLimit)
+            .stream()
+            .map(notification -> new SseMessage(notification.getId(), "notification", NotificationEvent.builder()
+                .message(notification.getMessage())
+                .createdAt(notification.getCreatedAt())
+                .build()))
+            .toList();
     }
 
-    public void sendNotifications(List<Member> members, NotificationEvent event, Long writerId) {
-        for (Member member : members) {
-            if (member.getId().equals(writerId)) {
-                continue;
-            }
-            SseEmitter emitter = emitters.get(member.getId());
-            if (emitter != null) {
-                try {
-                    emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(event));
-                } catch (IOException e) {
-                    log.error("Failed to send notification to member: {}", member.getId(), e);
-                    emitters.remove(member.getId());
-                    emitter.completeWithError(e);
-                }
-            }
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
         }
-    }
-
-    @Transactional
-    public NotificationEvent createNotification(Member subject, NotificationType type, String s, Long targetId,
-        Long subTargetId) {
-        String message = s + type.getDescription();
-
-        Notification newNotification = Notification.builder()
-            .member(subject)
-            .type(type)
-            .message(message)
-            .targetId(targetId)
-            .subTargetId(subTargetId)
-            .build();
 
-        notificationRepository.save(newNotification);
-
-        return NotificationEvent.builder()
-            .message(message)
-            .createdAt(newNotification.getCreatedAt())
-            .build();
-    }
-
-    @Transactional
-    public NotificationEvent createNotifications(List<Member> subjects, NotificationType type, String s, Long targetId,
-        Long subTargetId) {
-        String message = s + type.getDescription();
-
-        List<Notification> notifications = new ArrayList<>();
-
-        for (Member subject : subjects) {
-            Notification newNotification = Notification.builder()
-                .member(subject)
-                .type(type)
-                .message(message)
-                .targetId(targetId)
-                .subTargetId(subTargetId)
-                .build();
-            notifications.add(newNotification);
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
         }
-
-        notificationRepository.saveAll(notifications);
-
-        return NotificationEvent.builder()
-            .message(message)
-            .createdAt(LocalDateTime.now())
-            .build();
     }
 
     private TargetDto createTargetDto(NotificationDto notification) {
@@ -213,6 +142,7 @@ public class NotificationService {
     @Transactional
     public void readAllNotifications(Long memberId) {
         notificationRepository.readAllNotifications(memberId);
+        unreadNotificationCounter.invalidate(memberId);
     }
 
     @Transactional
@@ -220,12 +150,15 @@ public class NotificationService {
         if (!notificationRepository.existsById(notificationId)) {
             throw new BusinessException(ErrorCode.BAD_REQUEST, "알림이 존재하지 않습니다.");
         }
-        notificationRepository.readNotification(memberId, notificationId);
+        if (notificationRepository.readNotification(memberId, notificationId) > 0) {
+            unreadNotificationCounter.invalidate(memberId);
+        }
     }
 
     @Transactional
     public void deleteAllNotifications(Long memberId) {
         notificationRepository.deleteAllNotifications(memberId);
+        unreadNotificationCounter.invalidate(memberId);
     }
 
     @Transactional
@@ -233,30 +166,23 @@ public class NotificationService {
         if (!notificationRepository.existsById(notificationId)) {
             throw new BusinessException(ErrorCode.BAD_REQUEST, "알림이 존재하지 않습니다.");
         }
-        notificationRepository.deleteNotification(memberId, notificationId);
+        if (notificationRepository.deleteNotification(memberId, notificationId) > 0) {
+            unreadNotificationCounter.invalidate(memberId);
+        }
     }
 
-    @Transactional(readOnly = true)
     public boolean existUnreadNotification(Long memberId) {
-        return notificationRepository.existsByMemberIdAndIsReadFalseAndDeletedIsNull(memberId);
+        return unreadNotificationCounter.get(memberId) > 0;
+    }
+
+    public long getUnreadCount(Long memberId) {
+        return unreadNotificationCounter.get(memberId);
     }
 
     @Scheduled(fixedRate = 90000)
     public void heartbeat() {
-        log.info("SSE heartbeat at {}", LocalDateTime.now());
-        for (Map.Entry<Long, SseEmitter> entry : emitters.entrySet()) {
-            Long memberId = entry.getKey();
-            SseEmitter emitter = entry.getValue();
-            try {
-                emitter.send(SseEmitter.event()
-                    .name("keep-alive")
-                    .data(""));
-            } catch (IOException e) {
-                log.error("Failed to send heartbeat to member: {}", memberId, e);
-                emitters.remove(memberId);
-                emitter.completeWithError(e);
-            }
-        }
+        log.info("SSE heartbeat at {}, connections={}", LocalDateTime.now(), sseEmitterRegistry.getConnectionCount());
+        sseEmitterRegistry.sendAll(new SseMessage("keep-alive", ""));
     }
 
 }
@@ -0,0 +1,95 @@
+package site.festifriends.domain.notifications.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.festifriends.domain.notifications.emitter.SseEmitterRegistry;
+import site.festifriends.domain.notifications.emitter.SseMessage;
+import site.festifriends.domain.notifications.repository.NotificationRepository;
+
+/**
+ * 회원별 읽지 않은 알림 수
+ * 처음 조회할 때 DB에서 적재하고, 알림 생성/읽음/삭제가 커밋되면 캐시를 비운 뒤 연결된 회원에게 DB에서 다시 센 값을 전송한다.
+ * - 캐시 값에 증감하지 않으므로, 커밋과 갱신 사이에 다른 조회가 DB에서 적재해도 변경이 두 번 반영되지 않는다.
+ * - 다른 인스턴스에서 일어난 변경은 이 캐시에 전달되지 않으므로, 적재 후 ttl-seconds 가 지나면 다시 적재해 지연을 제한한다.
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+    private static final int COUNT_CHUNK_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final Cache<Long, Long> counts;
+
+    public UnreadNotificationCounter(
+        NotificationRepository notificationRepository,
+        SseEmitterRegistry sseEmitterRegistry,
+        @Value("${notification.unread.maximum-members:100000}") long maximumMembers,
+        @Value("${notification.unread.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.sseEmitterRegistry = sseEmitterRegistry;
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(maximumMembers)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    public long get(Long memberId) {
+        return counts.get(memberId, this::load);
+    }
+
+    /**
+     * 읽지 않은 알림 수가 바뀌는 트랜잭션에서 호출한다. 다음 조회 시 DB에서 다시 적재한다.
+     */
+    public void invalidate(Long memberId) {
+        invalidateAll(List.of(memberId));
+    }
+
+    public void invalidateAll(Collection<Long> memberIds) {
+        afterCommit(() -> {
+            counts.invalidateAll(memberIds);
+
+            List<Long> connected = memberIds.stream()
+                .filter(sseEmitterRegistry::isConnected)
+                .toList();
+            for (int from = 0; from < connected.size(); from += COUNT_CHUNK_SIZE) {
+                List<Long> chunk = connected.subList(from, Math.min(from + COUNT_CHUNK_SIZE, connected.size()));
+                Map<Long, Long> unreadCounts = notificationRepository.countUnreadByMemberIds(chunk);
+                chunk.forEach(memberId -> push(memberId, unreadCounts.getOrDefault(memberId, 0L)));
+            }
+        });
+    }
+
+    private Long load(Long memberId) {
+        return notificationRepository.countByMemberIdAndIsReadFalseAndDeletedIsNull(memberId);
+    }
+
+    private void push(Long memberId, long count) {
+        sseEmitterRegistry.send(memberId, new SseMessage("unread-count", count));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -4,15 +4,21 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import site.festifriends.common.response.ResponseWrapper;
 import site.festifriends.domain.auth.UserDetailsImpl;
+import site.festifriends.domain.performance.dto.PerformanceCursorSearchRequest;
+import site.festifriends.domain.performance.dto.PerformanceCursorSearchResponse;
+import site.festifriends.domain.performance.dto.PerformanceFacetResponse;
 import site.festifriends.domain.performance.dto.PerformanceFavoriteRequest;
 import site.festifriends.domain.performance.dto.PerformanceFavoriteResponse;
 import site.festifriends.domain.performance.dto.PerformanceResponse;
@@ -31,6 +37,8 @@ public interface PerformanceApi {
             **검색 필터:**
             - title: 공연명 검색
             - location: 지역 검색
+            - cast: 출연진 검색
+            - host: 주최 검색
             - visit: 국내/내한 여부 (국내, 내한)
             - isExpired: 종료된 공연 포함 여부 (true: 모든 상태 포함, false: 종료된 공연 제외, 기본값: true)
             - startDate: 검색 시작 날짜 (yyyy-MM-dd)
@@ -50,17 +58,76 @@ public interface PerformanceApi {
     @GetMapping
     ResponseEntity<PerformanceSearchResponse> searchPerformances(
         @Parameter(description = "검색 조건") PerformanceSearchRequest request,
-        @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl user
+        @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl user,
+        @Parameter(description = "이전 응답의 ETag") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+            required = false) String ifNoneMatch,
+        @Parameter(hidden = true) HttpServletRequest httpRequest
+    );
+
+    @Operation(
+        summary = "공연 검색 (커서 기반)",
+        description = """
+            공연을 커서 기반으로 검색합니다. 검색 필터와 정렬 옵션은 공연 검색과 같습니다.
+            
+            **커서:**
+            - cursor: 이전 응답의 nextCursor (첫 요청은 비움, 정렬 조건을 바꾸면 처음부터 다시 조회)
+            - size: 한 번에 조회할 항목 수 (기본값: 10)
+            - withCount: 전체 개수 포함 여부 (기본값: false, 캐시된 근사값)
+            
+            응답의 hasNext가 false이면 마지막 항목까지 조회한 것입니다.
+            """,
+        responses = {
+            @ApiResponse(responseCode = "200", description = "요청이 성공적으로 처리되었습니다."),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서입니다.")
+        }
+    )
+    @GetMapping("/cursor")
+    ResponseEntity<PerformanceCursorSearchResponse> searchPerformancesWithCursor(
+        @Parameter(description = "검색 조건") PerformanceCursorSearchRequest request,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl user,
+        @Parameter(description = "이전 응답의 ETag") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+            required = false) String ifNoneMatch,
+        @Parameter(hidden = true) HttpServletRequest httpRequest
+    );
+
+    @Operation(
+        summary = "공연 검색 필터별 개수 조회",
+        description = """
+            현재 검색 조건에 맞는 공연 수를 필터 값별로 조회합니다. 검색 필터는 공연 검색과 같습니다. (정렬/페이징 무시)
+            
+            **집계 항목:**
+            - locations: 지역별 (주소 첫 단어 기준)
+            - visits: 국내/내한별
+            - states: 공연 상태별 (UPCOMING, ONGOING, COMPLETED)
+            - startMonths: 시작 월별 (yyyy-MM)
+            
+            같은 조건의 결과는 짧은 시간 캐싱되므로 근사값입니다.
+            """
+    )
+    @GetMapping("/facets")
+    ResponseEntity<ResponseWrapper<PerformanceFacetResponse>> getSearchFacets(
+        @Parameter(description = "검색 조건") PerformanceSearchRequest request
     );
 
     @Operation(
         summary = "공연 상세 조회",
-        description = "공연 ID로 공연 상세 정보를 조회합니다."
+        description = """
+            공연 ID로 공연 상세 정보를 조회합니다.
+            
+            응답의 ETag를 If-None-Match로 보내면 공연이 바뀌지 않은 경우 본문 없이 304를 반환합니다.
+            """,
+        responses = {
+            @ApiResponse(responseCode = "200", description = "요청이 성공적으로 처리되었습니다."),
+            @ApiResponse(responseCode = "304", description = "공연 정보가 바뀌지 않았습니다."),
+            @ApiResponse(responseCode = "404", description = "공연을 찾을 수 없습니다.")
+        }
     )
     @GetMapping("/{performanceId}")
     ResponseEntity<ResponseWrapper<PerformanceResponse>> getPerformanceDetail(
         @Parameter(description = "공연 ID") @PathVariable Long performanceId,
-        @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl user
+        @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl user,
+        @Parameter(description = "이전 응답의 ETag") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+            required = false) String ifNoneMatch
     );
 
     @Operation(
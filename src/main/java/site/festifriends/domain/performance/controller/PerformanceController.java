@@ -1,23 +1,33 @@
 package site.festifriends.domain.performance.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import site.festifriends.common.response.ResponseWrapper;
 import site.festifriends.domain.auth.UserDetailsImpl;
+import site.festifriends.domain.performance.dto.PerformanceCursorSearchRequest;
+import site.festifriends.domain.performance.dto.PerformanceCursorSearchResponse;
+import site.festifriends.domain.performance.dto.PerformanceFacetResponse;
 import site.festifriends.domain.performance.dto.PerformanceFavoriteRequest;
 import site.festifriends.domain.performance.dto.PerformanceFavoriteResponse;
 import site.festifriends.domain.performance.dto.PerformanceResponse;
 import site.festifriends.domain.performance.dto.PerformanceSearchRequest;
 import site.festifriends.domain.performance.dto.PerformanceSearchResponse;
+import site.festifriends.domain.performance.httpcache.PerformanceHttpCache;
+import site.festifriends.domain.performance.httpcache.PerformanceHttpCache.CachedResponse;
 import site.festifriends.domain.performance.service.PerformanceService;
 import site.festifriends.domain.review.dto.RecentReviewResponse;
 import site.festifriends.domain.review.service.ReviewService;
@@ -29,26 +39,92 @@ public class PerformanceController implements PerformanceApi {
 
     private final PerformanceService performanceService;
     private final ReviewService reviewService;
+    private final PerformanceHttpCache performanceHttpCache;
 
     @Override
     @GetMapping
     public ResponseEntity<PerformanceSearchResponse> searchPerformances(
         PerformanceSearchRequest request,
-        @AuthenticationPrincipal UserDetailsImpl user) {
+        @AuthenticationPrincipal UserDetailsImpl user,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        HttpServletRequest httpRequest) {
         Long memberId = user != null ? user.getMemberId() : null;
-        PerformanceSearchResponse response = performanceService.searchPerformances(request, memberId);
-        return ResponseEntity.ok(response);
+        if (memberId != null) {
+            PerformanceSearchResponse response = performanceService.searchPerformances(request, memberId);
+            return ResponseEntity.ok()
+                .cacheControl(performanceHttpCache.searchCacheControl(memberId))
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(response);
+        }
+
+        CachedResponse<PerformanceSearchResponse> cached = performanceHttpCache.getAnonymous(
+            performanceHttpCache.searchKey("search", httpRequest.getParameterMap()),
+            () -> performanceService.searchPerformances(request, null));
+        return cachedResponse(cached, ifNoneMatch, performanceHttpCache.searchCacheControl(null));
+    }
+
+    @Override
+    @GetMapping("/cursor")
+    public ResponseEntity<PerformanceCursorSearchResponse> searchPerformancesWithCursor(
+        PerformanceCursorSearchRequest request,
+        @AuthenticationPrincipal UserDetailsImpl user,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        HttpServletRequest httpRequest) {
+        Long memberId = user != null ? user.getMemberId() : null;
+        if (memberId != null) {
+            PerformanceCursorSearchResponse response = performanceService.searchPerformancesWithCursor(request,
+                memberId);
+            return ResponseEntity.ok()
+                .cacheControl(performanceHttpCache.searchCacheControl(memberId))
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(response);
+        }
+
+        CachedResponse<PerformanceCursorSearchResponse> cached = performanceHttpCache.getAnonymous(
+            performanceHttpCache.searchKey("cursor", httpRequest.getParameterMap()),
+            () -> performanceService.searchPerformancesWithCursor(request, null));
+        return cachedResponse(cached, ifNoneMatch, performanceHttpCache.searchCacheControl(null));
+    }
+
+    @Override
+    @GetMapping("/facets")
+    public ResponseEntity<ResponseWrapper<PerformanceFacetResponse>> getSearchFacets(
+        PerformanceSearchRequest request) {
+        return ResponseEntity.ok(performanceService.getSearchFacets(request));
     }
 
     @Override
     @GetMapping("/{performanceId}")
     public ResponseEntity<ResponseWrapper<PerformanceResponse>> getPerformanceDetail(
         @PathVariable Long performanceId,
-        @AuthenticationPrincipal UserDetailsImpl user) {
+        @AuthenticationPrincipal UserDetailsImpl user,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Long memberId = user != null ? user.getMemberId() : null;
-        ResponseWrapper<PerformanceResponse> response = performanceService.getPerformanceDetail(performanceId,
-            memberId);
-        return ResponseEntity.ok(response);
+
+        // 응답을 조립하기 전에 ETag 부터 비교한다
+        String etag = performanceHttpCache.detailEtag(performanceId, memberId);
+        if (etag == null) {
+            return ResponseEntity.ok(performanceService.getPerformanceDetail(performanceId, memberId));
+        }
+
+        CacheControl cacheControl = performanceHttpCache.detailCacheControl(memberId);
+        if (performanceHttpCache.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .build();
+        }
+
+        ResponseWrapper<PerformanceResponse> response = memberId == null
+            ? performanceHttpCache.getAnonymousDetail(performanceId, etag,
+                () -> performanceService.getPerformanceDetail(performanceId, null))
+            : performanceService.getPerformanceDetail(performanceId, memberId);
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(cacheControl)
+            .varyBy(HttpHeaders.AUTHORIZATION)
+            .body(response);
     }
 
     @Override
@@ -97,4 +173,24 @@ public class PerformanceController implements PerformanceApi {
             ResponseWrapper.success("최근 올라온 리뷰 top5 조회 성공", reviews)
         );
     }
+
+    /**
+     * 비로그인 응답은 public 으로 공유 캐시에 저장될 수 있으므로, 로그인 요청이 그 응답을 받지 않도록
+     * 로그인/비로그인 응답 모두 Vary: Authorization 을 붙인다.
+     */
+    private <T> ResponseEntity<T> cachedResponse(CachedResponse<T> cached, String ifNoneMatch,
+        CacheControl cacheControl) {
+        if (performanceHttpCache.matches(ifNoneMatch, cached.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(cached.getEtag())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(cached.getEtag())
+            .cacheControl(cacheControl)
+            .varyBy(HttpHeaders.AUTHORIZATION)
+            .body(cached.getBody());
+    }
 } 
@@ -0,0 +1,43 @@
+package site.festifriends.domain.performance.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.RequestParam;
+import site.festifriends.common.response.ResponseWrapper;
+import site.festifriends.domain.auth.UserDetailsImpl;
+import site.festifriends.domain.performance.importer.CatalogFormat;
+import site.festifriends.domain.performance.importer.PerformanceImportResult;
+
+@Tag(name = "Performance Import", description = "공연 카탈로그 가져오기 API (관리자)")
+public interface PerformanceImportApi {
+
+    @Operation(
+        summary = "공연 카탈로그 가져오기",
+        description = """
+            요청 본문의 카탈로그 파일을 읽어 공연을 추가하거나 갱신합니다. 관리자만 사용할 수 있습니다.
+            
+            **형식:**
+            - JSON: 공연 객체 배열
+            - CSV: 첫 줄은 헤더, 목록 값(cast, crew, productionCompany, agency, host, organizer, price, time, images)은 '|' 로 구분
+            
+            **필드:** externalId, title, startDate, endDate (yyyy-MM-ddTHH:mm:ss), location, runtime, age, poster, visit 및 목록 필드
+            
+            externalId가 같은 공연은 갱신되므로 같은 파일을 다시 가져와도 중복되지 않습니다.
+            """,
+        responses = {
+            @ApiResponse(responseCode = "200", description = "공연 카탈로그를 가져왔습니다."),
+            @ApiResponse(responseCode = "400", description = "카탈로그 파일을 읽을 수 없습니다."),
+            @ApiResponse(responseCode = "403", description = "관리자만 접근할 수 있습니다.")
+        }
+    )
+    ResponseEntity<ResponseWrapper<PerformanceImportResult>> importCatalog(
+        @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl user,
+        @Parameter(description = "파일 형식 (JSON, CSV)") @RequestParam CatalogFormat format,
+        @Parameter(hidden = true) InputStream body
+    );
+}
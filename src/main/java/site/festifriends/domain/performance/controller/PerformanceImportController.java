@@ -0,0 +1,37 @@
+package site.festifriends.domain.performance.controller;
+
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import site.festifriends.common.response.ResponseWrapper;
+import site.festifriends.domain.auth.UserDetailsImpl;
+import site.festifriends.domain.performance.importer.CatalogFormat;
+import site.festifriends.domain.performance.importer.PerformanceImportResult;
+import site.festifriends.domain.performance.service.PerformanceImportService;
+
+@RestController
+@RequestMapping("/api/v1/performances/import")
+@RequiredArgsConstructor
+public class PerformanceImportController implements PerformanceImportApi {
+
+    private final PerformanceImportService performanceImportService;
+
+    /**
+     * multipart 로 받으면 파일 전체가 임시 파일/메모리에 먼저 저장되므로 요청 본문을 그대로 스트림으로 읽는다.
+     */
+    @Override
+    @PostMapping
+    public ResponseEntity<ResponseWrapper<PerformanceImportResult>> importCatalog(
+        @AuthenticationPrincipal UserDetailsImpl user,
+        @RequestParam CatalogFormat format,
+        InputStream body
+    ) {
+        PerformanceImportResult result = performanceImportService.importCatalog(user.getMemberId(), body, format);
+        return ResponseEntity.ok(ResponseWrapper.success("공연 카탈로그를 가져왔습니다.", result));
+    }
+}
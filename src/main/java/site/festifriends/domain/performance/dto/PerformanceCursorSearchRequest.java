@@ -0,0 +1,16 @@
+package site.festifriends.domain.performance.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 커서 기반 공연 검색 요청
+ * 검색 필터와 정렬은 페이지 기반 검색과 같고, page 대신 이전 응답의 nextCursor를 사용한다.
+ */
+@Getter
+@Setter
+public class PerformanceCursorSearchRequest extends PerformanceSearchRequest {
+
+    private String cursor;                  // 이전 응답의 nextCursor (첫 요청은 비움)
+    private Boolean withCount = false;      // 전체 개수 포함 여부 (캐시된 근사값)
+}
@@ -0,0 +1,22 @@
+package site.festifriends.domain.performance.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PerformanceCursorSearchResponse {
+
+    private Integer code;
+    private String message;
+    private List<PerformanceResponse> data;
+
+    // 커서 정보
+    private Integer size;          // 한 번에 조회하는 항목 수
+    private String nextCursor;     // 다음 조회에 사용할 커서 (마지막이면 없음)
+    private Boolean hasNext;       // 다음 항목이 있는지 여부
+    private Long totalElements;    // 전체 공연 개수 (withCount=true 일 때만, 캐시된 근사값)
+}
@@ -0,0 +1,54 @@
+package site.festifriends.domain.performance.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.festifriends.entity.Performance;
+
+/**
+ * PerformanceReadModel 에 JSON 으로 저장하는 공연 컬렉션 필드
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PerformanceDetailSnapshot {
+
+    private List<String> cast;
+    private List<String> crew;
+    private List<String> productionCompany;
+    private List<String> agency;
+    private List<String> host;
+    private List<String> organizer;
+    private List<String> price;
+    private List<String> time;
+    private List<Image> images;
+
+    public static PerformanceDetailSnapshot from(Performance performance) {
+        return PerformanceDetailSnapshot.builder()
+            .cast(List.copyOf(performance.getCast()))
+            .crew(List.copyOf(performance.getCrew()))
+            .productionCompany(List.copyOf(performance.getProductionCompany()))
+            .agency(List.copyOf(performance.getAgency()))
+            .host(List.copyOf(performance.getHost()))
+            .organizer(List.copyOf(performance.getOrganizer()))
+            .price(List.copyOf(performance.getPrice()))
+            .time(List.copyOf(performance.getTime()))
+            .images(performance.getImgs().stream()
+                .map(img -> new Image(img.getId().toString(), img.getSrc(), img.getAlt()))
+                .toList())
+            .build();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Image {
+
+        private String id;
+        private String src;
+        private String alt;
+    }
+}
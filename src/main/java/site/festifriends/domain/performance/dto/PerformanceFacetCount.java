@@ -0,0 +1,12 @@
+package site.festifriends.domain.performance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PerformanceFacetCount {
+
+    private String value;   // 필터 값 (지역, 국내/내한, 공연 상태, 시작 월)
+    private Long count;     // 현재 검색 조건에서 해당 값을 가진 공연 수
+}
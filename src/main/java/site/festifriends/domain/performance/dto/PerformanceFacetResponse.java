@@ -0,0 +1,16 @@
+package site.festifriends.domain.performance.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PerformanceFacetResponse {
+
+    private Long totalElements;                     // 현재 검색 조건의 전체 공연 수
+    private List<PerformanceFacetCount> locations;  // 지역별 (주소 첫 단어 기준, 많은 순)
+    private List<PerformanceFacetCount> visits;     // 국내/내한별 (많은 순)
+    private List<PerformanceFacetCount> states;     // 공연 상태별 (UPCOMING, ONGOING, COMPLETED 순)
+    private List<PerformanceFacetCount> startMonths; // 시작 월별 (yyyy-MM, 빠른 순)
+}
@@ -0,0 +1,113 @@
+package site.festifriends.domain.performance.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+import site.festifriends.entity.Performance;
+
+/**
+ * 커서 기반 공연 검색의 연속 토큰
+ * 마지막으로 내려준 공연의 정렬 키와 ID를 담고, 클라이언트에는 Base64 문자열로만 노출한다.
+ * 정렬마다 필요한 키만 채워진다. (제목순: title, 날짜순: startDate, 집계순: count + title)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PerformanceSearchCursor {
+
+    public static final String DEFAULT_SORT = "title_asc";
+
+    private static final Set<String> SUPPORTED_SORTS = Set.of(
+        "title_asc", "title_desc", "date_asc", "date_desc",
+        "group_count_desc", "group_count_asc", "favorite_count_desc", "favorite_count_asc");
+
+    private static final String DELIMITER = "|";
+    private static final int FIELD_COUNT = 5;
+
+    private final String sort;
+    private final Integer count;
+    private final LocalDateTime startDate;
+    private final String title;
+    private final Long id;
+
+    /**
+     * 지원하지 않는 정렬은 페이지 기반 검색과 같이 제목 가나다순으로 처리한다.
+     */
+    public static String normalizeSort(String sort) {
+        if (sort == null || sort.trim().isEmpty()) {
+            return DEFAULT_SORT;
+        }
+
+        String normalized = sort.trim().toLowerCase();
+        return SUPPORTED_SORTS.contains(normalized) ? normalized : DEFAULT_SORT;
+    }
+
+    public static PerformanceSearchCursor of(String sort, Performance last) {
+        String normalized = normalizeSort(sort);
+
+        if (normalized.startsWith("date_")) {
+            return new PerformanceSearchCursor(normalized, null, last.getStartDate(), null, last.getId());
+        }
+        if (normalized.startsWith("group_count_")) {
+            return new PerformanceSearchCursor(normalized, last.getGroupCount(), null, last.getTitle(), last.getId());
+        }
+        if (normalized.startsWith("favorite_count_")) {
+            return new PerformanceSearchCursor(normalized, last.getFavoriteCount(), null, last.getTitle(),
+                last.getId());
+        }
+        return new PerformanceSearchCursor(normalized, null, null, last.getTitle(), last.getId());
+    }
+
+    /**
+     * 제목에 구분자가 들어갈 수 있으므로 제목을 마지막 필드로 둔다.
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+            sort,
+            count != null ? count.toString() : "",
+            startDate != null ? startDate.toString() : "",
+            id.toString(),
+            title != null ? title : "");
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PerformanceSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] fields = raw.split("\\" + DELIMITER, FIELD_COUNT);
+            if (fields.length != FIELD_COUNT || !SUPPORTED_SORTS.contains(fields[0])) {
+                throw new IllegalArgumentException("cursor fields");
+            }
+
+            PerformanceSearchCursor cursor = new PerformanceSearchCursor(
+                fields[0],
+                fields[1].isEmpty() ? null : Integer.valueOf(fields[1]),
+                fields[2].isEmpty() ? null : LocalDateTime.parse(fields[2]),
+                fields[4],
+                Long.valueOf(fields[3]));
+
+            if (!cursor.hasRequiredKeys()) {
+                throw new IllegalArgumentException("cursor keys");
+            }
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    private boolean hasRequiredKeys() {
+        if (sort.startsWith("date_")) {
+            return startDate != null;
+        }
+        if (sort.startsWith("group_count_") || sort.startsWith("favorite_count_")) {
+            return count != null;
+        }
+        return true;
+    }
+}
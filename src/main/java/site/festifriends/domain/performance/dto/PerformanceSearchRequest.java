@@ -13,6 +13,8 @@ public class PerformanceSearchRequest {
     // 검색 필터
     private String title;          // 공연명 검색
     private String location;       // 지역 검색  
+    private String cast;           // 출연진 검색
+    private String host;           // 주최 검색
     private String visit;          // 국내/내한 (국내, 내한)
     private Boolean isExpired = true;  // 종료된 공연 포함 여부 (기본값: true - 모든 상태 포함)
     
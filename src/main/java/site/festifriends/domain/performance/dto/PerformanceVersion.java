@@ -0,0 +1,21 @@
+package site.festifriends.domain.performance.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import site.festifriends.entity.enums.PerformanceState;
+
+/**
+ * 공연 상세 응답에 영향을 주는 값만 모은 것 (ETag 계산용)
+ * 집계값과 상태는 updated_at 을 바꾸지 않고 갱신되므로 따로 포함한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PerformanceVersion {
+
+    private Long performanceId;
+    private LocalDateTime updatedAt;
+    private PerformanceState state;
+    private int favoriteCount;
+    private int groupCount;
+}
@@ -0,0 +1,169 @@
+package site.festifriends.domain.performance.httpcache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+import site.festifriends.domain.member.service.MemberBookmarkCache;
+import site.festifriends.domain.performance.dto.PerformanceVersion;
+import site.festifriends.domain.performance.repository.PerformanceRepository;
+import site.festifriends.entity.enums.BookmarkType;
+
+/**
+ * 공연 조회 API 의 HTTP 캐시 처리
+ * - 상세: 공연의 updated_at, 상태, 집계값(로그인 시 찜 여부 포함)으로 ETag 를 먼저 계산해서
+ *   If-None-Match 가 같으면 응답을 조립하지 않고 304 를 내려준다.
+ * - 검색: 비로그인 요청은 쿼리 파라미터 기준으로 응답과 ETag 를 짧게 캐싱한다. (ETag 는 직렬화한 본문의 해시)
+ * 로그인 응답은 찜 여부가 회원마다 다르므로 서버에 캐싱하지 않고 private 으로 내려준다.
+ * 두 응답 모두 Vary: Authorization 을 붙여 공유 캐시가 비로그인 응답을 로그인 요청에 내주지 않게 한다. (컨트롤러에서 설정)
+ */
+@Component
+public class PerformanceHttpCache {
+
+    private static final String CACHE_NAME = "performanceResponse";
+
+    private final PerformanceRepository performanceRepository;
+    private final MemberBookmarkCache memberBookmarkCache;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedResponse<?>> anonymousResponses;
+    private final long detailMaxAgeSeconds;
+    private final long searchMaxAgeSeconds;
+
+    public PerformanceHttpCache(
+        PerformanceRepository performanceRepository,
+        MemberBookmarkCache memberBookmarkCache,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${performance.http-cache.maximum-size:1000}") long maximumSize,
+        @Value("${performance.http-cache.ttl-seconds:30}") long ttlSeconds,
+        @Value("${performance.http-cache.detail-max-age-seconds:60}") long detailMaxAgeSeconds,
+        @Value("${performance.http-cache.search-max-age-seconds:30}") long searchMaxAgeSeconds
+    ) {
+        this.performanceRepository = performanceRepository;
+        this.memberBookmarkCache = memberBookmarkCache;
+        this.objectMapper = objectMapper;
+        this.detailMaxAgeSeconds = detailMaxAgeSeconds;
+        this.searchMaxAgeSeconds = searchMaxAgeSeconds;
+        this.anonymousResponses = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, anonymousResponses, CACHE_NAME);
+    }
+
+    /**
+     * 공연이 없으면 null (상세 조회에서 404 로 처리된다)
+     */
+    public String detailEtag(Long performanceId, Long memberId) {
+        return performanceRepository.findVersion(performanceId)
+            .map(version -> etag(versionSource(version, memberId)))
+            .orElse(null);
+    }
+
+    /**
+     * 같은 ETag 의 응답은 내용이 같으므로 키에 ETag 를 넣어 버전이 바뀌면 자연스럽게 새로 만든다.
+     */
+    public <T> T getAnonymousDetail(Long performanceId, String etag, Supplier<T> loader) {
+        return this.<T>getAnonymous("detail:" + performanceId + ":" + etag, loader).getBody();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CachedResponse<T> getAnonymous(String key, Supplier<T> loader) {
+        return (CachedResponse<T>) anonymousResponses.get(key, ignored -> {
+            T body = loader.get();
+            return new CachedResponse<>(body, etag(serialize(body)));
+        });
+    }
+
+    public String searchKey(String path, Map<String, String[]> parameters) {
+        StringBuilder key = new StringBuilder(path);
+        new TreeMap<>(parameters).forEach((name, values) ->
+            key.append('\u0000').append(name).append('=').append(String.join(",", values)));
+        return key.toString();
+    }
+
+    /**
+     * If-None-Match 는 여러 ETag 를 쉼표로 나열하거나 * 일 수 있다. 약한 비교(W/ 무시)로 확인한다.
+     */
+    public boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    public CacheControl detailCacheControl(Long memberId) {
+        return cacheControl(memberId, detailMaxAgeSeconds);
+    }
+
+    public CacheControl searchCacheControl(Long memberId) {
+        return cacheControl(memberId, searchMaxAgeSeconds);
+    }
+
+    private CacheControl cacheControl(Long memberId, long maxAgeSeconds) {
+        if (memberId != null) {
+            // 매번 ETag 로 재검증하도록 한다
+            return CacheControl.noCache().cachePrivate();
+        }
+        return CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    private byte[] versionSource(PerformanceVersion version, Long memberId) {
+        String source = String.join("|",
+            String.valueOf(version.getPerformanceId()),
+            String.valueOf(version.getUpdatedAt()),
+            String.valueOf(version.getState()),
+            String.valueOf(version.getFavoriteCount()),
+            String.valueOf(version.getGroupCount()),
+            memberId != null
+                ? String.valueOf(memberBookmarkCache.isBookmarked(memberId, BookmarkType.PERFORMANCE,
+                version.getPerformanceId()))
+                : "anonymous");
+        return source.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String etag(byte[] source) {
+        return "\"" + DigestUtils.md5DigestAsHex(source) + "\"";
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "공연 응답을 직렬화하지 못했습니다.");
+        }
+    }
+
+    @Getter
+    public static class CachedResponse<T> {
+
+        private final T body;
+        private final String etag;
+
+        private CachedResponse(T body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+    }
+}
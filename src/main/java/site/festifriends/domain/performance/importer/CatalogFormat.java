@@ -0,0 +1,6 @@
+package site.festifriends.domain.performance.importer;
+
+public enum CatalogFormat {
+    JSON,
+    CSV
+}
@@ -0,0 +1,306 @@
+package site.festifriends.domain.performance.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+import site.festifriends.domain.performance.service.PerformanceReadModelService;
+import site.festifriends.entity.enums.PerformanceState;
+
+/**
+ * 공연 카탈로그 대량 가져오기
+ * 파일을 공연 단위로 읽어 chunkSize 만큼 모은 뒤, 청크마다 하나의 트랜잭션에서 JDBC 배치로 저장한다.
+ * 외부 공연 ID가 이미 있으면 공연 정보를 갱신하고 컬렉션 테이블은 지우고 다시 넣으므로, 같은 파일을 다시 가져와도 결과가 같다.
+ * 모임 수/찜 수 집계값과 삭제 여부는 서비스에서 관리하는 값이므로 갱신하지 않는다.
+ * 공연 상세 읽기 모델도 같은 트랜잭션에서 다시 만들어, 조회가 오래된 스냅샷을 보지 않게 한다.
+ */
+@Slf4j
+@Component
+public class PerformanceCatalogImporter {
+
+    private static final List<CollectionTable> COLLECTION_TABLES = List.of(
+        new CollectionTable("performance_cast", "cast_member", PerformanceCatalogRecord::getCast),
+        new CollectionTable("performance_crew", "crew_member", PerformanceCatalogRecord::getCrew),
+        new CollectionTable("performance_production_company", "company",
+            PerformanceCatalogRecord::getProductionCompany),
+        new CollectionTable("performance_agency", "agency", PerformanceCatalogRecord::getAgency),
+        new CollectionTable("performance_host", "host", PerformanceCatalogRecord::getHost),
+        new CollectionTable("performance_organizer", "organizer", PerformanceCatalogRecord::getOrganizer),
+        new CollectionTable("performance_price", "price", PerformanceCatalogRecord::getPrice),
+        new CollectionTable("performance_time", "time", PerformanceCatalogRecord::getTime)
+    );
+
+    private final PerformanceCatalogReader performanceCatalogReader;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PerformanceReadModelService performanceReadModelService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public PerformanceCatalogImporter(
+        PerformanceCatalogReader performanceCatalogReader,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PerformanceReadModelService performanceReadModelService,
+        PlatformTransactionManager transactionManager,
+        @Value("${performance.import.chunk-size:500}") int chunkSize
+    ) {
+        this.performanceCatalogReader = performanceCatalogReader;
+        this.jdbcTemplate = jdbcTemplate;
+        this.performanceReadModelService = performanceReadModelService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public PerformanceImportResult importCatalog(InputStream in, CatalogFormat format) throws IOException {
+        Progress progress = new Progress();
+        Iterator<PerformanceCatalogRecord> records = performanceCatalogReader.open(in, format);
+
+        // 외부 ID 기준으로 모아 같은 청크 안의 중복은 마지막 값만 저장한다
+        Map<String, PerformanceCatalogRecord> chunk = new LinkedHashMap<>();
+        while (true) {
+            PerformanceCatalogRecord record;
+            try {
+                if (!records.hasNext()) {
+                    break;
+                }
+                record = records.next();
+            } catch (RuntimeException e) {
+                flush(chunk, progress);
+                log.warn("공연 카탈로그 {}번째 항목을 읽지 못했습니다: {}", progress.total + 1, e.getMessage());
+                throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    (progress.total + 1) + "번째 공연을 읽을 수 없습니다. 앞의 공연은 저장되었으며 다시 가져오면 이어서 반영됩니다.");
+            }
+
+            progress.total++;
+            if (!record.isValid()) {
+                progress.skipped++;
+                continue;
+            }
+
+            chunk.put(record.getExternalId(), record);
+            if (chunk.size() >= chunkSize) {
+                flush(chunk, progress);
+            }
+        }
+        flush(chunk, progress);
+
+        PerformanceImportResult result = progress.toResult();
+        log.info("공연 카탈로그 가져오기 완료. 전체={}, 추가={}, 갱신={}, 건너뜀={}, 실패={}, 소요 시간={}ms, 초당 {}건",
+            result.getTotal(), result.getInserted(), result.getUpdated(), result.getSkipped(), result.getFailed(),
+            result.getElapsedMillis(), String.format("%.1f", result.getRecordsPerSecond()));
+        return result;
+    }
+
+    private void flush(Map<String, PerformanceCatalogRecord> chunk, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<PerformanceCatalogRecord> records = new ArrayList<>(chunk.values());
+        chunk.clear();
+
+        try {
+            Integer inserted = transactionTemplate.execute(status -> upsert(records));
+            int insertedCount = inserted != null ? inserted : 0;
+            progress.inserted += insertedCount;
+            progress.updated += records.size() - insertedCount;
+        } catch (Exception e) {
+            progress.failed += records.size();
+            log.error("공연 카탈로그 {}건 저장에 실패했습니다.", records.size(), e);
+        }
+
+        log.info("공연 카탈로그 가져오는 중. 읽음={}, 추가={}, 갱신={}, 초당 {}건", progress.total, progress.inserted,
+            progress.updated, String.format("%.1f", progress.recordsPerSecond()));
+    }
+
+    /**
+     * 새로 추가된 공연 수를 반환한다.
+     */
+    private int upsert(List<PerformanceCatalogRecord> records) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> existingIds = findIdsByExternalId(records);
+
+        List<SqlParameterSource> inserts = new ArrayList<>();
+        List<SqlParameterSource> updates = new ArrayList<>();
+        for (PerformanceCatalogRecord record : records) {
+            MapSqlParameterSource params = performanceParams(record, now);
+            if (existingIds.containsKey(record.getExternalId())) {
+                updates.add(params.addValue("id", existingIds.get(record.getExternalId())));
+            } else {
+                inserts.add(params);
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO performance (external_id, title, start_date, end_date, location, runtime, age, "
+                    + "poster_url, state, visit, group_count, favorite_count, created_at, updated_at) "
+                    + "VALUES (:externalId, :title, :startDate, :endDate, :location, :runtime, :age, "
+                    + ":poster, :state, :visit, 0, 0, :now, :now)",
+                inserts.toArray(SqlParameterSource[]::new));
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                "UPDATE performance SET title = :title, start_date = :startDate, end_date = :endDate, "
+                    + "location = :location, runtime = :runtime, age = :age, poster_url = :poster, state = :state, "
+                    + "visit = :visit, updated_at = :now WHERE performance_id = :id",
+                updates.toArray(SqlParameterSource[]::new));
+        }
+
+        // 새로 추가된 공연의 ID까지 다시 읽어 컬렉션 테이블을 채운다
+        Map<String, Long> ids = inserts.isEmpty() ? existingIds : findIdsByExternalId(records);
+        List<Long> performanceIds = new ArrayList<>(ids.values());
+
+        for (CollectionTable table : COLLECTION_TABLES) {
+            replaceCollection(table, records, ids, performanceIds);
+        }
+        replaceImages(records, ids, performanceIds, now);
+        performanceReadModelService.refresh(performanceIds);
+
+        return inserts.size();
+    }
+
+    private Map<String, Long> findIdsByExternalId(List<PerformanceCatalogRecord> records) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT performance_id, external_id FROM performance WHERE external_id IN (:externalIds)",
+            new MapSqlParameterSource("externalIds",
+                records.stream().map(PerformanceCatalogRecord::getExternalId).toList()),
+            rs -> {
+                ids.put(rs.getString("external_id"), rs.getLong("performance_id"));
+            });
+        return ids;
+    }
+
+    private void replaceCollection(CollectionTable table, List<PerformanceCatalogRecord> records,
+        Map<String, Long> ids, List<Long> performanceIds) {
+        jdbcTemplate.update("DELETE FROM " + table.name + " WHERE performance_id IN (:ids)",
+            new MapSqlParameterSource("ids", performanceIds));
+
+        List<SqlParameterSource> rows = new ArrayList<>();
+        for (PerformanceCatalogRecord record : records) {
+            List<String> values = table.values.apply(record);
+            for (int index = 0; index < values.size(); index++) {
+                rows.add(new MapSqlParameterSource()
+                    .addValue("performanceId", ids.get(record.getExternalId()))
+                    .addValue("orderIndex", index)
+                    .addValue("value", values.get(index)));
+            }
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO " + table.name + " (performance_id, order_index, " + table.column + ") "
+                    + "VALUES (:performanceId, :orderIndex, :value)",
+                rows.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    private void replaceImages(List<PerformanceCatalogRecord> records, Map<String, Long> ids,
+        List<Long> performanceIds, LocalDateTime now) {
+        jdbcTemplate.update("DELETE FROM performance_image WHERE performance_id IN (:ids)",
+            new MapSqlParameterSource("ids", performanceIds));
+
+        List<SqlParameterSource> rows = new ArrayList<>();
+        for (PerformanceCatalogRecord record : records) {
+            for (String src : record.getImages()) {
+                rows.add(new MapSqlParameterSource()
+                    .addValue("performanceId", ids.get(record.getExternalId()))
+                    .addValue("src", src)
+                    .addValue("alt", record.getTitle())
+                    .addValue("now", Timestamp.valueOf(now)));
+            }
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO performance_image (performance_id, src, alt, created_at, updated_at) "
+                    + "VALUES (:performanceId, :src, :alt, :now, :now)",
+                rows.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    private MapSqlParameterSource performanceParams(PerformanceCatalogRecord record, LocalDateTime now) {
+        return new MapSqlParameterSource()
+            .addValue("externalId", record.getExternalId())
+            .addValue("title", record.getTitle())
+            .addValue("startDate", Timestamp.valueOf(record.getStartDate()))
+            .addValue("endDate", Timestamp.valueOf(record.getEndDate()))
+            .addValue("location", record.getLocation())
+            .addValue("runtime", record.getRuntime())
+            .addValue("age", record.getAge())
+            .addValue("poster", record.getPoster())
+            .addValue("state", stateOf(record, now).name())
+            .addValue("visit", record.getVisit())
+            .addValue("now", Timestamp.valueOf(now));
+    }
+
+    /**
+     * Performance.updateState 와 같은 기준
+     */
+    private PerformanceState stateOf(PerformanceCatalogRecord record, LocalDateTime now) {
+        if (now.isBefore(record.getStartDate())) {
+            return PerformanceState.UPCOMING;
+        } else if (now.isAfter(record.getEndDate())) {
+            return PerformanceState.COMPLETED;
+        }
+        return PerformanceState.ONGOING;
+    }
+
+    private static class CollectionTable {
+
+        private final String name;
+        private final String column;
+        private final Function<PerformanceCatalogRecord, List<String>> values;
+
+        private CollectionTable(String name, String column,
+            Function<PerformanceCatalogRecord, List<String>> values) {
+            this.name = name;
+            this.column = column;
+            this.values = values;
+        }
+    }
+
+    private static class Progress {
+
+        private final long startedAt = System.currentTimeMillis();
+        private long total;
+        private long inserted;
+        private long updated;
+        private long skipped;
+        private long failed;
+
+        private double recordsPerSecond() {
+            long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+            return total * 1000.0 / elapsed;
+        }
+
+        private PerformanceImportResult toResult() {
+            return PerformanceImportResult.builder()
+                .total(total)
+                .inserted(inserted)
+                .updated(updated)
+                .skipped(skipped)
+                .failed(failed)
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .recordsPerSecond(recordsPerSecond())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package site.festifriends.domain.performance.importer;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 파일을 공연 단위로 읽는다.
+ * 파일 전체를 메모리에 올리지 않고 next() 를 호출할 때마다 다음 공연 하나만 파싱한다.
+ * - JSON: 공연 객체 배열
+ * - CSV: 첫 줄은 헤더, 목록 값은 '|' 로 구분
+ */
+@Component
+public class PerformanceCatalogReader {
+
+    private static final String LIST_DELIMITER = "\\|";
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    public PerformanceCatalogReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Iterator<PerformanceCatalogRecord> open(InputStream in, CatalogFormat format) throws IOException {
+        if (format == CatalogFormat.CSV) {
+            MappingIterator<Map<String, String>> rows = csvMapper
+                .readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(in);
+
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return rows.hasNext();
+                }
+
+                @Override
+                public PerformanceCatalogRecord next() {
+                    return toRecord(rows.next());
+                }
+            };
+        }
+
+        return objectMapper.readerFor(PerformanceCatalogRecord.class).readValues(in);
+    }
+
+    private PerformanceCatalogRecord toRecord(Map<String, String> row) {
+        PerformanceCatalogRecord record = new PerformanceCatalogRecord();
+        record.setExternalId(row.get("externalId"));
+        record.setTitle(row.get("title"));
+        record.setStartDate(toDateTime(row.get("startDate")));
+        record.setEndDate(toDateTime(row.get("endDate")));
+        record.setLocation(row.get("location"));
+        record.setRuntime(row.get("runtime"));
+        record.setAge(row.get("age"));
+        record.setPoster(row.get("poster"));
+        record.setVisit(row.get("visit"));
+        record.setCast(toList(row.get("cast")));
+        record.setCrew(toList(row.get("crew")));
+        record.setProductionCompany(toList(row.get("productionCompany")));
+        record.setAgency(toList(row.get("agency")));
+        record.setHost(toList(row.get("host")));
+        record.setOrganizer(toList(row.get("organizer")));
+        record.setPrice(toList(row.get("price")));
+        record.setTime(toList(row.get("time")));
+        record.setImages(toList(row.get("images")));
+        return record;
+    }
+
+    private LocalDateTime toDateTime(String value) {
+        return value != null && !value.isBlank() ? LocalDateTime.parse(value.trim()) : null;
+    }
+
+    private List<String> toList(String value) {
+        if (value == null || value.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        return new ArrayList<>(Arrays.stream(value.split(LIST_DELIMITER))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .toList());
+    }
+}
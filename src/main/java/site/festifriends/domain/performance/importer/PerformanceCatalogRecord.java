@@ -0,0 +1,46 @@
+package site.festifriends.domain.performance.importer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 카탈로그 파일의 공연 한 건
+ * JSON 은 필드 이름 그대로, CSV 는 같은 이름의 헤더를 사용하고 목록 값은 '|' 로 구분한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PerformanceCatalogRecord {
+
+    private String externalId;     // 외부 공연 ID (다시 가져올 때 같은 공연을 찾는 기준)
+    private String title;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String location;
+    private String runtime;
+    private String age;
+    private String poster;
+    private String visit;
+    private List<String> cast = new ArrayList<>();
+    private List<String> crew = new ArrayList<>();
+    private List<String> productionCompany = new ArrayList<>();
+    private List<String> agency = new ArrayList<>();
+    private List<String> host = new ArrayList<>();
+    private List<String> organizer = new ArrayList<>();
+    private List<String> price = new ArrayList<>();
+    private List<String> time = new ArrayList<>();
+    private List<String> images = new ArrayList<>();   // 소개 이미지 URL
+
+    public boolean isValid() {
+        return hasText(externalId) && hasText(title) && hasText(location) && hasText(visit)
+            && startDate != null && endDate != null && !endDate.isBefore(startDate);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,17 @@
+package site.festifriends.domain.performance.importer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PerformanceImportResult {
+
+    private long total;             // 읽은 공연 수
+    private long inserted;          // 새로 추가된 공연 수
+    private long updated;           // 외부 ID가 같아 갱신된 공연 수
+    private long skipped;           // 필수 값이 없어 건너뛴 공연 수
+    private long failed;            // 저장에 실패한 공연 수
+    private long elapsedMillis;     // 소요 시간
+    private double recordsPerSecond; // 초당 처리 건수
+}
@@ -0,0 +1,15 @@
+package site.festifriends.domain.performance.leaderboard;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardEntry {
+
+    private final Long performanceId;
+    private final int count;
+    private final LocalDateTime startDate;
+    private final String title;
+}
@@ -0,0 +1,13 @@
+package site.festifriends.domain.performance.leaderboard;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum LeaderboardType {
+    FAVORITE("favorite_count"),
+    GROUP("group_count");
+
+    private final String countColumn;
+}
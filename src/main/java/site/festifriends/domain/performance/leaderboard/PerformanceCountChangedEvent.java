@@ -0,0 +1,15 @@
+package site.festifriends.domain.performance.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공연의 찜 수 또는 모임 수가 바뀌었을 때 발행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PerformanceCountChangedEvent {
+
+    private final Long performanceId;
+    private final LeaderboardType type;
+}
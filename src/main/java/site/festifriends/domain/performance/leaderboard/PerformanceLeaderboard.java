@@ -0,0 +1,96 @@
+package site.festifriends.domain.performance.leaderboard;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다가오는 공연의 찜 수/모임 수 순위 (홈 화면 TOP 목록)
+ * 순위는 모든 사용자에게 같으므로 poolSize 만큼만 메모리에 두고, 바뀔 때마다 새 불변 리스트로 교체한다.
+ * 조회는 현재 리스트를 읽기만 하므로 락이 없고, 갱신은 한 번에 하나씩만 처리한다.
+ * 순위 밖의 공연이 순위 안 공연을 앞지르는 경우는 다음 전체 재계산에서 맞춰진다.
+ */
+@Component
+public class PerformanceLeaderboard {
+
+    private static final Comparator<LeaderboardEntry> RANKING = Comparator
+        .comparingInt(LeaderboardEntry::getCount).reversed()
+        .thenComparing(LeaderboardEntry::getStartDate)
+        .thenComparing(LeaderboardEntry::getTitle)
+        .thenComparing(LeaderboardEntry::getPerformanceId);
+
+    private final int poolSize;
+    private final Map<LeaderboardType, AtomicReference<List<LeaderboardEntry>>> boards =
+        new EnumMap<>(LeaderboardType.class);
+
+    private volatile boolean ready;
+
+    public PerformanceLeaderboard(@Value("${performance.leaderboard.pool-size:50}") int poolSize) {
+        this.poolSize = poolSize;
+        for (LeaderboardType type : LeaderboardType.values()) {
+            boards.put(type, new AtomicReference<>(List.of()));
+        }
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 아직 시작하지 않은 공연 ID를 순위대로 반환한다.
+     * 순위를 만들기 전이거나, 그 사이 공연이 시작되어 메모리의 순위만으로 limit 를 채울 수 없으면 empty
+     */
+    public Optional<List<Long>> top(LeaderboardType type, int limit, LocalDateTime now) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        List<LeaderboardEntry> entries = boards.get(type).get();
+        List<Long> ids = entries.stream()
+            .filter(entry -> entry.getStartDate().isAfter(now))
+            .limit(limit)
+            .map(LeaderboardEntry::getPerformanceId)
+            .toList();
+
+        if (ids.size() < limit && entries.size() >= poolSize) {
+            return Optional.empty();
+        }
+        return Optional.of(ids);
+    }
+
+    public synchronized void replaceAll(Map<LeaderboardType, List<LeaderboardEntry>> entriesByType) {
+        entriesByType.forEach((type, entries) -> boards.get(type).set(rank(new ArrayList<>(entries))));
+        ready = true;
+    }
+
+    /**
+     * 공연 하나의 집계값을 반영한다. entry 가 null 이면(삭제되었거나 이미 시작한 공연) 순위에서 뺀다.
+     */
+    public synchronized void update(LeaderboardType type, Long performanceId, LeaderboardEntry entry) {
+        AtomicReference<List<LeaderboardEntry>> board = boards.get(type);
+
+        List<LeaderboardEntry> next = new ArrayList<>(board.get());
+        next.removeIf(existing -> existing.getPerformanceId().equals(performanceId));
+        if (entry != null) {
+            next.add(entry);
+        }
+
+        board.set(rank(next));
+    }
+
+    private List<LeaderboardEntry> rank(List<LeaderboardEntry> entries) {
+        entries.sort(RANKING);
+        return List.copyOf(entries.subList(0, Math.min(entries.size(), poolSize)));
+    }
+}
@@ -0,0 +1,122 @@
+package site.festifriends.domain.performance.leaderboard;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공연 순위를 DB와 맞춘다.
+ * - 서버가 뜰 때와 주기적으로 전체 순위를 다시 만든다. (공연 상태 갱신, 집계값 보정 이후에도 호출된다)
+ * - 찜/모임 수가 바뀌면 커밋 이후 해당 공연 한 건만 다시 읽어 반영한다.
+ * 집계 컬럼은 JPQL 벌크 연산으로 증감되어 영속성 컨텍스트의 엔티티에는 반영되지 않으므로 JDBC로 직접 읽는다.
+ */
+@Slf4j
+@Component
+public class PerformanceLeaderboardUpdater {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PerformanceLeaderboard performanceLeaderboard;
+
+    // 늦게 읽은 값이 먼저 읽은 값을 덮어쓰지 않도록 조회와 반영을 함께 묶는다
+    // 잠근 채로 DB를 조회하므로 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock 을 쓴다
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public PerformanceLeaderboardUpdater(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PerformanceLeaderboard performanceLeaderboard
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.performanceLeaderboard = performanceLeaderboard;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${performance.leaderboard.rebuild-cron:0 */10 * * * *}")
+    public void rebuild() {
+        try {
+            lock.lock();
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                Map<LeaderboardType, List<LeaderboardEntry>> entriesByType = new EnumMap<>(LeaderboardType.class);
+                for (LeaderboardType type : LeaderboardType.values()) {
+                    entriesByType.put(type, findTopEntries(type, now));
+                }
+                performanceLeaderboard.replaceAll(entriesByType);
+            } finally {
+                lock.unlock();
+            }
+            log.debug("공연 순위를 다시 만들었습니다.");
+        } catch (Exception e) {
+            log.error("공연 순위 생성 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountChanged(PerformanceCountChangedEvent event) {
+        if (!performanceLeaderboard.isReady()) {
+            return;
+        }
+
+        try {
+            lock.lock();
+            try {
+                LeaderboardEntry entry = findEntry(event.getType(), event.getPerformanceId(), LocalDateTime.now());
+                performanceLeaderboard.update(event.getType(), event.getPerformanceId(), entry);
+            } finally {
+                lock.unlock();
+            }
+        } catch (Exception e) {
+            // 반영하지 못한 변경은 다음 전체 재계산에서 맞춰진다
+            log.warn("공연 순위 갱신에 실패했습니다. performanceId={}, type={}: {}",
+                event.getPerformanceId(), event.getType(), e.getMessage());
+        }
+    }
+
+    private List<LeaderboardEntry> findTopEntries(LeaderboardType type, LocalDateTime now) {
+        String column = type.getCountColumn();
+
+        return jdbcTemplate.query(
+            "SELECT performance_id, " + column + " AS score, start_date, title FROM performance "
+                + "WHERE deleted IS NULL AND start_date > :now "
+                + "ORDER BY " + column + " DESC, start_date, title, performance_id LIMIT :limit",
+            new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("limit", performanceLeaderboard.getPoolSize()),
+            (rs, rowNum) -> toEntry(rs));
+    }
+
+    private LeaderboardEntry findEntry(LeaderboardType type, Long performanceId, LocalDateTime now) {
+        List<LeaderboardEntry> entries = jdbcTemplate.query(
+            "SELECT performance_id, " + type.getCountColumn() + " AS score, start_date, title FROM performance "
+                + "WHERE performance_id = :performanceId AND deleted IS NULL AND start_date > :now",
+            new MapSqlParameterSource()
+                .addValue("performanceId", performanceId)
+                .addValue("now", now),
+            (rs, rowNum) -> toEntry(rs));
+
+        return entries.isEmpty() ? null : entries.get(0);
+    }
+
+    private LeaderboardEntry toEntry(ResultSet rs) throws SQLException {
+        return new LeaderboardEntry(
+            rs.getLong("performance_id"),
+            rs.getInt("score"),
+            rs.getTimestamp("start_date").toLocalDateTime(),
+            rs.getString("title"));
+    }
+}
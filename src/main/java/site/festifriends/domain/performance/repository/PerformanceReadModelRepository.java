@@ -0,0 +1,9 @@
+package site.festifriends.domain.performance.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import site.festifriends.entity.PerformanceReadModel;
+
+public interface PerformanceReadModelRepository extends JpaRepository<PerformanceReadModel, Long>,
+    PerformanceReadModelRepositoryCustom {
+
+}
@@ -0,0 +1,11 @@
+package site.festifriends.domain.performance.repository;
+
+import java.util.List;
+import site.festifriends.entity.PerformanceReadModel;
+
+public interface PerformanceReadModelRepositoryCustom {
+
+    void upsertAll(List<PerformanceReadModel> readModels);
+
+    List<Long> findStaleIds(long fromId, long toId);
+}
@@ -0,0 +1,90 @@
+package site.festifriends.domain.performance.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import site.festifriends.entity.PerformanceReadModel;
+
+@Repository
+@RequiredArgsConstructor
+public class PerformanceReadModelRepositoryImpl implements PerformanceReadModelRepositoryCustom {
+
+    private static final String UPDATE_SQL = "UPDATE performance_read_model SET content = :content, "
+        + "source_updated_at = :sourceUpdatedAt, updated_at = :now "
+        + "WHERE performance_id = :performanceId AND source_updated_at <= :sourceUpdatedAt";
+
+    private static final String INSERT_SQL = "INSERT INTO performance_read_model "
+        + "(performance_id, content, source_updated_at, created_at, updated_at) "
+        + "VALUES (:performanceId, :content, :sourceUpdatedAt, :now, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 있는 행은 갱신하고 없는 행은 추가한다.
+     * 더 최신 공연 데이터로 만든 행은 덮어쓰지 않으며, 다른 트랜잭션이 먼저 추가했으면 갱신으로 다시 시도한다.
+     */
+    @Override
+    public void upsertAll(List<PerformanceReadModel> readModels) {
+        if (readModels.isEmpty()) {
+            return;
+        }
+
+        Set<Long> existingIds = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT performance_id FROM performance_read_model WHERE performance_id IN (:ids)",
+            new MapSqlParameterSource("ids", readModels.stream().map(PerformanceReadModel::getPerformanceId).toList()),
+            Long.class));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] updates = readModels.stream()
+            .filter(readModel -> existingIds.contains(readModel.getPerformanceId()))
+            .map(readModel -> params(readModel, now))
+            .toArray(SqlParameterSource[]::new);
+        SqlParameterSource[] inserts = readModels.stream()
+            .filter(readModel -> !existingIds.contains(readModel.getPerformanceId()))
+            .map(readModel -> params(readModel, now))
+            .toArray(SqlParameterSource[]::new);
+
+        if (updates.length > 0) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (inserts.length > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, inserts);
+            }
+        }
+    }
+
+    /**
+     * ID 범위 안에서 읽기 모델이 없거나 공연이 읽기 모델보다 나중에 수정된 공연 ID를 찾는다.
+     */
+    @Override
+    public List<Long> findStaleIds(long fromId, long toId) {
+        return jdbcTemplate.queryForList(
+            "SELECT p.performance_id FROM performance p "
+                + "LEFT JOIN performance_read_model r ON r.performance_id = p.performance_id "
+                + "WHERE p.performance_id BETWEEN :fromId AND :toId AND p.deleted IS NULL "
+                + "AND (r.performance_id IS NULL OR p.updated_at > r.source_updated_at)",
+            new MapSqlParameterSource()
+                .addValue("fromId", fromId)
+                .addValue("toId", toId),
+            Long.class);
+    }
+
+    private MapSqlParameterSource params(PerformanceReadModel readModel, Timestamp now) {
+        return new MapSqlParameterSource()
+            .addValue("performanceId", readModel.getPerformanceId())
+            .addValue("content", readModel.getContent())
+            .addValue("sourceUpdatedAt", Timestamp.valueOf(readModel.getSourceUpdatedAt()))
+            .addValue("now", now);
+    }
+}
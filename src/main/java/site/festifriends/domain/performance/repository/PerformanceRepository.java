@@ -1,8 +1,58 @@
 package site.festifriends.domain.performance.repository;
 
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.festifriends.entity.Performance;
+import site.festifriends.entity.enums.BookmarkType;
+import site.festifriends.entity.enums.PerformanceState;
 
 public interface PerformanceRepository extends JpaRepository<Performance, Long>, PerformanceRepositoryCustom {
 
+    /**
+     * 집계값은 DB에서 직접 더하고 빼므로 동시에 요청이 들어와도 증감이 유실되지 않는다.
+     */
+    @Modifying
+    @Query("UPDATE Performance p SET p.groupCount = p.groupCount + 1 WHERE p.id = :performanceId")
+    int increaseGroupCount(@Param("performanceId") Long performanceId);
+
+    @Modifying
+    @Query("UPDATE Performance p SET p.groupCount = p.groupCount - 1 WHERE p.id = :performanceId AND p.groupCount > 0")
+    int decreaseGroupCount(@Param("performanceId") Long performanceId);
+
+    @Modifying
+    @Query("UPDATE Performance p SET p.favoriteCount = p.favoriteCount + 1 WHERE p.id = :performanceId")
+    int increaseFavoriteCount(@Param("performanceId") Long performanceId);
+
+    @Modifying
+    @Query("UPDATE Performance p SET p.favoriteCount = p.favoriteCount - 1 WHERE p.id = :performanceId AND p.favoriteCount > 0")
+    int decreaseFavoriteCount(@Param("performanceId") Long performanceId);
+
+    /**
+     * 집계값을 실제 모임/찜 수로 다시 맞춘다. 락을 오래 잡지 않도록 ID 범위 단위로 나눠 호출한다.
+     */
+    @Modifying
+    @Query("UPDATE Performance p SET p.groupCount = "
+        + "(SELECT CAST(COUNT(g) AS Integer) FROM Group g WHERE g.performance.id = p.id AND g.deleted IS NULL) "
+        + "WHERE p.id BETWEEN :fromId AND :toId")
+    int reconcileGroupCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("UPDATE Performance p SET p.favoriteCount = "
+        + "(SELECT CAST(COUNT(b) AS Integer) FROM Bookmark b WHERE b.type = :type AND b.targetId = p.id) "
+        + "WHERE p.id BETWEEN :fromId AND :toId")
+    int reconcileFavoriteCounts(@Param("fromId") Long fromId, @Param("toId") Long toId,
+        @Param("type") BookmarkType type);
+
+    /**
+     * 이미 같은 상태인 공연은 다시 쓰지 않는다.
+     */
+    @Modifying
+    @Query("UPDATE Performance p SET p.state = :state WHERE p.id IN :ids AND p.state <> :state")
+    int updateStates(@Param("ids") Collection<Long> ids, @Param("state") PerformanceState state);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Performance p")
+    long findMaxId();
 }
@@ -1,23 +1,35 @@
 package site.festifriends.domain.performance.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import site.festifriends.domain.performance.dto.PerformanceFacetResponse;
+import site.festifriends.domain.performance.dto.PerformanceSearchCursor;
 import site.festifriends.domain.performance.dto.PerformanceSearchRequest;
+import site.festifriends.domain.performance.dto.PerformanceVersion;
 import site.festifriends.entity.Performance;
+import site.festifriends.entity.enums.PerformanceState;
 
 public interface PerformanceRepositoryCustom {
 
     Page<Performance> searchPerformancesWithPaging(PerformanceSearchRequest request, Pageable pageable);
 
-    Map<Long, Long> findGroupCountsByPerformanceIds(List<Long> performanceIds);
+    Page<Performance> searchPerformancesWithPaging(PerformanceSearchRequest request, Collection<Long> candidateIds,
+        Pageable pageable);
 
-    Map<Long, Long> findFavoriteCountsByPerformanceIds(List<Long> performanceIds);
+    List<Performance> searchPerformancesWithCursor(PerformanceSearchRequest request, Collection<Long> candidateIds,
+        PerformanceSearchCursor cursor, int limit);
 
-    Map<Long, Integer> getGroupCountsByPerformanceIds(List<Long> performanceIds);
+    long countPerformances(PerformanceSearchRequest request, Collection<Long> candidateIds);
 
-    Map<Long, Boolean> findIsLikedByPerformanceIds(List<Long> performanceIds, Long memberId);
+    PerformanceFacetResponse findFacetCounts(PerformanceSearchRequest request, Collection<Long> candidateIds);
+
+    Optional<PerformanceVersion> findVersion(Long performanceId);
+
+    List<Long> findIdsToTransition(PerformanceState target, LocalDateTime since, LocalDateTime now);
 
     List<Performance> findTopFavoriteUpcomingPerformances(int limit);
 
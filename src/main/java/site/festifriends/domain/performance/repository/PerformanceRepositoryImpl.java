@@ -1,63 +1,71 @@
 package site.festifriends.domain.performance.repository;
 
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import site.festifriends.domain.performance.dto.PerformanceFacetCount;
+import site.festifriends.domain.performance.dto.PerformanceFacetResponse;
+import site.festifriends.domain.performance.dto.PerformanceSearchCursor;
 import site.festifriends.domain.performance.dto.PerformanceSearchRequest;
+import site.festifriends.domain.performance.dto.PerformanceVersion;
 import site.festifriends.entity.Performance;
-import site.festifriends.entity.QBookmark;
-import site.festifriends.entity.QGroup;
 import site.festifriends.entity.QPerformance;
-import site.festifriends.entity.QPerformanceImage;
-import site.festifriends.entity.enums.BookmarkType;
+import site.festifriends.entity.enums.PerformanceState;
 
 @Repository
 @RequiredArgsConstructor
 public class PerformanceRepositoryImpl implements PerformanceRepositoryCustom {
 
+    private static final Comparator<PerformanceFacetCount> FACET_COUNT_ORDER = Comparator
+        .comparing(PerformanceFacetCount::getCount, Comparator.reverseOrder())
+        .thenComparing(PerformanceFacetCount::getValue);
+
     private final JPAQueryFactory queryFactory;
 
     @Override
     public Page<Performance> searchPerformancesWithPaging(PerformanceSearchRequest request, Pageable pageable) {
-        String sort = request.getSort();
+        return searchPerformancesWithPaging(request, null, pageable);
+    }
 
-        if ("group_count_desc".equals(sort) || "group_count_asc".equals(sort)) {
-            return searchPerformancesWithGroupCountSorting(request, pageable);
-        } else if ("favorite_count_desc".equals(sort) || "favorite_count_asc".equals(sort)) {
-            return searchPerformancesWithFavoriteCountSorting(request, pageable);
+    /**
+     * candidateIds 가 주어지면 검색 인덱스에서 이미 검색어로 걸러낸 결과이므로 LIKE 조건 대신 ID 조건만 건다.
+     */
+    @Override
+    public Page<Performance> searchPerformancesWithPaging(PerformanceSearchRequest request,
+        Collection<Long> candidateIds, Pageable pageable) {
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
         }
 
         QPerformance p = QPerformance.performance;
-        QPerformanceImage pi = QPerformanceImage.performanceImage;
 
+        // 이미지 등 컬렉션은 읽기 모델에서 가져오므로 fetch join 하지 않는다 (DB에서 페이징된다)
         JPAQuery<Performance> query = queryFactory
             .selectFrom(p)
-            .leftJoin(p.imgs, pi).fetchJoin()
-            .where(
-                titleContains(request.getTitle()),
-                locationContains(request.getLocation()),
-                visitEquals(request.getVisit()),
-                isExpiredFilter(request.getIsExpired()),
-                dateRangeFilter(request.getStartDate(), request.getEndDate()),
-                notDeleted()
-            )
-            .distinct();
+            .where(searchConditions(request, candidateIds));
 
         // 정렬 적용
         query = applySorting(query, request.getSort());
 
         // 전체 개수 조회
-        long total = query.fetchCount();
+        long total = countPerformances(request, candidateIds);
 
         // 페이징 적용하여 결과 조회
         List<Performance> performances = query
@@ -68,222 +76,175 @@ public class PerformanceRepositoryImpl implements PerformanceRepositoryCustom {
         return new PageImpl<>(performances, pageable, total);
     }
 
-    private Page<Performance> searchPerformancesWithGroupCountSorting(PerformanceSearchRequest request,
-        Pageable pageable) {
-        QPerformance p = QPerformance.performance;
-        QGroup g = QGroup.group;
-        QPerformanceImage pi = QPerformanceImage.performanceImage;
-
-        JPAQuery<Tuple> countQuery = queryFactory
-            .select(p.id, g.count().as("groupCount"))
-            .from(p)
-            .leftJoin(g).on(g.performance.id.eq(p.id).and(g.deleted.isNull()))
-            .where(
-                titleContains(request.getTitle()),
-                locationContains(request.getLocation()),
-                visitEquals(request.getVisit()),
-                isExpiredFilter(request.getIsExpired()),
-                dateRangeFilter(request.getStartDate(), request.getEndDate()),
-                notDeleted()
-            )
-            .groupBy(p.id);
-
-        boolean isDesc = "group_count_desc".equals(request.getSort());
-        if (isDesc) {
-            countQuery = countQuery.orderBy(g.count().desc(), p.title.asc());
-        } else {
-            countQuery = countQuery.orderBy(g.count().asc(), p.title.asc());
-        }
-
-        long total = countQuery.fetchCount();
-
-        List<Tuple> results = countQuery
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
-
-        if (results.isEmpty()) {
-            return new PageImpl<>(List.of(), pageable, total);
+    /**
+     * 커서 이후의 공연을 limit 개까지 조회한다. (다음 항목 여부는 호출 측에서 limit + 1 로 판단)
+     * 정렬 키가 같은 공연은 ID로 순서를 고정하므로 페이지 사이에 중복이나 누락이 없다.
+     */
+    @Override
+    public List<Performance> searchPerformancesWithCursor(PerformanceSearchRequest request,
+        Collection<Long> candidateIds, PerformanceSearchCursor cursor, int limit) {
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return List.of();
         }
 
-        List<Long> performanceIds = results.stream()
-            .map(tuple -> tuple.get(p.id))
-            .collect(Collectors.toList());
+        QPerformance p = QPerformance.performance;
+        String sort = PerformanceSearchCursor.normalizeSort(request.getSort());
 
-        List<Performance> performances = queryFactory
+        return queryFactory
             .selectFrom(p)
-            .leftJoin(p.imgs, pi).fetchJoin()
-            .where(p.id.in(performanceIds))
-            .distinct()
+            .where(searchConditions(request, candidateIds))
+            .where(seekCondition(sort, cursor))
+            .orderBy(cursorOrders(sort))
+            .limit(limit)
             .fetch();
-
-        Map<Long, Performance> performanceMap = performances.stream()
-            .collect(Collectors.toMap(Performance::getId, performance -> performance));
-
-        List<Performance> sortedPerformances = performanceIds.stream()
-            .map(performanceMap::get)
-            .filter(performance -> performance != null)
-            .collect(Collectors.toList());
-
-        return new PageImpl<>(sortedPerformances, pageable, total);
     }
 
-    private Page<Performance> searchPerformancesWithFavoriteCountSorting(PerformanceSearchRequest request,
-        Pageable pageable) {
+    @Override
+    public long countPerformances(PerformanceSearchRequest request, Collection<Long> candidateIds) {
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return 0L;
+        }
+
         QPerformance p = QPerformance.performance;
-        QBookmark b = QBookmark.bookmark;
-        QPerformanceImage pi = QPerformanceImage.performanceImage;
 
-        JPAQuery<Tuple> countQuery = queryFactory
-            .select(p.id, b.count().as("favoriteCount"))
+        Long count = queryFactory
+            .select(p.count())
             .from(p)
-            .leftJoin(b).on(b.type.eq(BookmarkType.PERFORMANCE).and(b.targetId.eq(p.id)))
-            .where(
-                titleContains(request.getTitle()),
-                locationContains(request.getLocation()),
-                visitEquals(request.getVisit()),
-                isExpiredFilter(request.getIsExpired()),
-                dateRangeFilter(request.getStartDate(), request.getEndDate()),
-                notDeleted()
-            )
-            .groupBy(p.id);
-
-        boolean isDesc = "favorite_count_desc".equals(request.getSort());
-        if (isDesc) {
-            countQuery = countQuery.orderBy(b.count().desc(), p.title.asc());
-        } else {
-            countQuery = countQuery.orderBy(b.count().asc(), p.title.asc());
-        }
+            .where(searchConditions(request, candidateIds))
+            .fetchOne();
 
-        long total = countQuery.fetchCount();
-
-        List<Tuple> results = countQuery
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
+        return count != null ? count : 0L;
+    }
 
-        if (results.isEmpty()) {
-            return new PageImpl<>(List.of(), pageable, total);
+    /**
+     * 현재 검색 조건에 맞는 공연을 지역, 국내/내한, 상태, 시작 월별로 센다.
+     * 값마다 검색을 따로 호출하지 않도록 필터마다 GROUP BY 한 번으로 집계한다.
+     * 지역은 주소 전체로 묶은 뒤 첫 단어(시/도) 기준으로 합친다.
+     */
+    @Override
+    public PerformanceFacetResponse findFacetCounts(PerformanceSearchRequest request,
+        Collection<Long> candidateIds) {
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return PerformanceFacetResponse.builder()
+                .totalElements(0L)
+                .locations(List.of())
+                .visits(List.of())
+                .states(List.of())
+                .startMonths(List.of())
+                .build();
         }
 
-        List<Long> performanceIds = results.stream()
-            .map(tuple -> tuple.get(p.id))
-            .collect(Collectors.toList());
-
-        List<Performance> performances = queryFactory
-            .selectFrom(p)
-            .leftJoin(p.imgs, pi).fetchJoin()
-            .where(p.id.in(performanceIds))
-            .distinct()
-            .fetch();
+        QPerformance p = QPerformance.performance;
+        Predicate[] conditions = searchConditions(request, candidateIds);
 
-        Map<Long, Performance> performanceMap = performances.stream()
-            .collect(Collectors.toMap(Performance::getId, performance -> performance));
+        Map<String, Long> locationCounts = new HashMap<>();
+        queryFactory
+            .select(p.location, p.count())
+            .from(p)
+            .where(conditions)
+            .groupBy(p.location)
+            .fetch()
+            .forEach(tuple -> locationCounts.merge(region(tuple.get(p.location)), tuple.get(p.count()), Long::sum));
 
-        List<Performance> sortedPerformances = performanceIds.stream()
-            .map(performanceMap::get)
-            .filter(performance -> performance != null)
+        List<PerformanceFacetCount> visits = queryFactory
+            .select(p.visit, p.count())
+            .from(p)
+            .where(conditions)
+            .groupBy(p.visit)
+            .fetch()
+            .stream()
+            .map(tuple -> new PerformanceFacetCount(tuple.get(p.visit), tuple.get(p.count())))
+            .sorted(FACET_COUNT_ORDER)
             .collect(Collectors.toList());
 
-        return new PageImpl<>(sortedPerformances, pageable, total);
-    }
-
-    @Override
-    public Map<Long, Long> findGroupCountsByPerformanceIds(List<Long> performanceIds) {
-        QGroup g = QGroup.group;
+        List<PerformanceFacetCount> states = queryFactory
+            .select(p.state, p.count())
+            .from(p)
+            .where(conditions)
+            .groupBy(p.state)
+            .orderBy(p.state.asc())
+            .fetch()
+            .stream()
+            .map(tuple -> new PerformanceFacetCount(tuple.get(p.state).name(), tuple.get(p.count())))
+            .collect(Collectors.toList());
 
-        List<Object[]> results = queryFactory
-            .select(g.performance.id, g.count())
-            .from(g)
-            .where(
-                g.performance.id.in(performanceIds),
-                g.deleted.isNull()
-            )
-            .groupBy(g.performance.id)
+        List<PerformanceFacetCount> startMonths = queryFactory
+            .select(p.startDate.year(), p.startDate.month(), p.count())
+            .from(p)
+            .where(conditions)
+            .groupBy(p.startDate.year(), p.startDate.month())
+            .orderBy(p.startDate.year().asc(), p.startDate.month().asc())
             .fetch()
             .stream()
-            .map(tuple -> new Object[]{tuple.get(g.performance.id), tuple.get(g.count())})
+            .map(tuple -> new PerformanceFacetCount(
+                String.format("%04d-%02d", tuple.get(p.startDate.year()), tuple.get(p.startDate.month())),
+                tuple.get(p.count())))
             .collect(Collectors.toList());
 
-        return results.stream()
-            .collect(Collectors.toMap(
-                result -> (Long) result[0],
-                result -> (Long) result[1]
-            ));
-    }
+        List<PerformanceFacetCount> locations = locationCounts.entrySet().stream()
+            .map(entry -> new PerformanceFacetCount(entry.getKey(), entry.getValue()))
+            .sorted(FACET_COUNT_ORDER)
+            .collect(Collectors.toList());
 
-    @Override
-    public Map<Long, Integer> getGroupCountsByPerformanceIds(List<Long> performanceIds) {
-        List<Tuple> result = queryFactory
-            .select(QGroup.group.performance.id, QGroup.group.count())
-            .from(QGroup.group)
-            .where(
-                QGroup.group.performance.id.in(performanceIds),
-                QGroup.group.deleted.isNull()
-            )
-            .groupBy(QGroup.group.performance.id)
-            .fetch();
+        long total = visits.stream().mapToLong(PerformanceFacetCount::getCount).sum();
 
-        Map<Long, Integer> map = performanceIds.stream()
-            .collect(Collectors.toMap(id -> id, count -> 0));
+        return PerformanceFacetResponse.builder()
+            .totalElements(total)
+            .locations(locations)
+            .visits(visits)
+            .states(states)
+            .startMonths(startMonths)
+            .build();
+    }
 
-        for (Tuple tuple : result) {
-            Long id = tuple.get(QGroup.group.performance.id);
-            Integer count = tuple.get(QGroup.group.count()).intValue();
-            map.put(id, count);
-        }
-        return map;
+    private String region(String location) {
+        String trimmed = location != null ? location.trim() : "";
+        int space = trimmed.indexOf(' ');
+        return space > 0 ? trimmed.substring(0, space) : trimmed;
     }
 
+    /**
+     * 엔티티를 불러오지 않고 버전 값만 조회한다. (벌크 갱신된 집계값도 DB 값 그대로 읽는다)
+     */
     @Override
-    public Map<Long, Long> findFavoriteCountsByPerformanceIds(List<Long> performanceIds) {
-        QBookmark b = QBookmark.bookmark;
-
-        List<Object[]> results = queryFactory
-            .select(b.targetId, b.count())
-            .from(b)
-            .where(
-                b.type.eq(BookmarkType.PERFORMANCE),
-                b.targetId.in(performanceIds)
-            )
-            .groupBy(b.targetId)
-            .fetch()
-            .stream()
-            .map(tuple -> new Object[]{tuple.get(b.targetId), tuple.get(b.count())})
-            .collect(Collectors.toList());
+    public Optional<PerformanceVersion> findVersion(Long performanceId) {
+        QPerformance p = QPerformance.performance;
 
-        return results.stream()
-            .collect(Collectors.toMap(
-                result -> (Long) result[0],
-                result -> (Long) result[1]
-            ));
-    }
+        Tuple tuple = queryFactory
+            .select(p.updatedAt, p.state, p.favoriteCount, p.groupCount)
+            .from(p)
+            .where(p.id.eq(performanceId))
+            .fetchOne();
 
-    @Override
-    public Map<Long, Boolean> findIsLikedByPerformanceIds(List<Long> performanceIds, Long memberId) {
-        if (memberId == null) {
-            // 로그인하지 않은 경우 모든 공연에 대해 false 반환
-            return performanceIds.stream()
-                .collect(Collectors.toMap(id -> id, id -> false));
+        if (tuple == null) {
+            return Optional.empty();
         }
 
-        QBookmark b = QBookmark.bookmark;
+        return Optional.of(new PerformanceVersion(performanceId, tuple.get(p.updatedAt), tuple.get(p.state),
+            tuple.get(p.favoriteCount), tuple.get(p.groupCount)));
+    }
 
-        List<Long> likedPerformanceIds = queryFactory
-            .select(b.targetId)
-            .from(b)
-            .where(
-                b.type.eq(BookmarkType.PERFORMANCE),
-                b.targetId.in(performanceIds),
-                b.member.id.eq(memberId)
-            )
-            .fetch();
+    private Predicate[] searchConditions(PerformanceSearchRequest request, Collection<Long> candidateIds) {
+        return new Predicate[]{
+            keywordFilter(request, candidateIds),
+            visitEquals(request.getVisit()),
+            isExpiredFilter(request.getIsExpired()),
+            dateRangeFilter(request.getStartDate(), request.getEndDate()),
+            notDeleted()
+        };
+    }
+
+    private Predicate keywordFilter(PerformanceSearchRequest request, Collection<Long> candidateIds) {
+        if (candidateIds != null) {
+            return QPerformance.performance.id.in(candidateIds);
+        }
 
-        return performanceIds.stream()
-            .collect(Collectors.toMap(
-                id -> id,
-                likedPerformanceIds::contains
-            ));
+        return ExpressionUtils.allOf(
+            titleContains(request.getTitle()),
+            locationContains(request.getLocation()),
+            castContains(request.getCast()),
+            hostContains(request.getHost())
+        );
     }
 
     private BooleanExpression titleContains(String title) {
@@ -296,6 +257,16 @@ public class PerformanceRepositoryImpl implements PerformanceRepositoryCustom {
             QPerformance.performance.location.containsIgnoreCase(location.trim()) : null;
     }
 
+    private BooleanExpression castContains(String cast) {
+        return cast != null && !cast.trim().isEmpty() ?
+            QPerformance.performance.cast.any().containsIgnoreCase(cast.trim()) : null;
+    }
+
+    private BooleanExpression hostContains(String host) {
+        return host != null && !host.trim().isEmpty() ?
+            QPerformance.performance.host.any().containsIgnoreCase(host.trim()) : null;
+    }
+
     private BooleanExpression visitEquals(String visit) {
         return visit != null && !visit.trim().isEmpty() ?
             QPerformance.performance.visit.eq(visit.trim()) : null;
@@ -348,109 +319,141 @@ public class PerformanceRepositoryImpl implements PerformanceRepositoryCustom {
             case "date_desc":
                 return query.orderBy(p.startDate.desc());
             case "group_count_desc":
+                return query.orderBy(p.groupCount.desc(), p.title.desc());
             case "group_count_asc":
+                return query.orderBy(p.groupCount.asc(), p.title.asc());
             case "favorite_count_desc":
+                return query.orderBy(p.favoriteCount.desc(), p.title.desc());
             case "favorite_count_asc":
-                return query.orderBy(p.title.asc()); // 기본 정렬 적용 (별도 메서드에서 처리)
+                return query.orderBy(p.favoriteCount.asc(), p.title.asc());
             case "title_asc":
             default:
                 return query.orderBy(p.title.asc());
         }
     }
 
-    @Override
-    public List<Performance> findTopFavoriteUpcomingPerformances(int limit) {
+    /**
+     * 커서 검색 정렬: 페이지 기반 정렬에 ID를 마지막 키로 더한다.
+     * 내림차순 정렬은 제목과 ID도 내림차순으로 두어 (집계값, 제목) 인덱스를 역방향으로 그대로 읽을 수 있게 한다.
+     * 방향이 섞이면 인덱스 순서로 읽지 못해 페이지마다 filesort 가 일어난다.
+     */
+    private OrderSpecifier<?>[] cursorOrders(String sort) {
         QPerformance p = QPerformance.performance;
-        QBookmark b = QBookmark.bookmark;
-        QPerformanceImage pi = QPerformanceImage.performanceImage;
 
-        LocalDateTime now = LocalDateTime.now();
-
-        List<Long> topPerformanceIds = queryFactory
-            .select(p.id)
-            .from(p)
-            .leftJoin(b).on(b.type.eq(BookmarkType.PERFORMANCE).and(b.targetId.eq(p.id)))
-            .where(
-                p.startDate.gt(now),
-                notDeleted()
-            )
-            .groupBy(p.id)
-            .orderBy(
-                b.count().desc(),
-                p.startDate.asc(),
-                p.title.asc()
-            )
-            .limit(limit)
-            .fetch();
+        return switch (sort) {
+            case "title_desc" -> new OrderSpecifier<?>[]{p.title.desc(), p.id.desc()};
+            case "date_asc" -> new OrderSpecifier<?>[]{p.startDate.asc(), p.id.asc()};
+            case "date_desc" -> new OrderSpecifier<?>[]{p.startDate.desc(), p.id.desc()};
+            case "group_count_desc" -> new OrderSpecifier<?>[]{p.groupCount.desc(), p.title.desc(), p.id.desc()};
+            case "group_count_asc" -> new OrderSpecifier<?>[]{p.groupCount.asc(), p.title.asc(), p.id.asc()};
+            case "favorite_count_desc" ->
+                new OrderSpecifier<?>[]{p.favoriteCount.desc(), p.title.desc(), p.id.desc()};
+            case "favorite_count_asc" ->
+                new OrderSpecifier<?>[]{p.favoriteCount.asc(), p.title.asc(), p.id.asc()};
+            default -> new OrderSpecifier<?>[]{p.title.asc(), p.id.asc()};
+        };
+    }
 
-        if (topPerformanceIds.isEmpty()) {
-            return List.of();
+    /**
+     * cursorOrders 와 같은 순서로 커서 다음 행만 남기는 조건
+     */
+    private BooleanExpression seekCondition(String sort, PerformanceSearchCursor cursor) {
+        if (cursor == null) {
+            return null;
         }
 
-        List<Performance> performances = queryFactory
-            .selectFrom(p)
-            .leftJoin(p.imgs, pi).fetchJoin()
-            .where(
-                p.id.in(topPerformanceIds),
-                notDeleted()
-            )
-            .distinct()
-            .fetch();
+        QPerformance p = QPerformance.performance;
+        Long id = cursor.getId();
+
+        return switch (sort) {
+            case "title_desc" -> beforeTitle(cursor);
+            case "date_asc" -> p.startDate.gt(cursor.getStartDate())
+                .or(p.startDate.eq(cursor.getStartDate()).and(p.id.gt(id)));
+            case "date_desc" -> p.startDate.lt(cursor.getStartDate())
+                .or(p.startDate.eq(cursor.getStartDate()).and(p.id.lt(id)));
+            case "group_count_desc" -> p.groupCount.lt(cursor.getCount())
+                .or(p.groupCount.eq(cursor.getCount()).and(beforeTitle(cursor)));
+            case "group_count_asc" -> p.groupCount.gt(cursor.getCount())
+                .or(p.groupCount.eq(cursor.getCount()).and(afterTitle(cursor)));
+            case "favorite_count_desc" -> p.favoriteCount.lt(cursor.getCount())
+                .or(p.favoriteCount.eq(cursor.getCount()).and(beforeTitle(cursor)));
+            case "favorite_count_asc" -> p.favoriteCount.gt(cursor.getCount())
+                .or(p.favoriteCount.eq(cursor.getCount()).and(afterTitle(cursor)));
+            default -> afterTitle(cursor);
+        };
+    }
+
+    private BooleanExpression afterTitle(PerformanceSearchCursor cursor) {
+        QPerformance p = QPerformance.performance;
 
-        Map<Long, Performance> performanceMap = performances.stream()
-            .collect(Collectors.toMap(Performance::getId, performance -> performance));
+        return p.title.gt(cursor.getTitle())
+            .or(p.title.eq(cursor.getTitle()).and(p.id.gt(cursor.getId())));
+    }
+
+    private BooleanExpression beforeTitle(PerformanceSearchCursor cursor) {
+        QPerformance p = QPerformance.performance;
 
-        return topPerformanceIds.stream()
-            .map(performanceMap::get)
-            .filter(performance -> performance != null)
-            .toList();
+        return p.title.lt(cursor.getTitle())
+            .or(p.title.eq(cursor.getTitle()).and(p.id.lt(cursor.getId())));
     }
 
+    /**
+     * 현재 시각 기준으로 target 상태가 되어야 하는데 아직 다른 상태인 공연 ID
+     * since 가 주어지면 그 이후에 시작/종료 시각이 지난 공연만 날짜 인덱스 범위로 찾는다.
+     * (공연 예정으로 돌아가는 경우는 날짜가 수정된 경우뿐이므로 since 없이 전체에서 찾는다)
+     */
     @Override
-    public List<Performance> findTopGroupsUpcomingPerformances(int limit) {
+    public List<Long> findIdsToTransition(PerformanceState target, LocalDateTime since, LocalDateTime now) {
         QPerformance p = QPerformance.performance;
-        QGroup g = QGroup.group;
-        QPerformanceImage pi = QPerformanceImage.performanceImage;
 
-        LocalDateTime now = LocalDateTime.now();
+        BooleanExpression condition = switch (target) {
+            case UPCOMING -> p.startDate.gt(now);
+            case ONGOING -> p.startDate.loe(now).and(p.endDate.goe(now))
+                .and(since != null ? p.startDate.gt(since) : null);
+            case COMPLETED -> p.endDate.lt(now)
+                .and(since != null ? p.endDate.goe(since) : null);
+        };
 
-        List<Long> topPerformanceIds = queryFactory
+        return queryFactory
             .select(p.id)
             .from(p)
-            .leftJoin(g).on(g.performance.id.eq(p.id).and(g.deleted.isNull()))
-            .where(
-                p.startDate.gt(now),
-                notDeleted()
-            )
-            .groupBy(p.id)
-            .orderBy(
-                g.count().desc(),     // 모임 수가 많은 순
-                p.startDate.asc(),    // 모임 수가 같으면 빠른 날짜순
-                p.title.asc()         // 날짜도 같으면 제목순
-            )
-            .limit(limit)
+            .where(condition, p.state.ne(target))
+            .orderBy(p.id.asc())
             .fetch();
+    }
 
-        if (topPerformanceIds.isEmpty()) {
-            return List.of();
-        }
+    @Override
+    public List<Performance> findTopFavoriteUpcomingPerformances(int limit) {
+        QPerformance p = QPerformance.performance;
+
+        return findTopUpcomingPerformances(limit, p.favoriteCount.desc());
+    }
+
+    @Override
+    public List<Performance> findTopGroupsUpcomingPerformances(int limit) {
+        QPerformance p = QPerformance.performance;
+
+        return findTopUpcomingPerformances(limit, p.groupCount.desc());
+    }
 
-        List<Performance> performances = queryFactory
+    /**
+     * 집계값이 같으면 빠른 날짜순, 날짜도 같으면 제목순
+     */
+    private List<Performance> findTopUpcomingPerformances(int limit, OrderSpecifier<Integer> countOrder) {
+        QPerformance p = QPerformance.performance;
+
+        return queryFactory
             .selectFrom(p)
-            .leftJoin(p.imgs, pi).fetchJoin()
             .where(
-                p.id.in(topPerformanceIds),
+                p.startDate.gt(LocalDateTime.now()),
                 notDeleted()
             )
-            .distinct()
+            .orderBy(
+                countOrder,
+                p.startDate.asc(),
+                p.title.asc()
+            )
+            .limit(limit)
             .fetch();
-
-        Map<Long, Performance> performanceMap = performances.stream()
-            .collect(Collectors.toMap(Performance::getId, performance -> performance));
-
-        return topPerformanceIds.stream()
-            .map(performanceMap::get)
-            .filter(performance -> performance != null)
-            .toList();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package site.festifriends.domain.performance.search;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스에 넣을 공연 정보 (삭제되지 않은 공연만)
+ */
+@Getter
+@AllArgsConstructor
+public class PerformanceDocument {
+
+    private final Long id;
+    private final String title;
+    private final String location;
+    private final List<String> cast;
+    private final List<String> host;
+}
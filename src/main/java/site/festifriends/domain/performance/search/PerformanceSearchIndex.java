@@ -0,0 +1,253 @@
+package site.festifriends.domain.performance.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연명, 장소, 출연진, 주최에 대한 인메모리 2-gram 역색인
+ * - LIKE '%검색어%' 는 인덱스를 쓰지 못해 매번 전체 테이블을 읽으므로, 후보 공연 ID를 여기서 먼저 구한다.
+ * - 한글은 음절 단위로 잘라 부분 검색("재즈" -> "서울 재즈 페스티벌")이 되도록 한다.
+ * - 2-gram 교집합으로 후보를 좁힌 뒤 원문에 검색어가 포함되는지 다시 확인하므로 결과는 LIKE 와 같다.
+ */
+@Component
+public class PerformanceSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final String VALUE_SEPARATOR = "\n";
+
+    private final int maxCandidates;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Map<SearchField, String>> documents = new HashMap<>();
+    private Map<SearchField, Map<String, Set<Long>>> postings = emptyPostings();
+    private volatile boolean ready;
+
+    public PerformanceSearchIndex(@Value("${performance.search-index.max-candidates:1000}") int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 공연으로 인덱스를 새로 만든다. 조회를 막지 않도록 새 인덱스를 만든 뒤 교체한다.
+     */
+    public void rebuild(Collection<PerformanceDocument> performances) {
+        Map<Long, Map<SearchField, String>> newDocuments = new HashMap<>();
+        Map<SearchField, Map<String, Set<Long>>> newPostings = emptyPostings();
+        for (PerformanceDocument performance : performances) {
+            add(newDocuments, newPostings, performance);
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents = newDocuments;
+            postings = newPostings;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(PerformanceDocument performance) {
+        lock.writeLock().lock();
+        try {
+            remove(documents, postings, performance.getId());
+            add(documents, postings, performance);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long performanceId) {
+        lock.writeLock().lock();
+        try {
+            remove(documents, postings, performanceId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 검색어를 모두 만족하는 공연 ID를 반환한다. 값이 비어 있는 필드는 조건에서 뺀다.
+     * 인덱스가 준비되지 않았거나 검색어가 없거나 후보가 maxCandidates 를 넘으면 비어 있는 Optional 을 반환하고,
+     * 이때는 DB 조건으로 검색한다.
+     */
+    public Optional<Set<Long>> findCandidates(Map<SearchField, String> keywords) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        Map<SearchField, String> normalized = new EnumMap<>(SearchField.class);
+        keywords.forEach((field, keyword) -> {
+            if (keyword != null && !keyword.trim().isEmpty()) {
+                normalized.put(field, normalize(keyword.trim()));
+            }
+        });
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (Map.Entry<SearchField, String> entry : normalized.entrySet()) {
+                Set<Long> matched = search(entry.getKey(), entry.getValue(), candidates);
+                candidates = matched;
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+            if (candidates.size() > maxCandidates) {
+                return Optional.empty();
+            }
+            return Optional.of(candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * within 이 주어지면 그 안에서만 찾는다.
+     */
+    private Set<Long> search(SearchField field, String keyword, Set<Long> within) {
+        if (keyword.length() < GRAM_SIZE) {
+            Collection<Long> scope = within != null ? within : documents.keySet();
+            return verify(field, keyword, scope);
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        Map<String, Set<Long>> fieldPostings = postings.get(field);
+        for (String gram : grams(keyword)) {
+            Set<Long> ids = fieldPostings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        if (within != null) {
+            lists.add(within);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> smallest = lists.get(0);
+        List<Long> intersection = new ArrayList<>();
+        for (Long id : smallest) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(id);
+            }
+            if (inAll) {
+                intersection.add(id);
+            }
+        }
+        return verify(field, keyword, intersection);
+    }
+
+    private Set<Long> verify(SearchField field, String keyword, Collection<Long> ids) {
+        Set<Long> matched = new HashSet<>();
+        for (Long id : ids) {
+            Map<SearchField, String> document = documents.get(id);
+            if (document != null && document.get(field).contains(keyword)) {
+                matched.add(id);
+            }
+        }
+        return matched;
+    }
+
+    private static void add(Map<Long, Map<SearchField, String>> documents,
+        Map<SearchField, Map<String, Set<Long>>> postings, PerformanceDocument performance) {
+        Map<SearchField, String> fields = new EnumMap<>(SearchField.class);
+        fields.put(SearchField.TITLE, normalize(performance.getTitle()));
+        fields.put(SearchField.LOCATION, normalize(performance.getLocation()));
+        fields.put(SearchField.CAST, normalize(performance.getCast()));
+        fields.put(SearchField.HOST, normalize(performance.getHost()));
+        documents.put(performance.getId(), fields);
+
+        fields.forEach((field, text) -> {
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            for (String gram : grams(text)) {
+                fieldPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(performance.getId());
+            }
+        });
+    }
+
+    private static void remove(Map<Long, Map<SearchField, String>> documents,
+        Map<SearchField, Map<String, Set<Long>>> postings, Long performanceId) {
+        Map<SearchField, String> fields = documents.remove(performanceId);
+        if (fields == null) {
+            return;
+        }
+
+        fields.forEach((field, text) -> {
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            for (String gram : grams(text)) {
+                Set<Long> ids = fieldPostings.get(gram);
+                if (ids != null && ids.remove(performanceId) && ids.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        });
+    }
+
+    /**
+     * 여러 값을 가진 필드는 값 사이에 줄바꿈을 넣어 값 경계를 넘는 gram 이 생기지 않게 한다.
+     */
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            String gram = text.substring(i, i + GRAM_SIZE);
+            if (!gram.contains(VALUE_SEPARATOR)) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        List<String> normalized = new ArrayList<>(values.size());
+        for (String value : values) {
+            normalized.add(normalize(value).replace(VALUE_SEPARATOR, " "));
+        }
+        return String.join(VALUE_SEPARATOR, normalized);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<SearchField, Map<String, Set<Long>>> emptyPostings() {
+        Map<SearchField, Map<String, Set<Long>>> postings = new EnumMap<>(SearchField.class);
+        for (SearchField field : SearchField.values()) {
+            postings.put(field, new HashMap<>());
+        }
+        return postings;
+    }
+}
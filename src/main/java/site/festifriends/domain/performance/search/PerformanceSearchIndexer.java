@@ -0,0 +1,178 @@
+package site.festifriends.domain.performance.search;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연 검색 인덱스를 DB와 맞춘다.
+ * - 서버가 뜨면 전체 공연으로 인덱스를 만든다.
+ * - 주기적으로 updated_at 이 바뀐 공연만 다시 읽어 반영한다(삭제된 공연은 제거).
+ * - 출연진/주최만 바뀌면 updated_at 이 갱신되지 않을 수 있으므로 하루 한 번 전체를 다시 만든다.
+ * 엔티티 대신 필요한 컬럼만 조회해 컬렉션 N+1 없이 읽는다.
+ */
+@Slf4j
+@Component
+public class PerformanceSearchIndexer {
+
+    private static final int ID_CHUNK_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PerformanceSearchIndex performanceSearchIndex;
+    private final boolean enabled;
+    private final long syncOverlapMillis;
+
+    private volatile LocalDateTime watermark;
+
+    public PerformanceSearchIndexer(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PerformanceSearchIndex performanceSearchIndex,
+        @Value("${performance.search-index.enabled:true}") boolean enabled,
+        @Value("${performance.search-index.sync-overlap-ms:60000}") long syncOverlapMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.performanceSearchIndex = performanceSearchIndex;
+        this.enabled = enabled;
+        this.syncOverlapMillis = syncOverlapMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${performance.search-index.rebuild-cron:0 10 0 * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            LocalDateTime startedAt = LocalDateTime.now();
+
+            List<PerformanceRow> rows = jdbcTemplate.query(
+                "SELECT performance_id, title, location, deleted FROM performance WHERE deleted IS NULL",
+                (rs, rowNum) -> toRow(rs.getLong("performance_id"), rs.getString("title"),
+                    rs.getString("location"), rs.getTimestamp("deleted")));
+
+            Map<Long, List<String>> casts = findValues("SELECT performance_id, cast_member AS item "
+                + "FROM performance_cast ORDER BY performance_id, order_index", null);
+            Map<Long, List<String>> hosts = findValues("SELECT performance_id, host AS item "
+                + "FROM performance_host ORDER BY performance_id, order_index", null);
+
+            List<PerformanceDocument> documents = new ArrayList<>(rows.size());
+            for (PerformanceRow row : rows) {
+                documents.add(row.toDocument(casts, hosts));
+            }
+
+            performanceSearchIndex.rebuild(documents);
+            watermark = startedAt;
+
+            log.info("공연 검색 인덱스를 만들었습니다. 공연 수={}, 소요 시간={}ms", documents.size(),
+                System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("공연 검색 인덱스 생성 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${performance.search-index.sync-interval-ms:60000}")
+    public void sync() {
+        if (!enabled || !performanceSearchIndex.isReady() || watermark == null) {
+            return;
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            // 늦게 커밋된 변경을 놓치지 않도록 이전 시점보다 조금 앞에서부터 읽는다. 다시 반영해도 결과는 같다.
+            LocalDateTime since = watermark.minusNanos(syncOverlapMillis * 1_000_000);
+
+            List<PerformanceRow> rows = jdbcTemplate.query(
+                "SELECT performance_id, title, location, deleted FROM performance WHERE updated_at >= :since",
+                new MapSqlParameterSource("since", since),
+                (rs, rowNum) -> toRow(rs.getLong("performance_id"), rs.getString("title"),
+                    rs.getString("location"), rs.getTimestamp("deleted")));
+
+            List<Long> changedIds = new ArrayList<>();
+            for (PerformanceRow row : rows) {
+                if (row.deleted) {
+                    performanceSearchIndex.remove(row.id);
+                } else {
+                    changedIds.add(row.id);
+                }
+            }
+
+            Map<Long, List<String>> casts = new HashMap<>();
+            Map<Long, List<String>> hosts = new HashMap<>();
+            for (int from = 0; from < changedIds.size(); from += ID_CHUNK_SIZE) {
+                List<Long> chunk = changedIds.subList(from, Math.min(from + ID_CHUNK_SIZE, changedIds.size()));
+                casts.putAll(findValues("SELECT performance_id, cast_member AS item FROM performance_cast "
+                    + "WHERE performance_id IN (:ids) ORDER BY performance_id, order_index", chunk));
+                hosts.putAll(findValues("SELECT performance_id, host AS item FROM performance_host "
+                    + "WHERE performance_id IN (:ids) ORDER BY performance_id, order_index", chunk));
+            }
+
+            for (PerformanceRow row : rows) {
+                if (!row.deleted) {
+                    performanceSearchIndex.put(row.toDocument(casts, hosts));
+                }
+            }
+
+            watermark = startedAt;
+            if (!rows.isEmpty()) {
+                log.debug("공연 검색 인덱스에 변경된 공연 {}건을 반영했습니다.", rows.size());
+            }
+        } catch (Exception e) {
+            log.error("공연 검색 인덱스 동기화 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private Map<Long, List<String>> findValues(String sql, Collection<Long> ids) {
+        Map<Long, List<String>> values = new HashMap<>();
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (ids != null) {
+            params.addValue("ids", ids);
+        }
+        jdbcTemplate.query(sql, params, rs -> {
+            values.computeIfAbsent(rs.getLong("performance_id"), id -> new ArrayList<>())
+                .add(rs.getString("item"));
+        });
+        return values;
+    }
+
+    private static PerformanceRow toRow(long id, String title, String location, Timestamp deleted) {
+        return new PerformanceRow(id, title, location, deleted != null);
+    }
+
+    private static final class PerformanceRow {
+
+        private final Long id;
+        private final String title;
+        private final String location;
+        private final boolean deleted;
+
+        private PerformanceRow(Long id, String title, String location, boolean deleted) {
+            this.id = id;
+            this.title = title;
+            this.location = location;
+            this.deleted = deleted;
+        }
+
+        private PerformanceDocument toDocument(Map<Long, List<String>> casts, Map<Long, List<String>> hosts) {
+            return new PerformanceDocument(id, title, location, casts.getOrDefault(id, List.of()),
+                hosts.getOrDefault(id, List.of()));
+        }
+    }
+}
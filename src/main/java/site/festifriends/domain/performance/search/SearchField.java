@@ -0,0 +1,8 @@
+package site.festifriends.domain.performance.search;
+
+/**
+ * 검색 인덱스에 들어가는 공연 필드
+ */
+public enum SearchField {
+    TITLE, LOCATION, CAST, HOST
+}
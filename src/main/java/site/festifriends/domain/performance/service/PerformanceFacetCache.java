@@ -0,0 +1,35 @@
+package site.festifriends.domain.performance.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.festifriends.domain.performance.dto.PerformanceFacetResponse;
+import site.festifriends.domain.performance.dto.PerformanceSearchRequest;
+
+/**
+ * 공연 검색 필터별 개수 캐시
+ * 검색 화면은 필터를 바꿀 때마다 같은 조건으로 집계를 다시 요청하므로, 검색 개수 캐시와 같은 필터 조합 기준으로 결과를 캐싱한다.
+ * 공연 상태나 모임/찜 변화가 TTL 동안 반영되지 않으므로 TTL 을 짧게 둔다.
+ */
+@Component
+public class PerformanceFacetCache {
+
+    private final Cache<String, PerformanceFacetResponse> facets;
+
+    public PerformanceFacetCache(
+        @Value("${performance.search.facet-cache.maximum-size:1000}") long maximumSize,
+        @Value("${performance.search.facet-cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.facets = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    public PerformanceFacetResponse get(PerformanceSearchRequest request, Supplier<PerformanceFacetResponse> loader) {
+        return facets.get(PerformanceSearchCountCache.signature(request), key -> loader.get());
+    }
+}
@@ -0,0 +1,44 @@
+package site.festifriends.domain.performance.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+import site.festifriends.domain.member.repository.MemberRepository;
+import site.festifriends.domain.performance.importer.CatalogFormat;
+import site.festifriends.domain.performance.importer.PerformanceCatalogImporter;
+import site.festifriends.domain.performance.importer.PerformanceImportResult;
+import site.festifriends.entity.Member;
+import site.festifriends.entity.enums.MemberRole;
+
+/**
+ * 청크마다 별도 트랜잭션으로 저장하므로 이 서비스에는 트랜잭션을 걸지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PerformanceImportService {
+
+    private final MemberRepository memberRepository;
+    private final PerformanceCatalogImporter performanceCatalogImporter;
+
+    public PerformanceImportResult importCatalog(Long memberId, InputStream in, CatalogFormat format) {
+        Member member = memberRepository.findById(memberId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
+        if (member.getMemberRole() != MemberRole.ADMIN) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "관리자만 접근할 수 있습니다.");
+        }
+
+        try {
+            log.info("공연 카탈로그 가져오기를 시작합니다. memberId={}, format={}", memberId, format);
+            return performanceCatalogImporter.importCatalog(in, format);
+        } catch (IOException e) {
+            log.warn("공연 카탈로그 파일을 읽을 수 없습니다: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "카탈로그 파일을 읽을 수 없습니다.");
+        }
+    }
+}
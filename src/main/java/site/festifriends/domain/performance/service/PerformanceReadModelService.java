@@ -0,0 +1,96 @@
+package site.festifriends.domain.performance.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+import site.festifriends.domain.performance.dto.PerformanceDetailSnapshot;
+import site.festifriends.domain.performance.repository.PerformanceReadModelRepository;
+import site.festifriends.domain.performance.repository.PerformanceRepository;
+import site.festifriends.entity.Performance;
+import site.festifriends.entity.PerformanceReadModel;
+
+/**
+ * 공연 상세 스냅샷(읽기 모델) 조회와 갱신
+ * - 여러 공연의 스냅샷을 쿼리 한 번으로 읽는다. 조회는 저장하지 않으므로 읽기 전용 트랜잭션에서 호출할 수 있다.
+ * - 스냅샷이 없거나 공연의 updated_at 이 스냅샷을 만든 시점보다 나중이면 그 요청에서만 엔티티로 만들어 응답한다.
+ * - 저장은 공연 데이터를 바꾸는 쪽(가져오기)이 refresh 를 호출해 하고, 빠진 것은 PerformanceReadModelRepairService 가 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PerformanceReadModelService {
+
+    private final PerformanceReadModelRepository performanceReadModelRepository;
+    private final PerformanceRepository performanceRepository;
+    private final ObjectMapper objectMapper;
+
+    public Map<Long, PerformanceDetailSnapshot> getSnapshots(Collection<Performance> performances) {
+        if (performances.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> performanceIds = performances.stream()
+            .map(Performance::getId)
+            .toList();
+        Map<Long, PerformanceReadModel> readModels = performanceReadModelRepository.findAllById(performanceIds)
+            .stream()
+            .collect(Collectors.toMap(PerformanceReadModel::getPerformanceId, Function.identity()));
+
+        Map<Long, PerformanceDetailSnapshot> snapshots = new HashMap<>();
+        for (Performance performance : performances) {
+            PerformanceReadModel readModel = readModels.get(performance.getId());
+            if (readModel != null && !readModel.isStale(performance.getUpdatedAt())) {
+                snapshots.put(performance.getId(), fromJson(readModel.getContent()));
+            } else {
+                snapshots.put(performance.getId(), PerformanceDetailSnapshot.from(performance));
+            }
+        }
+        return snapshots;
+    }
+
+    public PerformanceDetailSnapshot getSnapshot(Performance performance) {
+        return getSnapshots(List.of(performance)).get(performance.getId());
+    }
+
+    /**
+     * 공연 데이터를 바꾼 트랜잭션 안에서 호출해 읽기 모델을 함께 저장한다.
+     */
+    public void refresh(Collection<Long> performanceIds) {
+        if (performanceIds.isEmpty()) {
+            return;
+        }
+
+        List<PerformanceReadModel> readModels = performanceRepository.findAllById(performanceIds).stream()
+            .map(performance -> PerformanceReadModel.builder()
+                .performanceId(performance.getId())
+                .content(toJson(PerformanceDetailSnapshot.from(performance)))
+                .sourceUpdatedAt(performance.getUpdatedAt())
+                .build())
+            .toList();
+        performanceReadModelRepository.upsertAll(readModels);
+    }
+
+    private String toJson(PerformanceDetailSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "공연 정보 변환에 실패했습니다.");
+        }
+    }
+
+    private PerformanceDetailSnapshot fromJson(String content) {
+        try {
+            return objectMapper.readValue(content, PerformanceDetailSnapshot.class);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "공연 정보 변환에 실패했습니다.");
+        }
+    }
+}
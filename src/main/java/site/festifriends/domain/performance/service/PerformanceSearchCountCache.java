@@ -0,0 +1,51 @@
+package site.festifriends.domain.performance.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.festifriends.domain.performance.dto.PerformanceSearchRequest;
+
+/**
+ * 공연 검색 결과 개수 캐시
+ * 커서 검색은 다음 페이지마다 같은 필터로 COUNT 를 반복하지 않도록 필터 조합(정렬, 커서 제외) 기준으로 개수를 캐싱한다.
+ * 공연 추가/삭제가 TTL 동안 반영되지 않으므로 근사값으로만 내려준다.
+ */
+@Component
+public class PerformanceSearchCountCache {
+
+    private final Cache<String, Long> counts;
+
+    public PerformanceSearchCountCache(
+        @Value("${performance.search.count-cache.maximum-size:10000}") long maximumSize,
+        @Value("${performance.search.count-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    public long get(PerformanceSearchRequest request, Supplier<Long> loader) {
+        return counts.get(signature(request), key -> loader.get());
+    }
+
+    static String signature(PerformanceSearchRequest request) {
+        return String.join("\u0000",
+            normalize(request.getTitle()),
+            normalize(request.getLocation()),
+            normalize(request.getCast()),
+            normalize(request.getHost()),
+            Objects.toString(request.getVisit(), "").trim(),
+            Boolean.FALSE.equals(request.getIsExpired()) ? "active" : "all",
+            Objects.toString(request.getStartDate(), ""),
+            Objects.toString(request.getEndDate(), ""));
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.trim().toLowerCase() : "";
+    }
+}
@@ -1,11 +1,16 @@
 package site.festifriends.domain.performance.service;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,12 +21,23 @@ import site.festifriends.common.exception.ErrorCode;
 import site.festifriends.common.response.ResponseWrapper;
 import site.festifriends.domain.member.repository.BookmarkRepository;
 import site.festifriends.domain.member.repository.MemberRepository;
+import site.festifriends.domain.member.service.MemberBookmarkCache;
+import site.festifriends.domain.performance.dto.PerformanceCursorSearchRequest;
+import site.festifriends.domain.performance.dto.PerformanceCursorSearchResponse;
+import site.festifriends.domain.performance.dto.PerformanceDetailSnapshot;
+import site.festifriends.domain.performance.dto.PerformanceFacetResponse;
 import site.festifriends.domain.performance.dto.PerformanceFavoriteRequest;
 import site.festifriends.domain.performance.dto.PerformanceFavoriteResponse;
 import site.festifriends.domain.performance.dto.PerformanceResponse;
+import site.festifriends.domain.performance.dto.PerformanceSearchCursor;
 import site.festifriends.domain.performance.dto.PerformanceSearchRequest;
 import site.festifriends.domain.performance.dto.PerformanceSearchResponse;
+import site.festifriends.domain.performance.leaderboard.LeaderboardType;
+import site.festifriends.domain.performance.leaderboard.PerformanceCountChangedEvent;
+import site.festifriends.domain.performance.leaderboard.PerformanceLeaderboard;
 import site.festifriends.domain.performance.repository.PerformanceRepository;
+import site.festifriends.domain.performance.search.PerformanceSearchIndex;
+import site.festifriends.domain.performance.search.SearchField;
 import site.festifriends.entity.Bookmark;
 import site.festifriends.entity.Member;
 import site.festifriends.entity.Performance;
@@ -35,6 +51,13 @@ public class PerformanceService {
     private final PerformanceRepository performanceRepository;
     private final BookmarkRepository bookmarkRepository;
     private final MemberRepository memberRepository;
+    private final MemberBookmarkCache memberBookmarkCache;
+    private final PerformanceSearchIndex performanceSearchIndex;
+    private final PerformanceReadModelService performanceReadModelService;
+    private final PerformanceSearchCountCache performanceSearchCountCache;
+    private final PerformanceFacetCache performanceFacetCache;
+    private final PerformanceLeaderboard performanceLeaderboard;
+    private final ApplicationEventPublisher eventPublisher;
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
 
     public PerformanceSearchResponse searchPerformances(PerformanceSearchRequest request) {
@@ -45,8 +68,12 @@ public class PerformanceService {
         // 페이징 객체 생성
         Pageable pageable = PageRequest.of(request.getPage() - 1, request.getSize());
 
+        // 검색어가 있으면 검색 인덱스에서 후보 공연을 먼저 찾는다 (인덱스를 쓸 수 없으면 null)
+        Set<Long> candidateIds = findCandidateIds(request);
+
         // 공연 검색
-        Page<Performance> performancePage = performanceRepository.searchPerformancesWithPaging(request, pageable);
+        Page<Performance> performancePage = performanceRepository.searchPerformancesWithPaging(request, candidateIds,
+            pageable);
 
         List<Performance> performances = performancePage.getContent();
 
@@ -55,65 +82,17 @@ public class PerformanceService {
             .map(Performance::getId)
             .collect(Collectors.toList());
 
-        // 각 공연별 모임 개수 조회
-        Map<Long, Long> groupCountMap = performanceRepository.findGroupCountsByPerformanceIds(performanceIds);
-
-        // 각 공연별 찜 개수 조회
-        Map<Long, Long> favoriteCountMap = performanceRepository.findFavoriteCountsByPerformanceIds(performanceIds);
-
         // 각 공연별 사용자 좋아요 여부 조회
-        Map<Long, Boolean> isLikedMap = performanceRepository.findIsLikedByPerformanceIds(performanceIds, memberId);
-
-        performances.forEach(performance -> {
-            performance.getCast().size();
-            performance.getCrew().size();
-            performance.getProductionCompany().size();
-            performance.getAgency().size();
-            performance.getHost().size();
-            performance.getOrganizer().size();
-            performance.getPrice().size();
-            performance.getTime().size();
-            performance.getImgs().size();
-        });
+        Map<Long, Boolean> isLikedMap = memberBookmarkCache.isBookmarked(memberId, BookmarkType.PERFORMANCE,
+            performanceIds);
+
+        // 컬렉션 필드는 읽기 모델에서 한 번에 조회
+        Map<Long, PerformanceDetailSnapshot> snapshotMap = performanceReadModelService.getSnapshots(performances);
 
         List<PerformanceResponse> performanceResponses = performances.stream()
-            .map(performance -> convertToResponse(performance, groupCountMap, favoriteCountMap, isLikedMap))
+            .map(performance -> convertToResponse(performance, snapshotMap.get(performance.getId()), isLikedMap))
             .collect(Collectors.toList());
 
-        if ("group_count_desc".equals(request.getSort())) {
-            performanceResponses.sort((a, b) -> {
-                int countCompare = Integer.compare(b.getGroupCount(), a.getGroupCount());
-                if (countCompare == 0) {
-                    return a.getTitle().compareTo(b.getTitle());
-                }
-                return countCompare;
-            });
-        } else if ("group_count_asc".equals(request.getSort())) {
-            performanceResponses.sort((a, b) -> {
-                int countCompare = Integer.compare(a.getGroupCount(), b.getGroupCount());
-                if (countCompare == 0) {
-                    return a.getTitle().compareTo(b.getTitle());
-                }
-                return countCompare;
-            });
-        } else if ("favorite_count_desc".equals(request.getSort())) {
-            performanceResponses.sort((a, b) -> {
-                int countCompare = Integer.compare(b.getFavoriteCount(), a.getFavoriteCount());
-                if (countCompare == 0) {
-                    return a.getTitle().compareTo(b.getTitle());
-                }
-                return countCompare;
-            });
-        } else if ("favorite_count_asc".equals(request.getSort())) {
-            performanceResponses.sort((a, b) -> {
-                int countCompare = Integer.compare(a.getFavoriteCount(), b.getFavoriteCount());
-                if (countCompare == 0) {
-                    return a.getTitle().compareTo(b.getTitle());
-                }
-                return countCompare;
-            });
-        }
-
         return PerformanceSearchResponse.builder()
             .code(200)
             .message("요청이 성공적으로 처리되었습니다.")
@@ -127,6 +106,91 @@ public class PerformanceService {
             .build();
     }
 
+    /**
+     * 커서 기반 공연 검색
+     * 마지막으로 조회한 공연의 정렬 키 다음부터 읽으므로 뒤쪽 페이지도 앞쪽 페이지와 같은 비용으로 조회된다.
+     * 전체 개수는 withCount=true 일 때만 캐시된 근사값으로 내려준다.
+     */
+    public PerformanceCursorSearchResponse searchPerformancesWithCursor(PerformanceCursorSearchRequest request,
+        Long memberId) {
+        String sort = PerformanceSearchCursor.normalizeSort(request.getSort());
+        PerformanceSearchCursor cursor = null;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            cursor = PerformanceSearchCursor.decode(request.getCursor());
+            if (!cursor.getSort().equals(sort)) {
+                throw new BusinessException(ErrorCode.BAD_REQUEST, "커서와 정렬 조건이 일치하지 않습니다.");
+            }
+        }
+
+        if (request.getSize() == null || request.getSize() < 1) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "조회 개수는 1 이상이어야 합니다.");
+        }
+
+        int size = request.getSize();
+        Set<Long> candidateIds = findCandidateIds(request);
+
+        // 다음 항목 여부를 알기 위해 하나 더 조회한다
+        List<Performance> performances = performanceRepository.searchPerformancesWithCursor(request, candidateIds,
+            cursor, size + 1);
+
+        boolean hasNext = performances.size() > size;
+        if (hasNext) {
+            performances = performances.subList(0, size);
+        }
+
+        String nextCursor = hasNext
+            ? PerformanceSearchCursor.of(sort, performances.get(performances.size() - 1)).encode()
+            : null;
+
+        Long totalElements = Boolean.TRUE.equals(request.getWithCount())
+            ? performanceSearchCountCache.get(request,
+                () -> performanceRepository.countPerformances(request, candidateIds))
+            : null;
+
+        List<Long> performanceIds = performances.stream()
+            .map(Performance::getId)
+            .collect(Collectors.toList());
+
+        Map<Long, Boolean> isLikedMap = memberBookmarkCache.isBookmarked(memberId, BookmarkType.PERFORMANCE,
+            performanceIds);
+
+        Map<Long, PerformanceDetailSnapshot> snapshotMap = performanceReadModelService.getSnapshots(performances);
+
+        List<PerformanceResponse> performanceResponses = performances.stream()
+            .map(performance -> convertToResponse(performance, snapshotMap.get(performance.getId()), isLikedMap))
+            .collect(Collectors.toList());
+
+        return PerformanceCursorSearchResponse.builder()
+            .code(200)
+            .message("요청이 성공적으로 처리되었습니다.")
+            .data(performanceResponses)
+            .size(size)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .totalElements(totalElements)
+            .build();
+    }
+
+    /**
+     * 검색 필터 값별 공연 수 조회
+     * 정렬/페이징은 개수에 영향이 없으므로 필터 조합만으로 캐싱한다.
+     */
+    public ResponseWrapper<PerformanceFacetResponse> getSearchFacets(PerformanceSearchRequest request) {
+        PerformanceFacetResponse response = performanceFacetCache.get(request,
+            () -> performanceRepository.findFacetCounts(request, findCandidateIds(request)));
+
+        return ResponseWrapper.success("요청이 성공적으로 처리되었습니다.", response);
+    }
+
+    private Set<Long> findCandidateIds(PerformanceSearchRequest request) {
+        return performanceSearchIndex.findCandidates(Map.of(
+                SearchField.TITLE, Objects.toString(request.getTitle(), ""),
+                SearchField.LOCATION, Objects.toString(request.getLocation(), ""),
+                SearchField.CAST, Objects.toString(request.getCast(), ""),
+                SearchField.HOST, Objects.toString(request.getHost(), "")))
+            .orElse(null);
+    }
+
     /**
      * 공연 상세 정보 조회 (하위 호환성)
      */
@@ -141,38 +205,21 @@ public class PerformanceService {
         Performance performance = performanceRepository.findById(performanceId)
             .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "공연을 찾을 수 없습니다."));
 
-        performance.getCast().size();
-        performance.getCrew().size();
-        performance.getProductionCompany().size();
-        performance.getAgency().size();
-        performance.getHost().size();
-        performance.getOrganizer().size();
-        performance.getPrice().size();
-        performance.getTime().size();
-        performance.getImgs().size();
-
-        // 해당 공연의 모임 개수 조회
-        Map<Long, Long> groupCountMap = performanceRepository.findGroupCountsByPerformanceIds(
-            Collections.singletonList(performanceId));
-
-        // 해당 공연의 찜 개수 조회
-        Map<Long, Long> favoriteCountMap = performanceRepository.findFavoriteCountsByPerformanceIds(
-            Collections.singletonList(performanceId));
-
         // 해당 공연의 사용자 좋아요 여부 조회
-        Map<Long, Boolean> isLikedMap = performanceRepository.findIsLikedByPerformanceIds(
-            Collections.singletonList(performanceId), memberId);
+        Map<Long, Boolean> isLikedMap = memberBookmarkCache.isBookmarked(memberId, BookmarkType.PERFORMANCE,
+            Collections.singletonList(performanceId));
 
-        PerformanceResponse response = convertToResponse(performance, groupCountMap, favoriteCountMap, isLikedMap);
+        PerformanceResponse response = convertToResponse(performance,
+            performanceReadModelService.getSnapshot(performance), isLikedMap);
 
         return ResponseWrapper.success("요청이 성공적으로 처리되었습니다.", response);
     }
 
-    private PerformanceResponse convertToResponse(Performance performance, Map<Long, Long> groupCountMap,
-        Map<Long, Long> favoriteCountMap, Map<Long, Boolean> isLikedMap) {
-        List<PerformanceResponse.PerformanceImage> images = performance.getImgs().stream()
+    private PerformanceResponse convertToResponse(Performance performance, PerformanceDetailSnapshot snapshot,
+        Map<Long, Boolean> isLikedMap) {
+        List<PerformanceResponse.PerformanceImage> images = snapshot.getImages().stream()
             .map(img -> PerformanceResponse.PerformanceImage.builder()
-                .id(img.getId().toString())
+                .id(img.getId())
                 .src(img.getSrc())
                 .alt(img.getAlt())
                 .build())
@@ -184,22 +231,22 @@ public class PerformanceService {
             .startDate(performance.getStartDate().format(ISO_FORMATTER))
             .endDate(performance.getEndDate().format(ISO_FORMATTER))
             .location(performance.getLocation())
-            .cast(performance.getCast())
-            .crew(performance.getCrew())
+            .cast(snapshot.getCast())
+            .crew(snapshot.getCrew())
             .runtime(performance.getRuntime())
             .age(performance.getAge())
-            .productionCompany(performance.getProductionCompany())
-            .agency(performance.getAgency())
-            .host(performance.getHost())
-            .organizer(performance.getOrganizer())
-            .price(performance.getPrice())
+            .productionCompany(snapshot.getProductionCompany())
+            .agency(snapshot.getAgency())
+            .host(snapshot.getHost())
+            .organizer(snapshot.getOrganizer())
+            .price(snapshot.getPrice())
             .poster(performance.getPoster())
             .state(performance.getState().getDescription())
             .visit(performance.getVisit())
             .images(images)
-            .time(performance.getTime())
-            .groupCount(groupCountMap.getOrDefault(performance.getId(), 0L).intValue())
-            .favoriteCount(favoriteCountMap.getOrDefault(performance.getId(), 0L).intValue())
+            .time(snapshot.getTime())
+            .groupCount(performance.getGroupCount())
+            .favoriteCount(performance.getFavoriteCount())
             .isLiked(isLikedMap.getOrDefault(performance.getId(), false))
             .build();
     }
@@ -226,9 +273,17 @@ public class PerformanceService {
                 .targetId(performanceId)
                 .build();
             bookmarkRepository.save(bookmark);
+            performanceRepository.increaseFavoriteCount(performanceId);
+            memberBookmarkCache.bookmarked(memberId, BookmarkType.PERFORMANCE, performanceId);
+            eventPublisher.publishEvent(new PerformanceCountChangedEvent(performanceId, LeaderboardType.FAVORITE));
         } else if (Boolean.FALSE.equals(request.getIsLiked()) && currentlyLiked) {
-            bookmarkRepository.deleteByMemberIdAndTypeAndTargetId(
+            long deleted = bookmarkRepository.deleteByMemberIdAndTypeAndTargetId(
                 memberId, BookmarkType.PERFORMANCE, performanceId);
+            if (deleted > 0) {
+                performanceRepository.decreaseFavoriteCount(performanceId);
+                memberBookmarkCache.unbookmarked(memberId, BookmarkType.PERFORMANCE, performanceId);
+                eventPublisher.publishEvent(new PerformanceCountChangedEvent(performanceId, LeaderboardType.FAVORITE));
+            }
         }
 
         boolean finalLikedState = Boolean.TRUE.equals(request.getIsLiked());
@@ -239,36 +294,23 @@ public class PerformanceService {
      * 찜한 수가 많은 공연 TOP5 조회 (아직 시작하지 않은 공연만)
      */
     public ResponseWrapper<List<PerformanceResponse>> getTopFavoriteUpcomingPerformances(Long memberId) {
-        List<Performance> topPerformances = performanceRepository.findTopFavoriteUpcomingPerformances(5);
+        List<Performance> topPerformances = findTopUpcomingPerformances(LeaderboardType.FAVORITE, 5);
 
         if (topPerformances.isEmpty()) {
             return ResponseWrapper.success("요청이 성공적으로 처리되었습니다.", List.of());
         }
 
-        topPerformances.forEach(performance -> {
-            performance.getCast().size();
-            performance.getCrew().size();
-            performance.getProductionCompany().size();
-            performance.getAgency().size();
-            performance.getHost().size();
-            performance.getOrganizer().size();
-            performance.getPrice().size();
-            performance.getTime().size();
-            performance.getImgs().size();
-        });
-
         List<Long> performanceIds = topPerformances.stream()
             .map(Performance::getId)
             .collect(Collectors.toList());
 
-        Map<Long, Long> groupCountMap = performanceRepository.findGroupCountsByPerformanceIds(performanceIds);
+        Map<Long, Boolean> isLikedMap = memberBookmarkCache.isBookmarked(memberId, BookmarkType.PERFORMANCE,
+            performanceIds);
 
-        Map<Long, Long> favoriteCountMap = performanceRepository.findFavoriteCountsByPerformanceIds(performanceIds);
-
-        Map<Long, Boolean> isLikedMap = performanceRepository.findIsLikedByPerformanceIds(performanceIds, memberId);
+        Map<Long, PerformanceDetailSnapshot> snapshotMap = performanceReadModelService.getSnapshots(topPerformances);
 
         List<PerformanceResponse> performanceResponses = topPerformances.stream()
-            .map(performance -> convertToResponse(performance, groupCountMap, favoriteCountMap, isLikedMap))
+            .map(performance -> convertToResponse(performance, snapshotMap.get(performance.getId()), isLikedMap))
             .toList();
 
         return ResponseWrapper.success("요청이 성공적으로 처리되었습니다.", performanceResponses);
@@ -278,38 +320,50 @@ public class PerformanceService {
      * 개설된 모임이 가장 많은 공연 TOP5 조회 (아직 시작하지 않은 공연만)
      */
     public ResponseWrapper<List<PerformanceResponse>> getTopGroupsUpcomingPerformances(Long memberId) {
-        List<Performance> topPerformances = performanceRepository.findTopGroupsUpcomingPerformances(5);
+        List<Performance> topPerformances = findTopUpcomingPerformances(LeaderboardType.GROUP, 5);
 
         if (topPerformances.isEmpty()) {
             return ResponseWrapper.success("요청이 성공적으로 처리되었습니다.", List.of());
         }
 
-        topPerformances.forEach(performance -> {
-            performance.getCast().size();
-            performance.getCrew().size();
-            performance.getProductionCompany().size();
-            performance.getAgency().size();
-            performance.getHost().size();
-            performance.getOrganizer().size();
-            performance.getPrice().size();
-            performance.getTime().size();
-            performance.getImgs().size();
-        });
-
         List<Long> performanceIds = topPerformances.stream()
             .map(Performance::getId)
             .collect(Collectors.toList());
 
-        Map<Long, Long> groupCountMap = performanceRepository.findGroupCountsByPerformanceIds(performanceIds);
+        Map<Long, Boolean> isLikedMap = memberBookmarkCache.isBookmarked(memberId, BookmarkType.PERFORMANCE,
+            performanceIds);
 
-        Map<Long, Long> favoriteCountMap = performanceRepository.findFavoriteCountsByPerformanceIds(performanceIds);
-
-        Map<Long, Boolean> isLikedMap = performanceRepository.findIsLikedByPerformanceIds(performanceIds, memberId);
+        Map<Long, PerformanceDetailSnapshot> snapshotMap = performanceReadModelService.getSnapshots(topPerformances);
 
         List<PerformanceResponse> performanceResponses = topPerformances.stream()
-            .map(performance -> convertToResponse(performance, groupCountMap, favoriteCountMap, isLikedMap))
+            .map(performance -> convertToResponse(performance, snapshotMap.get(performance.getId()), isLikedMap))
             .toList();
 
         return ResponseWrapper.success("요청이 성공적으로 처리되었습니다.", performanceResponses);
     }
-} 
+
+    /**
+     * 메모리의 순위에서 공연 ID를 읽고 공연은 ID로만 조회한다. 순위를 쓸 수 없으면 DB에서 정렬해 조회한다.
+     */
+    private List<Performance> findTopUpcomingPerformances(LeaderboardType type, int limit) {
+        return performanceLeaderboard.top(type, limit, LocalDateTime.now())
+            .map(this::findAllInOrder)
+            .orElseGet(() -> type == LeaderboardType.FAVORITE
+                ? performanceRepository.findTopFavoriteUpcomingPerformances(limit)
+                : performanceRepository.findTopGroupsUpcomingPerformances(limit));
+    }
+
+    private List<Performance> findAllInOrder(List<Long> performanceIds) {
+        if (performanceIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Performance> performanceMap = performanceRepository.findAllById(performanceIds).stream()
+            .collect(Collectors.toMap(Performance::getId, Function.identity()));
+
+        return performanceIds.stream()
+            .map(performanceMap::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
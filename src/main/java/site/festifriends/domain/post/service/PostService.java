@@ -15,8 +15,7 @@ import site.festifriends.domain.comment.repository.CommentRepository;
 import site.festifriends.domain.group.repository.GroupRepository;
 import site.festifriends.domain.member.repository.MemberImageRepository;
 import site.festifriends.domain.member.repository.MemberRepository;
-import site.festifriends.domain.notifications.dto.NotificationEvent;
-import site.festifriends.domain.notifications.service.NotificationService;
+import site.festifriends.domain.notifications.NotificationSender;
 import site.festifriends.domain.post.dto.PostCreateRequest;
 import site.festifriends.domain.post.dto.PostCreateResponse;
 import site.festifriends.domain.post.dto.PostListRequest;
@@ -49,7 +48,7 @@ public class PostService {
     private final MemberImageRepository memberImageRepository;
     private final PostImageRepository postImageRepository;
     private final CommentRepository commentRepository;
-    private final NotificationService notificationService;
+    private final NotificationSender notificationSender;
 
     /**
      * 모임 내 게시글 목록 조회
@@ -146,17 +145,15 @@ public class PostService {
             postImageRepository.saveAll(images);
         }
 
-        List<Member> members = applicationRepository.findMembersByGroupId(groupId);
-        NotificationEvent event = notificationService.createNotifications(
-            members,
+        notificationSender.sendAll(
+            applicationRepository.findMemberIdsByGroupId(groupId),
             NotificationType.POST,
             group.getTitle(),
             savedPost.getId(),
-            groupId
+            groupId,
+            memberId
         );
 
-        notificationService.sendNotifications(members, event, memberId);
-
         return PostCreateResponse.success();
     }
 
@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 import site.festifriends.common.exception.BusinessException;
 import site.festifriends.common.exception.ErrorCode;
 import site.festifriends.common.response.PageResponseWrapper;
+import site.festifriends.domain.auth.service.MemberAuthStateCache;
 import site.festifriends.domain.member.service.MemberService;
 import site.festifriends.domain.report.dto.CreateReportRequest;
 import site.festifriends.domain.report.dto.GetReportDetailResponse;
@@ -28,6 +29,7 @@ import site.festifriends.entity.enums.ReportStatus;
 public class ReportService {
 
     private final MemberService memberService;
+    private final MemberAuthStateCache memberAuthStateCache;
     private final ReportRepository reportRepository;
     private final ReportImageRepository reportImageRepository;
 
@@ -138,6 +140,7 @@ public class ReportService {
 
                 Member targetMember = memberService.getMemberById(report.getTargetId());
                 targetMember.ban();
+                memberAuthStateCache.evict(targetMember.getId());
                 return "해당 신고가 승인되었습니다";
             } else if (request.getReportStatus() == ReportStatus.REJECTED) {
                 report.process(ReportStatus.REJECTED);
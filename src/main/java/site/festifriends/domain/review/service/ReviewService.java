@@ -15,8 +15,7 @@ import site.festifriends.common.exception.ErrorCode;
 import site.festifriends.common.response.CursorResponseWrapper;
 import site.festifriends.domain.group.repository.GroupRepository;
 import site.festifriends.domain.member.repository.MemberRepository;
-import site.festifriends.domain.notifications.dto.NotificationEvent;
-import site.festifriends.domain.notifications.service.NotificationService;
+import site.festifriends.domain.notifications.NotificationSender;
 import site.festifriends.domain.review.dto.CreateReviewRequest;
 import site.festifriends.domain.review.dto.RecentReviewResponse;
 import site.festifriends.domain.review.dto.UserReviewRequest;
@@ -41,7 +40,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final GroupRepository groupRepository;
     private final MemberRepository memberRepository;
-    private final NotificationService notificationService;
+    private final NotificationSender notificationSender;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -207,18 +206,13 @@ public class ReviewService {
 
         reviewRepository.save(review);
 
-        NotificationEvent event = notificationService.createNotification(
-            targetUser,
+        notificationSender.send(
+            targetUserId,
             NotificationType.MY_PROFILE,
             reviewer.getNickname(),
             null,
             null
         );
-
-        notificationService.sendNotification(
-            targetUserId,
-            event
-        );
     }
 
     /**
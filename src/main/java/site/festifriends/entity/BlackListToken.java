@@ -5,16 +5,23 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
 import site.festifriends.common.model.BaseEntity;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "black_list_token")
+@Table(name = "black_list_token",
+    indexes = {
+        @Index(name = "idx_black_list_token_token_hash", columnList = "token_hash"),
+        @Index(name = "idx_black_list_token_created_at", columnList = "created_at")
+    })
 public class BlackListToken extends BaseEntity {
 
     @Id
@@ -22,14 +29,29 @@ public class BlackListToken extends BaseEntity {
     @Column(name = "blacklist_token_id", nullable = false)
     private Long id;
 
-    @Column(name = "token", nullable = false)
+    @Column(name = "token")
+    @Comment("해시 도입 전 행의 토큰 원문 (해시로 변환한 뒤 비운다)")
     private String token;
 
-    public BlackListToken(String token) {
-        this.token = token;
+    @Column(name = "token_hash", length = 64)
+    @Comment("토큰 SHA-256 해시")
+    private String tokenHash;
+
+    @Column(name = "expires_at")
+    @Comment("토큰 만료 시간 (이후 삭제)")
+    private LocalDateTime expiresAt;
+
+    public BlackListToken(String tokenHash, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
     }
 
-    public void updateToken(String token) {
-        this.token = token;
+    /**
+     * 예전 행의 원문을 해시로 바꾸고 원문은 지운다.
+     */
+    public void replaceTokenWithHash(String tokenHash, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+        this.token = null;
     }
 }
@@ -0,0 +1,97 @@
+package site.festifriends.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import site.festifriends.common.model.BaseEntity;
+import site.festifriends.entity.enums.OutboxStatus;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "kakao_unlink_task")
+public class KakaoUnlinkTask extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "kakao_unlink_task_id", nullable = false)
+    private Long id;
+
+    @Column(name = "social_id", nullable = false)
+    @Comment("연결을 해제할 카카오 회원번호")
+    private String socialId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Comment("처리 상태")
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    @Comment("처리 시도 횟수")
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    @Comment("다음 처리 가능 시간")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    @Comment("마지막 실패 사유")
+    private String lastError;
+
+    public KakaoUnlinkTask(String socialId) {
+        this.socialId = socialId;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 카카오 호출은 트랜잭션 밖에서 하므로, 처리하는 동안 다른 서버가 가져가지 않도록 다음 처리 시간을 미뤄 둔다.
+     * 처리 도중 서버가 내려가면 이 시간이 지난 뒤 다시 처리된다.
+     */
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void markDone() {
+        this.status = OutboxStatus.DONE;
+    }
+
+    /**
+     * 다시 시도해도 결과가 같은 실패(4xx)는 재시도하지 않는다.
+     */
+    public void markFailed(String error) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.status = OutboxStatus.FAILED;
+    }
+
+    /**
+     * 실패 횟수에 따라 다음 시도 시간을 늦추고, 최대 횟수를 넘으면 더 이상 처리하지 않는다.
+     */
+    public void markRetry(String error, int maxAttempts, long backoffMillis) {
+        this.attempts++;
+        this.lastError = truncate(error);
+
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMillis << (attempts - 1)));
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > 255 ? error.substring(0, 255) : error;
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,12 @@ import site.festifriends.entity.enums.NotificationType;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "notification")
+@Table(
+    name = "notification",
+    indexes = {
+        @Index(name = "idx_notification_member_id", columnList = "member_id, notification_id")
+    }
+)
 public class Notification extends SoftDeleteEntity {
 
     @Id
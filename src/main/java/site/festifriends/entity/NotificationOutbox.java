@@ -0,0 +1,118 @@
+package site.festifriends.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import site.festifriends.common.model.BaseEntity;
+import site.festifriends.entity.enums.NotificationType;
+import site.festifriends.entity.enums.OutboxStatus;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox")
+public class NotificationOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_outbox_id", nullable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    @Comment("알림 타입")
+    private NotificationType type;
+
+    @Column(name = "message", nullable = false)
+    @Comment("알림 메시지")
+    private String message;
+
+    @Column(name = "target_id")
+    @Comment("알림 대상 ID")
+    private Long targetId;
+
+    @Column(name = "sub_target_id")
+    @Comment("알림 서브 대상 ID")
+    private Long subTargetId;
+
+    @Column(name = "recipient_ids", nullable = false, columnDefinition = "TEXT")
+    @Comment("알림을 받을 회원 ID 목록 (쉼표 구분)")
+    private String recipientIds;
+
+    @Column(name = "push_excluded_member_id")
+    @Comment("알림은 저장하되 실시간 전송에서 제외할 회원 ID (예: 게시글 작성자)")
+    private Long pushExcludedMemberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Comment("처리 상태")
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    @Comment("처리 시도 횟수")
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    @Comment("다음 처리 가능 시간")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    @Comment("마지막 실패 사유")
+    private String lastError;
+
+    @Builder
+    public NotificationOutbox(NotificationType type, String message, Long targetId, Long subTargetId,
+        List<Long> recipientIds, Long pushExcludedMemberId) {
+        this.type = type;
+        this.message = message;
+        this.targetId = targetId;
+        this.subTargetId = subTargetId;
+        this.recipientIds = recipientIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        this.pushExcludedMemberId = pushExcludedMemberId;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public List<Long> getRecipientIdList() {
+        if (recipientIds == null || recipientIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(recipientIds.split(","))
+            .map(Long::valueOf)
+            .toList();
+    }
+
+    public void markDone() {
+        this.status = OutboxStatus.DONE;
+    }
+
+    /**
+     * 실패 횟수에 따라 다음 시도 시간을 늦추고, 최대 횟수를 넘으면 더 이상 처리하지 않는다.
+     */
+    public void markRetry(String error, int maxAttempts, long backoffMillis) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMillis << (attempts - 1)));
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderColumn;
@@ -21,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import site.festifriends.common.model.SoftDeleteEntity;
 import site.festifriends.entity.enums.PerformanceState;
@@ -28,7 +30,16 @@ import site.festifriends.entity.enums.PerformanceState;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "performance")
+@Table(
+    name = "performance",
+    indexes = {
+        @Index(name = "idx_performance_title", columnList = "title"),
+        @Index(name = "idx_performance_start_date", columnList = "start_date"),
+        @Index(name = "idx_performance_end_date", columnList = "end_date"),
+        @Index(name = "idx_performance_group_count", columnList = "group_count, title"),
+        @Index(name = "idx_performance_favorite_count", columnList = "favorite_count, title")
+    }
+)
 public class Performance extends SoftDeleteEntity {
 
     @Id
@@ -36,6 +47,10 @@ public class Performance extends SoftDeleteEntity {
     @Column(name = "performance_id", nullable = false)
     private Long id;
 
+    @Column(name = "external_id", unique = true)
+    @Comment("외부 공연 ID (카탈로그 가져오기 기준)")
+    private String externalId;
+
     @Column(name = "title", nullable = false)
     @Comment("공연명")
     private String title;
@@ -129,6 +144,16 @@ public class Performance extends SoftDeleteEntity {
     @Comment("공연 시간")
     private List<String> time = new ArrayList<>();
 
+    @ColumnDefault("0")
+    @Column(name = "group_count", nullable = false)
+    @Comment("개설된 모임 수 (정렬용 집계값)")
+    private int groupCount;
+
+    @ColumnDefault("0")
+    @Column(name = "favorite_count", nullable = false)
+    @Comment("찜한 회원 수 (정렬용 집계값)")
+    private int favoriteCount;
+
     @OneToMany(mappedBy = "performance", cascade = CascadeType.ALL, orphanRemoval = true)
     @Comment("소개 이미지 목록")
     private List<PerformanceImage> imgs = new ArrayList<>();
@@ -0,0 +1,48 @@
+package site.festifriends.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import site.festifriends.common.model.BaseEntity;
+
+/**
+ * 공연 상세 조회용 읽기 모델
+ * 출연진, 제작진, 가격, 시간, 이미지 등 컬렉션 필드를 JSON 한 건으로 저장해 조회 시 컬렉션마다 쿼리가 나가지 않게 한다.
+ * 저장은 PerformanceReadModelRepository.upsertAll 로만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "performance_read_model")
+public class PerformanceReadModel extends BaseEntity {
+
+    @Id
+    @Column(name = "performance_id", nullable = false)
+    private Long performanceId;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    @Comment("공연 컬렉션 필드 JSON")
+    private String content;
+
+    @Column(name = "source_updated_at", nullable = false)
+    @Comment("JSON을 만들 때의 공연 수정 시간")
+    private LocalDateTime sourceUpdatedAt;
+
+    @Builder
+    public PerformanceReadModel(Long performanceId, String content, LocalDateTime sourceUpdatedAt) {
+        this.performanceId = performanceId;
+        this.content = content;
+        this.sourceUpdatedAt = sourceUpdatedAt;
+    }
+
+    public boolean isStale(LocalDateTime performanceUpdatedAt) {
+        return performanceUpdatedAt != null && performanceUpdatedAt.isAfter(sourceUpdatedAt);
+    }
+}
@@ -0,0 +1,8 @@
+package site.festifriends.entity.enums;
+
+/**
+ * 아웃박스 처리 상태 (알림 아웃박스, 카카오 연결 해제 작업)
+ */
+public enum OutboxStatus {
+    PENDING, DONE, FAILED
+}
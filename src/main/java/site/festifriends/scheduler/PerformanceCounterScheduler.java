@@ -0,0 +1,35 @@
+package site.festifriends.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.festifriends.domain.performance.leaderboard.PerformanceLeaderboardUpdater;
+import site.festifriends.scheduler.service.PerformanceCounterReconcileService;
+
+/**
+ * 공연 모임 수/찜 수 집계값 보정 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceCounterScheduler {
+
+    private final PerformanceCounterReconcileService performanceCounterReconcileService;
+    private final PerformanceLeaderboardUpdater performanceLeaderboardUpdater;
+
+    /**
+     * 기본값은 매시 20분에 실행
+     */
+    @Scheduled(cron = "${performance.counter.reconcile-cron:0 20 * * * *}")
+    public void reconcileCounters() {
+        log.info("공연 집계값 보정 작업을 시작합니다.");
+        try {
+            int reconciledCount = performanceCounterReconcileService.reconcileAll();
+            log.info("공연 집계값 보정 작업이 완료되었습니다. 처리한 공연 수: {}", reconciledCount);
+            performanceLeaderboardUpdater.rebuild();
+        } catch (Exception e) {
+            log.error("공연 집계값 보정 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package site.festifriends.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.festifriends.scheduler.service.PerformanceReadModelRepairService;
+
+/**
+ * 공연 상세 읽기 모델 보정 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceReadModelScheduler {
+
+    private final PerformanceReadModelRepairService performanceReadModelRepairService;
+
+    /**
+     * 기본값은 10분마다 실행
+     */
+    @Scheduled(fixedDelayString = "${performance.read-model.repair-interval-ms:600000}")
+    public void repairReadModels() {
+        try {
+            int repairedCount = performanceReadModelRepairService.repairAll();
+            if (repairedCount > 0) {
+                log.info("공연 읽기 모델 보정 완료. 다시 만든 공연 수: {}", repairedCount);
+            }
+        } catch (Exception e) {
+            log.error("공연 읽기 모델 보정 중 오류가 발생했습니다.", e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import site.festifriends.domain.performance.leaderboard.PerformanceLeaderboardUpdater;
 import site.festifriends.scheduler.service.PerformanceStateUpdateService;
 
 /**
@@ -15,6 +16,7 @@ import site.festifriends.scheduler.service.PerformanceStateUpdateService;
 public class PerformanceStateScheduler {
 
     private final PerformanceStateUpdateService performanceStateUpdateService;
+    private final PerformanceLeaderboardUpdater performanceLeaderboardUpdater;
 
     /**
      * 매일 자정 1분에 공연 상태 업데이트 실행
@@ -27,8 +29,25 @@ public class PerformanceStateScheduler {
         try {
             int updatedCount = performanceStateUpdateService.updateAllPerformanceStates();
             log.info("공연 상태 자동 업데이트 작업이 완료되었습니다. 업데이트된 공연 수: {}", updatedCount);
+            performanceLeaderboardUpdater.rebuild();
         } catch (Exception e) {
             log.error("공연 상태 자동 업데이트 작업 중 오류가 발생했습니다.", e);
         }
     }
+
+    /**
+     * 자정까지 기다리지 않도록 시작/종료 시각이 지난 공연을 주기적으로 반영한다. (기본값 5분)
+     */
+    @Scheduled(fixedDelayString = "${performance.state.transition-interval-ms:300000}")
+    public void updateChangedPerformanceStates() {
+        try {
+            int updatedCount = performanceStateUpdateService.updateChangedPerformanceStates();
+            if (updatedCount > 0) {
+                log.info("공연 상태 변경 반영 완료. 업데이트된 공연 수: {}", updatedCount);
+                performanceLeaderboardUpdater.rebuild();
+            }
+        } catch (Exception e) {
+            log.error("공연 상태 변경 반영 중 오류가 발생했습니다.", e);
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package site.festifriends.scheduler;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.festifriends.scheduler.service.RetentionService;
+
+/**
+ * 보관 기간이 지난 알림, 채팅 메시지, 알림 outbox 정리 스케줄러
+ * 인스턴스 간 잠금이 없으므로 retention.enabled=true 로 설정한 인스턴스에서만 등록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "retention", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RetentionScheduler {
+
+    private final RetentionService retentionService;
+
+    /**
+     * 기본값은 매일 03:30:00에 실행 (트래픽이 적은 시간)
+     */
+    @Scheduled(cron = "${retention.cron:0 30 3 * * *}")
+    public void purgeExpiredRows() {
+        log.info("보관 기간 정리 작업을 시작합니다.");
+        try {
+            Map<String, Integer> purged = retentionService.purgeAll();
+            log.info("보관 기간 정리 작업이 완료되었습니다. 테이블별 삭제된 행 수: {}", purged);
+        } catch (Exception e) {
+            log.error("보관 기간 정리 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+}
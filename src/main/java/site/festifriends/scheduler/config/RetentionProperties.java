@@ -0,0 +1,69 @@
+package site.festifriends.scheduler.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 데이터 보관 정책 설정
+ * 테이블마다 최대 보관 기간, 소프트 삭제 유예 기간, 아카이브 테이블을 지정한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "retention")
+public class RetentionProperties {
+
+    /**
+     * 여러 인스턴스가 같은 행을 동시에 지우지 않도록 기본값은 꺼 두고, 한 인스턴스에서만 켠다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 한 트랜잭션에서 삭제할 최대 행 수
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 한 번 실행할 때 테이블당 처리할 최대 배치 수
+     */
+    private int maxBatchesPerRun = 200;
+
+    /**
+     * 배치 사이 대기 시간 (다른 트랜잭션이 락을 얻을 틈을 준다)
+     */
+    private long pauseMs = 50;
+
+    private List<TablePolicy> tables = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class TablePolicy {
+
+        private String table;
+
+        private String idColumn;
+
+        /**
+         * created_at 기준 보관 기간. 비어 있으면 기간으로 삭제하지 않는다.
+         */
+        private Duration maxAge;
+
+        /**
+         * deleted 기준 유예 기간. 비어 있으면 소프트 삭제 컬럼이 없는 테이블로 본다.
+         */
+        private Duration softDeletedGrace;
+
+        /**
+         * 삭제 전에 행을 복사할 테이블. 원본과 컬럼 구성이 같아야 한다.
+         */
+        private String archiveTable;
+
+        /**
+         * 삭제 대상에 추가로 적용할 조건 (예: status = 'DONE')
+         */
+        private String condition;
+    }
+}
@@ -0,0 +1,54 @@
+package site.festifriends.scheduler.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.festifriends.domain.performance.repository.PerformanceRepository;
+import site.festifriends.entity.enums.BookmarkType;
+
+/**
+ * 공연의 모임 수/찜 수 집계 컬럼 보정
+ * 집계값은 모임 개설/삭제, 찜 토글 시 바로 증감하지만, 직접 수정한 데이터나 실패한 요청으로 어긋날 수 있어
+ * 주기적으로 실제 값으로 다시 맞춘다. ID 범위마다 별도 트랜잭션으로 처리해 락을 짧게 유지한다.
+ */
+@Slf4j
+@Service
+public class PerformanceCounterReconcileService {
+
+    private final PerformanceRepository performanceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public PerformanceCounterReconcileService(
+        PerformanceRepository performanceRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${performance.counter.reconcile-chunk-size:1000}") int chunkSize
+    ) {
+        this.performanceRepository = performanceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 처리한 공연 수를 반환한다.
+     */
+    public int reconcileAll() {
+        long maxId = performanceRepository.findMaxId();
+        int reconciled = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long from = fromId;
+            long to = fromId + chunkSize - 1;
+            Integer updated = transactionTemplate.execute(status -> {
+                performanceRepository.reconcileFavoriteCounts(from, to, BookmarkType.PERFORMANCE);
+                return performanceRepository.reconcileGroupCounts(from, to);
+            });
+            reconciled += updated != null ? updated : 0;
+        }
+
+        log.debug("공연 집계값 보정 완료. 처리한 공연 수={}", reconciled);
+        return reconciled;
+    }
+}
@@ -0,0 +1,64 @@
+package site.festifriends.scheduler.service;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.festifriends.domain.performance.repository.PerformanceReadModelRepository;
+import site.festifriends.domain.performance.repository.PerformanceRepository;
+import site.festifriends.domain.performance.service.PerformanceReadModelService;
+
+/**
+ * 공연 상세 읽기 모델 보정
+ * 가져오기 외의 경로(엔티티 수정, 직접 수정한 데이터)로 바뀐 공연은 읽기 모델이 없거나 오래될 수 있어
+ * 주기적으로 찾아 다시 만든다. 그 전까지 해당 공연의 조회는 엔티티에서 스냅샷을 만든다.
+ * ID 범위마다 별도 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Service
+public class PerformanceReadModelRepairService {
+
+    private final PerformanceRepository performanceRepository;
+    private final PerformanceReadModelRepository performanceReadModelRepository;
+    private final PerformanceReadModelService performanceReadModelService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public PerformanceReadModelRepairService(
+        PerformanceRepository performanceRepository,
+        PerformanceReadModelRepository performanceReadModelRepository,
+        PerformanceReadModelService performanceReadModelService,
+        PlatformTransactionManager transactionManager,
+        @Value("${performance.read-model.repair-chunk-size:500}") int chunkSize
+    ) {
+        this.performanceRepository = performanceRepository;
+        this.performanceReadModelRepository = performanceReadModelRepository;
+        this.performanceReadModelService = performanceReadModelService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 다시 만든 공연 수를 반환한다.
+     */
+    public int repairAll() {
+        long maxId = performanceRepository.findMaxId();
+        int repaired = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long from = fromId;
+            long to = fromId + chunkSize - 1;
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> staleIds = performanceReadModelRepository.findStaleIds(from, to);
+                performanceReadModelService.refresh(staleIds);
+                return staleIds.size();
+            });
+            repaired += count != null ? count : 0;
+        }
+
+        log.debug("공연 읽기 모델 보정 완료. 다시 만든 공연 수={}", repaired);
+        return repaired;
+    }
+}
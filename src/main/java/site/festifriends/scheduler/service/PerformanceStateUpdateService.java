@@ -1,43 +1,89 @@
 package site.festifriends.scheduler.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import site.festifriends.domain.performance.repository.PerformanceRepository;
-import site.festifriends.entity.Performance;
+import site.festifriends.entity.enums.PerformanceState;
 
+/**
+ * 공연 상태(공연 예정/공연 중/공연 종료)를 현재 시간 기준으로 맞춘다.
+ * 엔티티를 모두 읽지 않고, 바뀌어야 하는 공연 ID만 날짜 조건으로 찾아 상태별 벌크 UPDATE 로 반영한다.
+ * - 주기 실행: 마지막 실행 이후 시작/종료 시각이 지난 공연만 찾는다. (watermark)
+ * - 전체 실행: 날짜가 수정된 공연까지 포함해 모든 공연을 확인한다. 서버 기동 후 첫 주기 실행도 전체 실행으로 처리한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional
 public class PerformanceStateUpdateService {
 
     private final PerformanceRepository performanceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long overlapMillis;
+
+    private volatile LocalDateTime watermark;
+
+    public PerformanceStateUpdateService(
+        PerformanceRepository performanceRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${performance.state.chunk-size:500}") int chunkSize,
+        @Value("${performance.state.overlap-ms:60000}") long overlapMillis
+    ) {
+        this.performanceRepository = performanceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.overlapMillis = overlapMillis;
+    }
 
     /**
      * 모든 공연의 상태를 현재 시간 기준으로 업데이트
      */
     public int updateAllPerformanceStates() {
-        log.debug("공연 상태 업데이트 서비스 시작");
-        List<Performance> allPerformances = performanceRepository.findAll();
+        log.debug("공연 상태 전체 업데이트 시작");
+        return transition(null, LocalDateTime.now());
+    }
+
+    /**
+     * 마지막 실행 이후 시작/종료 시각이 지난 공연의 상태만 업데이트
+     */
+    public int updateChangedPerformanceStates() {
+        if (watermark == null) {
+            return updateAllPerformanceStates();
+        }
+
+        // 실행 시각이 밀리거나 겹쳐도 경계를 놓치지 않도록 조금 앞에서부터 찾는다. 다시 반영해도 결과는 같다.
+        LocalDateTime since = watermark.minusNanos(overlapMillis * 1_000_000);
+        return transition(since, LocalDateTime.now());
+    }
+
+    private int transition(LocalDateTime since, LocalDateTime now) {
         int updatedCount = 0;
-        for (Performance performance : allPerformances) {
-            var previousState = performance.getState();
-            performance.updateState();
-
-            if (!previousState.equals(performance.getState())) {
-                log.info("공연 ID: {}, 제목: '{}' 상태 변경: {} -> {}",
-                    performance.getId(),
-                    performance.getTitle(),
-                    previousState.getDescription(),
-                    performance.getState().getDescription());
-                updatedCount++;
+
+        for (PerformanceState target : PerformanceState.values()) {
+            if (since != null && target == PerformanceState.UPCOMING) {
+                // 시간이 지나 공연 예정으로 돌아가는 경우는 없으므로 전체 실행에서만 확인한다
+                continue;
+            }
+
+            List<Long> ids = performanceRepository.findIdsToTransition(target, since, now);
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                Integer updated = transactionTemplate.execute(status ->
+                    performanceRepository.updateStates(chunk, target));
+                updatedCount += updated != null ? updated : 0;
+            }
+
+            if (!ids.isEmpty()) {
+                log.info("공연 {}개 상태 변경 -> {}", ids.size(), target.getDescription());
             }
         }
-        log.debug("공연 상태 업데이트 서비스 완료. 총 {}개 공연 중 {}개 상태 변경됨",
-            allPerformances.size(), updatedCount);
+
+        watermark = now;
+        log.debug("공연 상태 업데이트 완료. 상태 변경된 공연 수={}", updatedCount);
         return updatedCount;
     }
 }
@@ -0,0 +1,182 @@
+package site.festifriends.scheduler.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.festifriends.scheduler.config.RetentionProperties;
+import site.festifriends.scheduler.config.RetentionProperties.TablePolicy;
+
+/**
+ * 보관 기간이 지난 행을 정리한다.
+ * PK 순서로 batchSize 만큼 대상 id를 고른 뒤 배치마다 별도 트랜잭션에서 (아카이브 후) 삭제하므로
+ * 한 번에 오래 잡히는 락이 없다.
+ */
+@Slf4j
+@Service
+public class RetentionService {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RetentionService(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        RetentionProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 설정된 모든 테이블을 정리하고 테이블별 삭제 행 수를 반환한다.
+     * 한 테이블에서 실패해도 나머지 테이블은 계속 처리한다.
+     */
+    public Map<String, Integer> purgeAll() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        if (!properties.isEnabled()) {
+            return result;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (TablePolicy policy : properties.getTables()) {
+            try {
+                result.put(policy.getTable(), purge(policy, now));
+            } catch (Exception e) {
+                log.error("보관 기간 정리 중 오류가 발생했습니다. table={}", policy.getTable(), e);
+            }
+        }
+        return result;
+    }
+
+    public int purge(TablePolicy policy, LocalDateTime now) {
+        validate(policy);
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhere(policy, now, params);
+        if (where == null) {
+            return 0;
+        }
+
+        String table = policy.getTable();
+        String idColumn = policy.getIdColumn();
+        String selectSql = "SELECT " + idColumn + " FROM " + table
+            + " WHERE " + idColumn + " > :lastId AND (" + where + ")"
+            + " ORDER BY " + idColumn + " LIMIT :limit";
+        String archiveSql = policy.getArchiveTable() == null ? null
+            : "INSERT INTO " + policy.getArchiveTable() + " SELECT * FROM " + table
+                + " WHERE " + idColumn + " IN (:ids)";
+        String deleteSql = "DELETE FROM " + table + " WHERE " + idColumn + " IN (:ids)";
+
+        params.addValue("limit", properties.getBatchSize());
+
+        Counter purgedCounter = meterRegistry.counter("retention.rows.purged", "table", table);
+        Counter archivedCounter = meterRegistry.counter("retention.rows.archived", "table", table);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        int purged = 0;
+        long lastId = 0L;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            params.addValue("lastId", lastId);
+            List<Long> ids = jdbcTemplate.queryForList(selectSql, params, Long.class);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            MapSqlParameterSource idParams = new MapSqlParameterSource("ids", ids);
+            Integer deleted = transactionTemplate.execute(status -> {
+                if (archiveSql != null) {
+                    archivedCounter.increment(jdbcTemplate.update(archiveSql, idParams));
+                }
+                return jdbcTemplate.update(deleteSql, idParams);
+            });
+
+            int count = deleted != null ? deleted : 0;
+            purged += count;
+            purgedCounter.increment(count);
+            lastId = ids.get(ids.size() - 1);
+
+            if (ids.size() < properties.getBatchSize()) {
+                break;
+            }
+            pause();
+        }
+
+        sample.stop(meterRegistry.timer("retention.run.duration", "table", table));
+        DistributionSummary.builder("retention.run.purged")
+            .tag("table", table)
+            .register(meterRegistry)
+            .record(purged);
+
+        log.info("보관 기간 정리 완료. table={}, 삭제된 행 수={}", table, purged);
+        return purged;
+    }
+
+    /**
+     * 최대 보관 기간이 지난 행, 또는 소프트 삭제 후 유예 기간이 지난 행을 삭제 대상으로 본다.
+     */
+    private String buildWhere(TablePolicy policy, LocalDateTime now, MapSqlParameterSource params) {
+        List<String> expired = new ArrayList<>();
+        if (policy.getMaxAge() != null) {
+            expired.add("created_at < :maxAgeCutoff");
+            params.addValue("maxAgeCutoff", now.minus(policy.getMaxAge()));
+        }
+        if (policy.getSoftDeletedGrace() != null) {
+            expired.add("(deleted IS NOT NULL AND deleted < :graceCutoff)");
+            params.addValue("graceCutoff", now.minus(policy.getSoftDeletedGrace()));
+        }
+        if (expired.isEmpty()) {
+            return null;
+        }
+
+        String where = String.join(" OR ", expired);
+        if (policy.getCondition() != null && !policy.getCondition().isBlank()) {
+            where = "(" + where + ") AND (" + policy.getCondition() + ")";
+        }
+        return where;
+    }
+
+    private void validate(TablePolicy policy) {
+        checkIdentifier(policy.getTable());
+        checkIdentifier(policy.getIdColumn());
+        if (policy.getArchiveTable() != null) {
+            checkIdentifier(policy.getArchiveTable());
+        }
+    }
+
+    private void checkIdentifier(String identifier) {
+        if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalStateException("잘못된 보관 정책 식별자입니다: " + identifier);
+        }
+    }
+
+    private void pause() {
+        if (properties.getPauseMs() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.getPauseMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
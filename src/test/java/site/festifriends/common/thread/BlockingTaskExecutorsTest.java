@@ -0,0 +1,41 @@
+package site.festifriends.common.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class BlockingTaskExecutorsTest {
+
+    @Test
+    @DisplayName("[성공] 가상 스레드 설정이 없으면 이름이 붙은 플랫폼 스레드로 실행")
+    void newExecutor_platformByDefault() throws Exception {
+        // given
+        BlockingTaskExecutors blockingTaskExecutors = new BlockingTaskExecutors(new MockEnvironment());
+        ExecutorService executor = blockingTaskExecutors.newExecutor("test-worker-", 2);
+
+        // when
+        String threadName = executor.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(blockingTaskExecutors.isVirtual()).isFalse();
+        assertThat(threadName).startsWith("test-worker-");
+    }
+
+    @Test
+    @DisplayName("[성공] 가상 스레드 설정은 Java 21 이상에서 실행할 때만 적용")
+    void isVirtual_requiresJava21() {
+        // given
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+
+        // when
+        BlockingTaskExecutors blockingTaskExecutors = new BlockingTaskExecutors(environment);
+
+        // then
+        assertThat(blockingTaskExecutors.isVirtual()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+}
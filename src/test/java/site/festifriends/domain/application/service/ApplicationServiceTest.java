@@ -19,7 +19,7 @@ import site.festifriends.common.exception.ErrorCode;
 import site.festifriends.common.response.ResponseWrapper;
 import site.festifriends.domain.application.dto.ApplicationStatusRequest;
 import site.festifriends.domain.application.repository.ApplicationRepository;
-import site.festifriends.domain.notifications.service.NotificationService;
+import site.festifriends.domain.notifications.NotificationSender;
 import site.festifriends.domain.review.repository.ReviewRepository;
 import site.festifriends.entity.Group;
 import site.festifriends.entity.Member;
@@ -42,7 +42,7 @@ class ApplicationServiceTest {
     private ApplicationService applicationService;
 
     @Mock
-    private NotificationService notificationService;
+    private NotificationSender notificationSender;
 
     private Member host;
     private Member applicant;
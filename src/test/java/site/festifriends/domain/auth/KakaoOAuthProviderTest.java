@@ -0,0 +1,183 @@
+package site.festifriends.domain.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import site.festifriends.common.config.RestClientConfig;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+
+class KakaoOAuthProviderTest {
+
+    private static final long READ_TIMEOUT_MILLIS = 300;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private CloseableHttpClient httpClient;
+    private CircuitBreaker circuitBreaker;
+    private KakaoOAuthProvider kakaoOAuthProvider;
+
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private volatile int tokenStatus = 200;
+    private volatile long tokenDelayMillis = 0;
+    private volatile int unlinkStatus = 200;
+    private volatile String userInfoAuthorization;
+    private volatile String unlinkBody;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/oauth/token", exchange -> {
+            tokenRequests.incrementAndGet();
+            sleep(tokenDelayMillis);
+            respond(exchange, tokenStatus, "{\"access_token\":\"kakao-access-token\"}");
+        });
+        server.createContext("/v2/user/me", exchange -> {
+            userInfoAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+            respond(exchange, 200, "{\"id\":12345,\"kakao_account\":{\"email\":\"test@kakao.com\"}}");
+        });
+        server.createContext("/v1/user/unlink", exchange -> {
+            unlinkBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            respond(exchange, unlinkStatus, "{\"id\":12345}");
+        });
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        RestClientConfig restClientConfig = new RestClientConfig();
+        httpClient = restClientConfig.oAuthHttpClient(10, 500, READ_TIMEOUT_MILLIS, 500);
+        circuitBreaker = CircuitBreaker.of("kakao", CircuitBreakerConfig.custom()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .ignoreExceptions(HttpClientErrorException.class)
+            .build());
+
+        kakaoOAuthProvider = new KakaoOAuthProvider(
+            restClientConfig.oAuthRestClient(httpClient),
+            circuitBreaker,
+            "client-id",
+            "http://localhost/callback",
+            "admin-key",
+            "http://localhost/dev/callback",
+            baseUrl,
+            baseUrl
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("[성공] 토큰을 받은 뒤 그 토큰으로 사용자 정보를 조회")
+    void getUserInfo_success() {
+        // when
+        JsonNode userInfo = kakaoOAuthProvider.getUserInfo("auth-code");
+
+        // then
+        assertThat(userInfo.get("id").asLong()).isEqualTo(12345L);
+        assertThat(userInfoAuthorization).isEqualTo("Bearer kakao-access-token");
+        assertThat(tokenRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패] 카카오 응답이 읽기 제한 시간을 넘으면 SERVICE_UNAVAILABLE")
+    void getUserInfo_readTimeout() {
+        // given
+        tokenDelayMillis = READ_TIMEOUT_MILLIS * 3;
+
+        // when & then
+        assertThatThrownBy(() -> kakaoOAuthProvider.getUserInfo("auth-code"))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("[실패] 5xx 응답이 이어지면 서킷이 열리고 이후 요청은 카카오를 호출하지 않음")
+    void getUserInfo_circuitOpens() {
+        // given
+        tokenStatus = 503;
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> kakaoOAuthProvider.getUserInfo("auth-code"))
+                .isInstanceOf(BusinessException.class);
+        }
+
+        // when & then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> kakaoOAuthProvider.getUserInfo("auth-code"))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+        assertThat(tokenRequests.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("[성공] 관리자 키로 회원번호의 연결을 해제")
+    void unlinkKakaoAccount_success() {
+        // when
+        kakaoOAuthProvider.unlinkKakaoAccount("12345");
+
+        // then
+        assertThat(unlinkBody).contains("target_id_type=user_id", "target_id=12345");
+    }
+
+    @Test
+    @DisplayName("[실패] 4xx 응답은 그대로 던지고 서킷 실패로 세지 않음")
+    void unlinkKakaoAccount_clientError() {
+        // given
+        unlinkStatus = 400;
+
+        // when & then
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> kakaoOAuthProvider.unlinkKakaoAccount("12345"))
+                .isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package site.festifriends.domain.auth.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import site.festifriends.domain.auth.repository.BlackListTokenRepository;
+import site.festifriends.entity.BlackListToken;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseTokenRevocationBackendTest {
+
+    private static final long LIFETIME_MILLIS = 604800000L;
+
+    @Mock
+    private BlackListTokenRepository blackListTokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DatabaseTokenRevocationBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new DatabaseTokenRevocationBackend(blackListTokenRepository, transactionManager, LIFETIME_MILLIS,
+            2);
+    }
+
+    @Test
+    @DisplayName("[성공] 폐기 토큰은 원문 없이 해시와 만료 시간만 저장")
+    void revoke_savesHashOnly() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+
+        // when
+        backend.revoke(new RevokedToken(TokenHashes.sha256("token"), expiresAt));
+
+        // then
+        ArgumentCaptor<BlackListToken> captor = ArgumentCaptor.forClass(BlackListToken.class);
+        verify(blackListTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getToken()).isNull();
+        assertThat(captor.getValue().getTokenHash()).isEqualTo(TokenHashes.sha256("token"));
+        assertThat(captor.getValue().getExpiresAt()).isEqualTo(expiresAt);
+    }
+
+    @Test
+    @DisplayName("[성공] 원문으로 저장된 예전 행은 해시와 만료 시간으로 바꾸고 원문을 지움")
+    void backfillLegacyTokens() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        BlackListToken first = legacyToken("first", createdAt);
+        BlackListToken second = legacyToken("second", createdAt);
+        BlackListToken third = legacyToken("third", createdAt);
+        when(blackListTokenRepository.findLegacyTokens(any(Pageable.class)))
+            .thenReturn(List.of(first, second))
+            .thenReturn(List.of(third));
+
+        // when
+        int converted = backend.backfillLegacyTokens();
+
+        // then
+        assertThat(converted).isEqualTo(3);
+        assertThat(first.getToken()).isNull();
+        assertThat(first.getTokenHash()).isEqualTo(TokenHashes.sha256("first"));
+        assertThat(first.getExpiresAt()).isEqualTo(createdAt.plusNanos(LIFETIME_MILLIS * 1_000_000));
+        assertThat(third.getTokenHash()).isEqualTo(TokenHashes.sha256("third"));
+    }
+
+    private BlackListToken legacyToken(String token, LocalDateTime createdAt) {
+        BlackListToken legacy = new BlackListToken(null, null);
+        ReflectionTestUtils.setField(legacy, "token", token);
+        ReflectionTestUtils.setField(legacy, "createdAt", createdAt);
+        return legacy;
+    }
+}
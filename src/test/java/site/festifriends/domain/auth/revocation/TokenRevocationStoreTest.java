@@ -0,0 +1,45 @@
+package site.festifriends.domain.auth.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationStoreTest {
+
+    private final TokenRevocationStore tokenRevocationStore = new TokenRevocationStore(100, 0.01);
+
+    @Test
+    @DisplayName("[성공] 폐기한 토큰만 만료 전까지 폐기된 것으로 확인")
+    void isRevoked() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        tokenRevocationStore.add(new RevokedToken(TokenHashes.sha256("revoked"), now.plusHours(1)));
+
+        // when & then
+        assertThat(tokenRevocationStore.isRevoked(TokenHashes.sha256("revoked"), now)).isTrue();
+        assertThat(tokenRevocationStore.isRevoked(TokenHashes.sha256("revoked"), now.plusHours(2))).isFalse();
+        assertThat(tokenRevocationStore.isRevoked(TokenHashes.sha256("valid"), now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 만료된 항목을 정리해도 남은 항목은 그대로 확인")
+    void evictExpired() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        IntStream.range(0, 500).forEach(i ->
+            tokenRevocationStore.add(new RevokedToken(TokenHashes.sha256("expired-" + i), now.minusMinutes(1))));
+        tokenRevocationStore.add(new RevokedToken(TokenHashes.sha256("active"), now.plusHours(1)));
+
+        // when
+        int evicted = tokenRevocationStore.evictExpired(now);
+
+        // then
+        assertThat(evicted).isEqualTo(500);
+        assertThat(tokenRevocationStore.size()).isEqualTo(1);
+        assertThat(tokenRevocationStore.isRevoked(TokenHashes.sha256("active"), now)).isTrue();
+        assertThat(tokenRevocationStore.isRevoked(TokenHashes.sha256("expired-0"), now.minusHours(1))).isFalse();
+    }
+}
@@ -0,0 +1,108 @@
+package site.festifriends.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.jsonwebtoken.security.SignatureException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.festifriends.common.jwt.AccessTokenProvider;
+import site.festifriends.common.jwt.RefreshTokenProvider;
+import site.festifriends.domain.auth.revocation.RevokedToken;
+import site.festifriends.domain.auth.revocation.TokenHashes;
+import site.festifriends.domain.auth.revocation.TokenRevocationBackend;
+import site.festifriends.domain.auth.revocation.TokenRevocationStore;
+
+@ExtendWith(MockitoExtension.class)
+class BlackListTokenServiceTest {
+
+    @Mock
+    private TokenRevocationBackend tokenRevocationBackend;
+
+    @Mock
+    private AccessTokenProvider accessTokenProvider;
+
+    @Mock
+    private RefreshTokenProvider refreshTokenProvider;
+
+    private BlackListTokenService blackListTokenService;
+
+    @BeforeEach
+    void setUp() {
+        blackListTokenService = new BlackListTokenService(tokenRevocationBackend, new TokenRevocationStore(1000, 0.01),
+            accessTokenProvider, refreshTokenProvider, 604800000L, 10000L);
+    }
+
+    @Test
+    @DisplayName("[성공] 적재 전에는 저장소에서 해시로 확인")
+    void isBlackListed_beforeLoad() {
+        // given
+        when(tokenRevocationBackend.isRevoked(eq(TokenHashes.sha256("token")), any())).thenReturn(true);
+
+        // when & then
+        assertThat(blackListTokenService.isBlackListed("token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("[성공] 적재 후에는 저장소 조회 없이 다른 서버와 이 서버에서 폐기한 토큰을 확인")
+    void isBlackListed_afterSync() {
+        // given
+        when(tokenRevocationBackend.findRevokedSince(any(), any())).thenReturn(List.of(
+            new RevokedToken(TokenHashes.sha256("remote"), LocalDateTime.now().plusHours(1))));
+        when(accessTokenProvider.getExpiration("local")).thenReturn(new Date(System.currentTimeMillis() + 3600000L));
+        blackListTokenService.sync();
+
+        // when
+        blackListTokenService.addBlackListToken("local");
+
+        // then
+        assertThat(blackListTokenService.isBlackListed("remote")).isTrue();
+        assertThat(blackListTokenService.isBlackListed("local")).isTrue();
+        assertThat(blackListTokenService.isBlackListed("valid")).isFalse();
+        assertThat(blackListTokenService.isBlackListed(null)).isFalse();
+        verify(tokenRevocationBackend, never()).isRevoked(any(), any());
+    }
+
+    @Test
+    @DisplayName("[성공] 리프레시 토큰은 리프레시 토큰의 만료 시각으로 저장")
+    void addBlackListToken_refreshTokenExpiry() {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() + 86400000L);
+        when(accessTokenProvider.getExpiration("refresh")).thenThrow(new SignatureException("서명 불일치"));
+        when(refreshTokenProvider.getExpiration("refresh")).thenReturn(expiration);
+
+        // when
+        blackListTokenService.addBlackListToken("refresh");
+
+        // then
+        ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(tokenRevocationBackend).revoke(captor.capture());
+        assertThat(captor.getValue().getTokenHash()).isEqualTo(TokenHashes.sha256("refresh"));
+        assertThat(captor.getValue().getExpiresAt())
+            .isEqualTo(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()));
+    }
+
+    @Test
+    @DisplayName("[성공] 토큰이 없으면 저장하지 않음")
+    void addBlackListToken_null() {
+        // when
+        blackListTokenService.addBlackListToken(null);
+
+        // then
+        verifyNoInteractions(tokenRevocationBackend);
+    }
+}
@@ -0,0 +1,154 @@
+package site.festifriends.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.HttpClientErrorException;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.exception.ErrorCode;
+import site.festifriends.domain.auth.KakaoOAuthProvider;
+import site.festifriends.domain.auth.repository.KakaoUnlinkTaskRepository;
+import site.festifriends.entity.KakaoUnlinkTask;
+import site.festifriends.entity.enums.OutboxStatus;
+
+@ExtendWith(MockitoExtension.class)
+class KakaoUnlinkQueueTest {
+
+    @Mock
+    private KakaoUnlinkTaskRepository kakaoUnlinkTaskRepository;
+
+    @Mock
+    private KakaoOAuthProvider kakaoOAuthProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private KakaoUnlinkQueue kakaoUnlinkQueue;
+
+    @BeforeEach
+    void setUp() {
+        kakaoUnlinkQueue = new KakaoUnlinkQueue(kakaoUnlinkTaskRepository, kakaoOAuthProvider, transactionManager,
+            20, 3, 1000L, 60000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoUnlinkQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공] 연결 해제 요청은 작업으로 저장되고 처리 대기 상태로 시작")
+    void enqueue_savesPendingTask() {
+        // given
+        when(kakaoUnlinkTaskRepository.save(any(KakaoUnlinkTask.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        kakaoUnlinkQueue.enqueue("12345");
+
+        // then
+        ArgumentCaptor<KakaoUnlinkTask> captor = ArgumentCaptor.forClass(KakaoUnlinkTask.class);
+        verify(kakaoUnlinkTaskRepository).save(captor.capture());
+        assertThat(captor.getValue().getSocialId()).isEqualTo("12345");
+        assertThat(captor.getValue().getStatus()).isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("[성공] 연결 해제에 성공하면 작업을 완료 처리")
+    void poll_marksDone() {
+        // given
+        KakaoUnlinkTask task = givenDispatchableTask();
+
+        // when
+        kakaoUnlinkQueue.poll();
+
+        // then
+        verify(kakaoOAuthProvider, timeout(1000)).unlinkKakaoAccount("12345");
+        verify(transactionManager, timeout(1000).times(2)).commit(any());
+        assertThat(task.getStatus()).isEqualTo(OutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("[실패] 카카오 장애로 실패하면 다음 시도 시간을 늦추고 재시도 대기")
+    void poll_marksRetry() {
+        // given
+        KakaoUnlinkTask task = givenDispatchableTask();
+        doThrow(new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "카카오 서버와 통신할 수 없습니다."))
+            .when(kakaoOAuthProvider).unlinkKakaoAccount("12345");
+
+        // when
+        kakaoUnlinkQueue.poll();
+
+        // then
+        verify(transactionManager, timeout(1000).times(2)).commit(any());
+        assertThat(task.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(task.getAttempts()).isEqualTo(1);
+        assertThat(task.getLastError()).isEqualTo("카카오 서버와 통신할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("[실패] 카카오가 요청을 거절(4xx)하면 재시도하지 않고 실패 처리")
+    void poll_marksFailedOnClientError() {
+        // given
+        KakaoUnlinkTask task = givenDispatchableTask();
+        doThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST))
+            .when(kakaoOAuthProvider).unlinkKakaoAccount("12345");
+
+        // when
+        kakaoUnlinkQueue.poll();
+
+        // then
+        verify(transactionManager, timeout(1000).times(2)).commit(any());
+        assertThat(task.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        verify(kakaoOAuthProvider, times(1)).unlinkKakaoAccount("12345");
+    }
+
+    @Test
+    @DisplayName("[성공] 최대 시도 횟수를 넘으면 작업을 실패 처리")
+    void markRetry_failsAfterMaxAttempts() {
+        // given
+        KakaoUnlinkTask task = new KakaoUnlinkTask("12345");
+
+        // when
+        task.markRetry("error", 2, 1000L);
+        OutboxStatus afterFirst = task.getStatus();
+        task.markRetry("error", 2, 1000L);
+
+        // then
+        assertThat(afterFirst).isEqualTo(OutboxStatus.PENDING);
+        assertThat(task.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(task.getAttempts()).isEqualTo(2);
+    }
+
+    /**
+     * 작업 한 건을 돌려준다. worker 스레드에서 처리되므로 커밋 횟수(작업 가져오기, 상태 변경)로 처리 완료를 기다린다.
+     */
+    private KakaoUnlinkTask givenDispatchableTask() {
+        KakaoUnlinkTask task = new KakaoUnlinkTask("12345");
+        ReflectionTestUtils.setField(task, "id", 1L);
+
+        when(kakaoUnlinkTaskRepository.findDispatchable(any(), anyInt()))
+            .thenReturn(List.of(task));
+        when(kakaoUnlinkTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+        return task;
+    }
+}
@@ -0,0 +1,83 @@
+package site.festifriends.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.festifriends.domain.auth.MemberAuthState;
+import site.festifriends.domain.member.repository.MemberRepository;
+import site.festifriends.entity.enums.MemberRole;
+
+@ExtendWith(MockitoExtension.class)
+class MemberAuthStateCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberAuthStateCache memberAuthStateCache;
+
+    @BeforeEach
+    void setUp() {
+        memberAuthStateCache = new MemberAuthStateCache(memberRepository, new SimpleMeterRegistry(), 100L, 60L);
+    }
+
+    @Test
+    @DisplayName("[성공] 한 번 조회한 회원 상태는 다시 조회하지 않음")
+    void get_cachedAfterFirstLoad() {
+        // given
+        when(memberRepository.findAuthStateById(1L)).thenReturn(List.<Object[]>of(
+            new Object[]{MemberRole.ADMIN, null, null}));
+
+        // when
+        MemberAuthState first = memberAuthStateCache.get(1L);
+        MemberAuthState second = memberAuthStateCache.get(1L);
+
+        // then
+        assertThat(first.getRole()).isEqualTo(MemberRole.ADMIN);
+        assertThat(first.isSuspended()).isFalse();
+        assertThat(first.isDeleted()).isFalse();
+        assertThat(second).isSameAs(first);
+        verify(memberRepository, times(1)).findAuthStateById(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 정지 후 evict 하면 바뀐 상태를 다시 조회")
+    void evict_reloadsState() {
+        // given
+        when(memberRepository.findAuthStateById(1L)).thenReturn(
+            List.<Object[]>of(new Object[]{MemberRole.USER, null, null}),
+            List.<Object[]>of(new Object[]{MemberRole.USER, LocalDateTime.now(), null}));
+        memberAuthStateCache.get(1L);
+
+        // when
+        memberAuthStateCache.evict(1L);
+        MemberAuthState state = memberAuthStateCache.get(1L);
+
+        // then
+        assertThat(state.isSuspended()).isTrue();
+        verify(memberRepository, times(2)).findAuthStateById(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 없는 회원은 탈퇴한 것으로 봄")
+    void get_notFound() {
+        // given
+        when(memberRepository.findAuthStateById(1L)).thenReturn(List.of());
+
+        // when
+        MemberAuthState state = memberAuthStateCache.get(1L);
+
+        // then
+        assertThat(state.isDeleted()).isTrue();
+    }
+}
@@ -0,0 +1,60 @@
+package site.festifriends.domain.chat.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.artemis.ArtemisAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 임베디드 Artemis 브로커로 cluster 모드의 토픽 전파를 확인한다.
+ */
+@SpringBootTest(classes = ClusterChatBroadcaster.class, properties = {
+    "chat.broker.mode=cluster",
+    "spring.autoconfigure.exclude=",
+    "spring.artemis.mode=embedded",
+    "spring.jms.pub-sub-domain=true"
+})
+@ImportAutoConfiguration({ArtemisAutoConfiguration.class, JmsAutoConfiguration.class, JacksonAutoConfiguration.class})
+class ClusterChatBroadcasterTest {
+
+    @Autowired
+    private ClusterChatBroadcaster clusterChatBroadcaster;
+
+    @MockitoBean
+    private SimpMessagingTemplate simpMessagingTemplate;
+
+    @Test
+    @DisplayName("[성공] 발행한 메시지가 토픽을 거쳐 로컬 브로커로 전달")
+    void broadcast_deliveredThroughTopic() throws InterruptedException {
+        // when
+        // 토픽 구독은 컨텍스트 기동 후 비동기로 붙으므로 전달될 때까지 재발행한다.
+        for (int attempt = 0; attempt < 50 && mockingDetails(simpMessagingTemplate).getInvocations().isEmpty();
+            attempt++) {
+            clusterChatBroadcaster.broadcast("/sub/chat/1", Map.of("content", "안녕하세요"));
+            Thread.sleep(100);
+        }
+
+        // then
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(simpMessagingTemplate, atLeastOnce()).send(eq("/sub/chat/1"), captor.capture());
+
+        String body = new String(captor.getValue().getPayload(), StandardCharsets.UTF_8);
+        assertThat(body).contains("안녕하세요");
+    }
+}
@@ -0,0 +1,230 @@
+package site.festifriends.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.transaction.PlatformTransactionManager;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.domain.chat.dto.PendingChatMessage;
+import site.festifriends.domain.chat.repository.ChatMessageRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriterTest {
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageWriter createWriter(int queueCapacity, int flushSize) {
+        return new ChatMessageWriter(chatMessageRepository, transactionManager, true, queueCapacity, flushSize,
+            20L, 20L, 5000L, 3);
+    }
+
+    private PendingChatMessage message(int index) {
+        return PendingChatMessage.builder()
+            .chatRoomId(1L)
+            .senderId(2L)
+            .content("메시지" + index)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Test
+    @DisplayName("[성공] 큐에 쌓인 메시지를 flushSize 단위로 순서대로 저장")
+    void flush_inBatchesWithOrder() {
+        // given
+        List<List<PendingChatMessage>> batches = new ArrayList<>();
+        when(chatMessageRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            batches.add(new ArrayList<>(batch));
+            return batch.size();
+        });
+
+        ChatMessageWriter writer = createWriter(100, 10);
+        writer.start();
+
+        List<PendingChatMessage> sent = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            PendingChatMessage message = message(i);
+            sent.add(message);
+            writer.enqueue(message);
+        }
+
+        // when
+        writer.shutdown();
+
+        // then
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(10));
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(sent);
+    }
+
+    @Test
+    @DisplayName("[성공] 종료 시 남아있는 메시지를 모두 저장")
+    void shutdown_drainsRemaining() {
+        // given
+        when(chatMessageRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            return batch.size();
+        });
+
+        ChatMessageWriter writer = createWriter(100, 50);
+        writer.start();
+        for (int i = 0; i < 30; i++) {
+            writer.enqueue(message(i));
+        }
+
+        // when
+        writer.shutdown();
+
+        // then
+        verify(chatMessageRepository, atLeastOnce()).insertAll(anyList());
+        assertThat(writer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[실패] 큐가 가득 차면 메시지를 거절")
+    void enqueue_rejectedWhenQueueFull() throws InterruptedException {
+        // given
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(chatMessageRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            flushStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+
+        ChatMessageWriter writer = createWriter(1, 1);
+        writer.start();
+
+        writer.enqueue(message(0));
+        assertThat(flushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.enqueue(message(1));
+
+        // when & then
+        assertThatThrownBy(() -> writer.enqueue(message(2)))
+            .isInstanceOf(BusinessException.class);
+
+        release.countDown();
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공] 재시도 후에도 저장에 실패한 배치는 버리지 않고 dead letter 로 보관")
+    void flush_failedBatchMovedToDeadLetter() {
+        // given
+        when(chatMessageRepository.insertAll(anyList()))
+            .thenThrow(new DataAccessResourceFailureException("Data too long for column 'content'"));
+
+        ChatMessageWriter writer = createWriter(100, 10);
+        writer.start();
+        PendingChatMessage message = message(0);
+        writer.enqueue(message);
+
+        // when
+        writer.shutdown();
+
+        // then
+        verify(chatMessageRepository).insertDeadLetters(eq(List.of(message)), anyString());
+    }
+
+    @Test
+    @DisplayName("[성공] 저장과 보관이 모두 실패하면 배치를 붙잡고 DB가 복구될 때까지 재시도")
+    void flush_retainsBatchUntilStored() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        List<PendingChatMessage> stored = new ArrayList<>();
+        when(chatMessageRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() <= 6) {
+                throw new DataAccessResourceFailureException("Connection refused");
+            }
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            stored.addAll(batch);
+            return batch.size();
+        });
+        when(chatMessageRepository.insertDeadLetters(anyList(), anyString()))
+            .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        ChatMessageWriter writer = createWriter(100, 10);
+        writer.start();
+        PendingChatMessage message = message(0);
+        writer.enqueue(message);
+
+        // when
+        verify(chatMessageRepository, timeout(5000).times(7)).insertAll(anyList());
+        writer.shutdown();
+
+        // then
+        assertThat(stored).containsExactly(message);
+    }
+
+    @Test
+    @DisplayName("[실패] 저장과 보관이 한도만큼 실패하면 배치를 버리고 다음 메시지를 저장")
+    void flush_dropsBatchAfterMaxAttempts() {
+        // given
+        PendingChatMessage failing = message(0);
+        PendingChatMessage next = message(1);
+        List<PendingChatMessage> stored = new ArrayList<>();
+        when(chatMessageRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            if (batch.contains(failing)) {
+                throw new DataAccessResourceFailureException("Connection refused");
+            }
+            stored.addAll(batch);
+            return batch.size();
+        });
+        when(chatMessageRepository.insertDeadLetters(anyList(), anyString()))
+            .thenThrow(new BadSqlGrammarException("insert", "INSERT INTO chat_message_dead_letter",
+                new SQLException("Table 'chat_message_dead_letter' doesn't exist")));
+
+        ChatMessageWriter writer = createWriter(100, 1);
+        writer.start();
+        writer.enqueue(failing);
+        writer.enqueue(next);
+
+        // when
+        verify(chatMessageRepository, timeout(5000).times(3)).insertDeadLetters(eq(List.of(failing)), anyString());
+        verify(chatMessageRepository, timeout(5000)).insertAll(List.of(next));
+        writer.shutdown();
+
+        // then
+        assertThat(stored).containsExactly(next);
+    }
+
+    @Test
+    @DisplayName("[실패] 종료가 시작된 뒤에는 메시지를 받지 않음")
+    void enqueue_rejectedAfterShutdown() {
+        // given
+        ChatMessageWriter writer = createWriter(100, 10);
+        writer.start();
+        writer.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> writer.enqueue(message(0)))
+            .isInstanceOf(BusinessException.class);
+        verify(chatMessageRepository, never()).insertAll(anyList());
+    }
+}
@@ -279,7 +279,7 @@ public class MemberRepositoryTest {
     }
 
     @Test
-    @DisplayName("[성공] 회원 좋아요 여부, 신고 여부, 본인 여부 테스트")
+    @DisplayName("[성공] 회원 신고 여부, 본인 여부 테스트")
     void getMemberExtraData() {
         // given
         Long targetId = target1.getId();
@@ -290,9 +290,9 @@ public class MemberRepositoryTest {
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result[0]).isEqualTo(1); // 좋아요 여부
-        assertThat(result[1]).isEqualTo(0); // 신고 여부
-        assertThat(result[2]).isEqualTo(0); // 본인 여부
+        assertThat(result).hasSize(2);
+        assertThat(result[0]).isEqualTo(0); // 신고 여부
+        assertThat(result[1]).isEqualTo(0); // 본인 여부
     }
 
 }
@@ -0,0 +1,87 @@
+package site.festifriends.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.festifriends.domain.member.repository.BookmarkRepository;
+import site.festifriends.entity.enums.BookmarkType;
+
+@ExtendWith(MockitoExtension.class)
+class MemberBookmarkCacheTest {
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    private MemberBookmarkCache memberBookmarkCache;
+
+    @BeforeEach
+    void setUp() {
+        memberBookmarkCache = new MemberBookmarkCache(bookmarkRepository, new SimpleMeterRegistry(), 100L, 60L);
+    }
+
+    @Test
+    @DisplayName("[성공] 회원의 북마크는 처음 조회할 때 한 번만 적재")
+    void isBookmarked_loadsOnce() {
+        // given
+        when(bookmarkRepository.findTypeAndTargetIdsByMemberId(1L)).thenReturn(List.of(
+            new Object[]{BookmarkType.PERFORMANCE, 30L},
+            new Object[]{BookmarkType.PERFORMANCE, 10L},
+            new Object[]{BookmarkType.MEMBER, 2L}
+        ));
+
+        // when
+        Map<Long, Boolean> result = memberBookmarkCache.isBookmarked(1L, BookmarkType.PERFORMANCE,
+            List.of(10L, 20L, 30L));
+        boolean likedMember = memberBookmarkCache.isBookmarked(1L, BookmarkType.MEMBER, 2L);
+        boolean likedPerformanceAsMember = memberBookmarkCache.isBookmarked(1L, BookmarkType.MEMBER, 10L);
+
+        // then
+        assertThat(result).containsEntry(10L, true).containsEntry(20L, false).containsEntry(30L, true);
+        assertThat(likedMember).isTrue();
+        assertThat(likedPerformanceAsMember).isFalse();
+        verify(bookmarkRepository, times(1)).findTypeAndTargetIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 찜/찜 취소는 다시 적재하지 않고 바로 반영")
+    void bookmarkedAndUnbookmarked() {
+        // given
+        when(bookmarkRepository.findTypeAndTargetIdsByMemberId(1L)).thenReturn(List.<Object[]>of(
+            new Object[]{BookmarkType.PERFORMANCE, 10L}
+        ));
+        memberBookmarkCache.isBookmarked(1L, BookmarkType.PERFORMANCE, 10L);
+
+        // when
+        memberBookmarkCache.bookmarked(1L, BookmarkType.PERFORMANCE, 5L);
+        memberBookmarkCache.unbookmarked(1L, BookmarkType.PERFORMANCE, 10L);
+
+        // then
+        assertThat(memberBookmarkCache.isBookmarked(1L, BookmarkType.PERFORMANCE, 5L)).isTrue();
+        assertThat(memberBookmarkCache.isBookmarked(1L, BookmarkType.PERFORMANCE, 10L)).isFalse();
+        verify(bookmarkRepository, times(1)).findTypeAndTargetIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 로그인하지 않은 경우 조회 없이 모두 false")
+    void isBookmarked_anonymous() {
+        // when
+        Map<Long, Boolean> result = memberBookmarkCache.isBookmarked(null, BookmarkType.PERFORMANCE, List.of(1L, 2L));
+
+        // then
+        assertThat(result).containsEntry(1L, false).containsEntry(2L, false);
+        assertThat(memberBookmarkCache.isBookmarked(null, BookmarkType.MEMBER, 1L)).isFalse();
+        verify(bookmarkRepository, never()).findTypeAndTargetIdsByMemberId(null);
+    }
+}
@@ -0,0 +1,97 @@
+package site.festifriends.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.festifriends.domain.member.dto.SenderProfile;
+import site.festifriends.domain.member.repository.MemberImageRepository;
+import site.festifriends.domain.member.repository.MemberRepository;
+import site.festifriends.entity.Member;
+
+@ExtendWith(MockitoExtension.class)
+class SenderProfileCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberImageRepository memberImageRepository;
+
+    private SenderProfileCache senderProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        senderProfileCache = new SenderProfileCache(memberRepository, memberImageRepository,
+            new SimpleMeterRegistry(), 100L, 600L);
+    }
+
+    private Member member(Long id, String nickname) {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(id);
+        when(member.getNickname()).thenReturn(nickname);
+        return member;
+    }
+
+    @Test
+    @DisplayName("[성공] 한 번 조회한 발신자 프로필은 다시 조회하지 않음")
+    void get_cachedAfterFirstLoad() {
+        // given
+        Member member = member(1L, "테스트");
+        when(memberRepository.findAllById(anySet())).thenReturn(List.of(member));
+        when(memberImageRepository.findAllByMemberIdIn(anyCollection())).thenReturn(List.of());
+
+        // when
+        SenderProfile first = senderProfileCache.get(1L);
+        SenderProfile second = senderProfileCache.get(1L);
+
+        // then
+        assertThat(first.getNickname()).isEqualTo("테스트");
+        assertThat(first.getImage()).isNull();
+        assertThat(second).isSameAs(first);
+        verify(memberRepository, times(1)).findAllById(anySet());
+    }
+
+    @Test
+    @DisplayName("[성공] 무효화된 발신자 프로필은 다시 조회")
+    void evict_reloadsProfile() {
+        // given
+        Member before = member(1L, "변경 전");
+        Member after = member(1L, "변경 후");
+        when(memberRepository.findAllById(anySet())).thenReturn(List.of(before), List.of(after));
+        when(memberImageRepository.findAllByMemberIdIn(anyCollection())).thenReturn(List.of());
+
+        senderProfileCache.get(1L);
+
+        // when
+        senderProfileCache.evict(1L);
+        SenderProfile reloaded = senderProfileCache.get(1L);
+
+        // then
+        assertThat(reloaded.getNickname()).isEqualTo("변경 후");
+        verify(memberRepository, times(2)).findAllById(anySet());
+    }
+
+    @Test
+    @DisplayName("[실패] 존재하지 않는 회원이면 null 반환")
+    void get_missingMember() {
+        // given
+        when(memberRepository.findAllById(anySet())).thenReturn(List.of());
+        when(memberImageRepository.findAllByMemberIdIn(anyCollection())).thenReturn(List.of());
+
+        // when & then
+        assertThat(senderProfileCache.get(99L)).isNull();
+    }
+}
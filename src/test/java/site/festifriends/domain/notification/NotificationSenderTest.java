@@ -0,0 +1,197 @@
+package site.festifriends.domain.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import site.festifriends.domain.notifications.NotificationSender;
+import site.festifriends.domain.notifications.dto.NotificationEvent;
+import site.festifriends.domain.notifications.dto.NotificationOutboxSavedEvent;
+import site.festifriends.domain.notifications.emitter.NotificationReplayBuffer;
+import site.festifriends.domain.notifications.emitter.SseEmitterRegistry;
+import site.festifriends.domain.notifications.emitter.SseMessage;
+import site.festifriends.domain.notifications.emitter.SsePayloadEncoder;
+import site.festifriends.domain.notifications.repository.NotificationOutboxRepository;
+import site.festifriends.domain.notifications.repository.NotificationRepository;
+import site.festifriends.domain.notifications.service.UnreadNotificationCounter;
+import site.festifriends.entity.NotificationOutbox;
+import site.festifriends.entity.enums.NotificationType;
+import site.festifriends.entity.enums.OutboxStatus;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationSenderTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SseEmitterRegistry sseEmitterRegistry;
+
+    @Mock
+    private SsePayloadEncoder ssePayloadEncoder;
+
+    @Mock
+    private NotificationReplayBuffer notificationReplayBuffer;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationSender notificationSender;
+
+    @BeforeEach
+    void setUp() {
+        notificationSender = new NotificationSender(notificationOutboxRepository, notificationRepository,
+            sseEmitterRegistry, ssePayloadEncoder, notificationReplayBuffer, unreadNotificationCounter, eventPublisher,
+            transactionManager, 50, 5, 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationSender.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공] 알림 요청은 outbox 한 건으로 저장되고 바로 전송하지 않음")
+    void sendAll_savesSingleOutbox() {
+        // given
+        when(notificationOutboxRepository.save(any(NotificationOutbox.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        notificationSender.sendAll(List.of(1L, 2L, 3L), NotificationType.POST, "테스트 모임", 10L, 20L, 1L);
+
+        // then
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(notificationOutboxRepository).save(captor.capture());
+        NotificationOutbox outbox = captor.getValue();
+
+        assertThat(outbox.getRecipientIdList()).containsExactly(1L, 2L, 3L);
+        assertThat(outbox.getMessage()).isEqualTo("테스트 모임" + NotificationType.POST.getDescription());
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getPushExcludedMemberId()).isEqualTo(1L);
+
+        verify(eventPublisher).publishEvent(any(NotificationOutboxSavedEvent.class));
+        verifyNoInteractions(notificationRepository, sseEmitterRegistry, ssePayloadEncoder, notificationReplayBuffer,
+            unreadNotificationCounter);
+    }
+
+    @Test
+    @DisplayName("[성공] 받을 회원이 없으면 outbox를 만들지 않음")
+    void sendAll_emptyRecipients() {
+        // when
+        notificationSender.sendAll(List.of(), NotificationType.POST, "테스트 모임", 10L, 20L, 1L);
+
+        // then
+        verify(notificationOutboxRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("[성공] outbox 전송 시 이벤트는 한 번만 직렬화하고 모든 수신자에게 같은 메시지를 전송")
+    void poll_encodesOncePerOutbox() {
+        // given
+        NotificationOutbox outbox = NotificationOutbox.builder()
+            .type(NotificationType.POST)
+            .message("메시지")
+            .recipientIds(List.of(1L, 2L, 3L))
+            .pushExcludedMemberId(1L)
+            .build();
+        when(notificationOutboxRepository.findDispatchable(any(), anyInt())).thenReturn(List.of(outbox));
+        when(notificationRepository.insertAll(any(), any(), any(), any(), any())).thenReturn(List.of(11L, 12L, 13L));
+
+        // when
+        notificationSender.poll();
+
+        // then
+        verify(sseEmitterRegistry, timeout(1000).times(2)).send(anyLong(), any(SseMessage.class));
+        verify(ssePayloadEncoder, times(1)).encode(any(NotificationEvent.class));
+        verify(sseEmitterRegistry, never()).send(eq(1L), any(SseMessage.class));
+        verify(unreadNotificationCounter, times(1)).invalidateAll(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("[실패] 일괄 처리가 실패하면 다시 잠근 outbox만 한 건씩 처리하고, 다른 인스턴스가 가져간 outbox는 건너뜀")
+    void poll_batchFailure_reclaimsEachOutbox() {
+        // given
+        NotificationOutbox claimedElsewhere = outbox(1L, 1L);
+        NotificationOutbox reclaimed = outbox(2L, 2L);
+        when(notificationOutboxRepository.findDispatchable(any(), anyInt()))
+            .thenReturn(List.of(claimedElsewhere, reclaimed));
+        when(notificationRepository.insertAll(any(), any(), any(), any(), any()))
+            .thenThrow(new IllegalStateException("batch failed"))
+            .thenReturn(List.of(22L));
+        when(notificationOutboxRepository.claimPending(1L)).thenReturn(Optional.empty());
+        when(notificationOutboxRepository.claimPending(2L)).thenReturn(Optional.of(reclaimed));
+
+        // when
+        notificationSender.poll();
+
+        // then
+        verify(sseEmitterRegistry, timeout(1000)).send(eq(2L), any(SseMessage.class));
+        verify(sseEmitterRegistry, never()).send(eq(1L), any(SseMessage.class));
+        verify(notificationRepository, times(2)).insertAll(any(), any(), any(), any(), any());
+        verify(notificationOutboxRepository, never()).findById(any());
+        assertThat(reclaimed.getStatus()).isEqualTo(OutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("[성공] 최대 시도 횟수를 넘으면 outbox를 실패 처리")
+    void markRetry_failsAfterMaxAttempts() {
+        // given
+        NotificationOutbox outbox = NotificationOutbox.builder()
+            .type(NotificationType.GROUP)
+            .message("메시지")
+            .recipientIds(List.of(1L))
+            .build();
+
+        // when
+        outbox.markRetry("error", 2, 1000L);
+        OutboxStatus afterFirst = outbox.getStatus();
+        outbox.markRetry("error", 2, 1000L);
+
+        // then
+        assertThat(afterFirst).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(2);
+    }
+
+    private NotificationOutbox outbox(Long id, Long recipientId) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+            .type(NotificationType.POST)
+            .message("메시지")
+            .recipientIds(List.of(recipientId))
+            .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
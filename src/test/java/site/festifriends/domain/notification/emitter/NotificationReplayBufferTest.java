@@ -0,0 +1,63 @@
+package site.festifriends.domain.notification.emitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import site.festifriends.domain.notifications.emitter.NotificationReplayBuffer;
+import site.festifriends.domain.notifications.emitter.SseMessage;
+
+class NotificationReplayBufferTest {
+
+    private NotificationReplayBuffer notificationReplayBuffer;
+
+    @BeforeEach
+    void setUp() {
+        notificationReplayBuffer = new NotificationReplayBuffer(3, 100L, 60L);
+    }
+
+    private SseMessage message(long id) {
+        return new SseMessage(id, "notification", "알림" + id);
+    }
+
+    @Test
+    @DisplayName("[성공] Last-Event-ID 이후의 알림만 반환")
+    void findAfter_returnsMissed() {
+        // given
+        notificationReplayBuffer.append(1L, message(10L));
+        notificationReplayBuffer.append(1L, message(11L));
+        notificationReplayBuffer.append(1L, message(12L));
+
+        // when
+        Optional<List<SseMessage>> missed = notificationReplayBuffer.findAfter(1L, 10L);
+
+        // then
+        assertThat(missed).isPresent();
+        assertThat(missed.get()).extracting(SseMessage::getId).containsExactly(11L, 12L);
+    }
+
+    @Test
+    @DisplayName("[실패] 버퍼가 Last-Event-ID 시점을 덮지 못하면 빈 결과")
+    void findAfter_notCovered() {
+        // given
+        for (long id = 10L; id <= 14L; id++) {
+            notificationReplayBuffer.append(1L, message(id));
+        }
+
+        // when
+        Optional<List<SseMessage>> missed = notificationReplayBuffer.findAfter(1L, 10L);
+
+        // then
+        assertThat(missed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[실패] 버퍼가 없는 회원이면 빈 결과")
+    void findAfter_unknownMember() {
+        // when & then
+        assertThat(notificationReplayBuffer.findAfter(2L, 1L)).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package site.festifriends.domain.notification.emitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import site.festifriends.common.thread.BlockingTaskExecutors;
+import site.festifriends.domain.notifications.emitter.SseEmitterRegistry;
+import site.festifriends.domain.notifications.emitter.SseEmitterRegistry.OverflowPolicy;
+import site.festifriends.domain.notifications.emitter.SseMessage;
+
+class SseEmitterRegistryTest {
+
+    private SseEmitterRegistry sseEmitterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sseEmitterRegistry = new SseEmitterRegistry(new SimpleMeterRegistry(),
+            new BlockingTaskExecutors(new StandardEnvironment()), 4, 60000L, 2, 10, 1, OverflowPolicy.DROP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseEmitterRegistry.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 회원이 여러 기기로 구독해도 기존 연결을 유지")
+    void register_keepsMultipleDevices() {
+        // when
+        sseEmitterRegistry.register(1L);
+        sseEmitterRegistry.register(1L);
+        sseEmitterRegistry.register(2L);
+
+        // then
+        assertThat(sseEmitterRegistry.getConnectionCount()).isEqualTo(3);
+        assertThat(sseEmitterRegistry.isConnected(1L)).isTrue();
+        assertThat(sseEmitterRegistry.isConnected(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("[성공] 회원당 연결 한도를 넘으면 가장 오래된 연결을 종료")
+    void register_evictsOldestOverLimit() {
+        // when
+        sseEmitterRegistry.register(1L);
+        sseEmitterRegistry.register(1L);
+        sseEmitterRegistry.register(1L);
+
+        // then
+        assertThat(sseEmitterRegistry.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[성공] 연결이 없는 회원에게 전송하면 무시")
+    void send_withoutConnection() {
+        // when
+        sseEmitterRegistry.send(99L, new SseMessage("notification", "알림"));
+
+        // then
+        assertThat(sseEmitterRegistry.isConnected(99L)).isFalse();
+        assertThat(sseEmitterRegistry.getPendingCount()).isZero();
+    }
+}
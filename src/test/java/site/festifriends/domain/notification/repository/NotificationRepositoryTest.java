@@ -0,0 +1,82 @@
+package site.festifriends.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import site.festifriends.common.config.AuditConfig;
+import site.festifriends.common.config.QueryDslConfig;
+import site.festifriends.domain.member.repository.MemberRepository;
+import site.festifriends.domain.notifications.repository.NotificationRepository;
+import site.festifriends.entity.Member;
+import site.festifriends.entity.Notification;
+import site.festifriends.entity.enums.Gender;
+import site.festifriends.entity.enums.MemberRole;
+import site.festifriends.entity.enums.NotificationType;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, AuditConfig.class})
+@ActiveProfiles("test")
+class NotificationRepositoryTest {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private List<Long> memberIds;
+
+    @BeforeEach
+    void setUp() {
+        memberIds = List.of(
+            saveMember("socialId1", "테스트1").getId(),
+            saveMember("socialId2", "테스트2").getId(),
+            saveMember("socialId3", "테스트3").getId()
+        );
+    }
+
+    private Member saveMember(String socialId, String nickname) {
+        return memberRepository.save(Member.builder()
+            .email(socialId + "@example.com")
+            .nickname(nickname)
+            .age(25)
+            .gender(Gender.MALE)
+            .socialId(socialId)
+            .memberRole(MemberRole.USER)
+            .build());
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 회원의 알림을 한 번에 저장하고 회원 순서대로 ID 반환")
+    void insertAll_returnsIdsInOrder() {
+        // when
+        List<Long> ids = notificationRepository.insertAll(memberIds, NotificationType.POST, "테스트 알림", 1L, 2L);
+
+        // then
+        assertThat(ids).hasSize(3);
+        for (int i = 0; i < ids.size(); i++) {
+            Notification notification = notificationRepository.findById(ids.get(i)).orElseThrow();
+            assertThat(notification.getMember().getId()).isEqualTo(memberIds.get(i));
+            assertThat(notification.getMessage()).isEqualTo("테스트 알림");
+            assertThat(notification.isRead()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("[성공] 받을 회원이 없으면 저장하지 않음")
+    void insertAll_empty() {
+        // when
+        List<Long> ids = notificationRepository.insertAll(List.of(), NotificationType.POST, "테스트 알림", 1L, 2L);
+
+        // then
+        assertThat(ids).isEmpty();
+        assertThat(notificationRepository.count()).isZero();
+    }
+}
@@ -1,27 +1,32 @@
 package site.festifriends.domain.notification.service;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import org.junit.jupiter.api.BeforeEach;
+import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import site.festifriends.domain.notifications.dto.NotificationEvent;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.domain.notifications.dto.NotificationDto;
+import site.festifriends.domain.notifications.emitter.NotificationReplayBuffer;
+import site.festifriends.domain.notifications.emitter.SseEmitterRegistry;
+import site.festifriends.domain.notifications.emitter.SseMessage;
 import site.festifriends.domain.notifications.repository.NotificationRepository;
 import site.festifriends.domain.notifications.service.NotificationService;
-import site.festifriends.entity.Group;
-import site.festifriends.entity.Member;
-import site.festifriends.entity.Performance;
-import site.festifriends.entity.Post;
-import site.festifriends.entity.enums.Gender;
-import site.festifriends.entity.enums.GroupCategory;
-import site.festifriends.entity.enums.NotificationType;
-import site.festifriends.entity.enums.PerformanceState;
+import site.festifriends.domain.notifications.service.UnreadNotificationCounter;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
@@ -29,171 +34,119 @@ class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
-    @InjectMocks
-    private NotificationService notificationService;
-
-    private Member member;
-    private Performance performance;
-    private Group group;
-    private Post post;
-
-    @BeforeEach
-    void setUp() {
-        member = Member.builder()
-            .id(1L)
-            .email("test1@example.com")
-            .nickname("테스트1")
-            .age(28)
-            .gender(Gender.MALE)
-            .introduction("테스트 1번 멤버")
-            .tags(List.of("음악", "여행"))
-            .sns(List.of("github", "instagram"))
-            .socialId("socialId1")
-            .build();
+    @Mock
+    private SseEmitterRegistry sseEmitterRegistry;
 
-        performance = Performance.builder()
-            .title("테스트 공연 1")
-            .startDate(LocalDateTime.of(2025, 5, 30, 18, 0))
-            .endDate(LocalDateTime.of(2025, 6, 1, 22, 0))
-            .location("올림픽공원")
-            .cast(List.of("배우1", "배우2"))
-            .crew(List.of("감독1", "작가1"))
-            .runtime("180분")
-            .age("만 12세 이상")
-            .productionCompany(List.of("제작사1"))
-            .agency(List.of("기획사1"))
-            .host(List.of("주최1"))
-            .organizer(List.of("주관사1"))
-            .price(List.of("VIP 10만원", "R석 8만원", "S석 5만원"))
-            .poster("https://example.com/poster1.jpg")
-            .state(PerformanceState.UPCOMING)
-            .visit("국내")
-            .time(List.of(
-                "화요일 ~ 금요일(20:00)",
-                "토요일(16:00,19:00)",
-                "일요일(15:00,18:00)"
-            ))
-            .build();
+    @Mock
+    private NotificationReplayBuffer notificationReplayBuffer;
 
-        group = Group.builder()
-            .title("테스트")
-            .genderType(Gender.ALL)
-            .startAge(20)
-            .endAge(30)
-            .gatherType(GroupCategory.COMPANION)
-            .startDate(LocalDateTime.now())
-            .endDate(LocalDateTime.now().plusDays(1))
-            .location("서울")
-            .count(10)
-            .introduction("모임 소개")
-            .performance(performance)
-            .build();
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
 
-        post = Post.builder()
-            .group(group)
-            .author(member)
-            .content("테스트 게시글 내용")
-            .build();
-    }
+    @InjectMocks
+    private NotificationService notificationService;
 
     @Test
-    @DisplayName("[성공] 알림 생성 - 알림 타입이 APPLICATION인 경우")
-    void createNotification_applicationType() {
-        // Given
-        NotificationType type = NotificationType.APPLICATION;
+    @DisplayName("[성공] 읽지 않은 알림을 읽으면 읽지 않은 알림 수를 다시 적재하도록 비움")
+    void readNotification_invalidatesUnreadCount() {
+        // given
+        when(notificationRepository.existsById(10L)).thenReturn(true);
+        when(notificationRepository.readNotification(1L, 10L)).thenReturn(1);
 
-        // When
-        NotificationEvent event = notificationService.createNotification(member, type, group.getTitle(), null, null);
+        // when
+        notificationService.readNotification(1L, 10L);
 
-        // Then
-        assertThat(event).isNotNull();
-        assertThat(event.getMessage()).isEqualTo("테스트" + type.getDescription());
+        // then
+        verify(unreadNotificationCounter).invalidate(1L);
     }
 
     @Test
-    @DisplayName("[성공] 알림 생성 - 알림 타입이 APPLIED 경우")
-    void createNotification_appliedType() {
-        // Given
-        NotificationType type = NotificationType.APPLIED;
+    @DisplayName("[성공] 이미 읽은 알림을 다시 읽으면 읽지 않은 알림 수를 그대로 둠")
+    void readNotification_alreadyRead() {
+        // given
+        when(notificationRepository.existsById(10L)).thenReturn(true);
+        when(notificationRepository.readNotification(1L, 10L)).thenReturn(0);
 
-        // When
-        NotificationEvent event = notificationService.createNotification(member, type, group.getTitle(), null, null);
+        // when
+        notificationService.readNotification(1L, 10L);
 
-        // Then
-        assertThat(event).isNotNull();
-        assertThat(event.getMessage()).isEqualTo("테스트" + type.getDescription());
+        // then
+        verify(unreadNotificationCounter, never()).invalidate(anyLong());
     }
 
     @Test
-    @DisplayName("[성공] 알림 생성 - 알림 타입이 REJECTED인 경우")
-    void createNotification_rejectedType() {
-        // Given
-        NotificationType type = NotificationType.REJECTED;
-
-        // When
-        NotificationEvent event = notificationService.createNotification(member, type, group.getTitle(), null, null);
-
-        // Then
-        assertThat(event).isNotNull();
-        assertThat(event.getMessage()).isEqualTo("테스트" + type.getDescription());
+    @DisplayName("[실패] 존재하지 않는 알림 읽기")
+    void readNotification_notFound() {
+        // given
+        when(notificationRepository.existsById(10L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> notificationService.readNotification(1L, 10L))
+            .isInstanceOf(BusinessException.class);
+        verify(unreadNotificationCounter, never()).invalidate(anyLong());
     }
 
     @Test
-    @DisplayName("[성공] 알림 생성 - 알림 타입이 BANNED인 경우")
-    void createNotification_bannedType() {
-        // Given
-        NotificationType type = NotificationType.BANNED;
-
-        // When
-        NotificationEvent event = notificationService.createNotification(member, type, group.getTitle(), null, null);
-
-        // Then
-        assertThat(event).isNotNull();
-        assertThat(event.getMessage()).isEqualTo("테스트" + type.getDescription());
+    @DisplayName("[성공] 모든 알림을 읽으면 읽지 않은 알림 수를 다시 적재하도록 비움")
+    void readAllNotifications_invalidatesUnreadCount() {
+        // when
+        notificationService.readAllNotifications(1L);
+
+        // then
+        verify(notificationRepository).readAllNotifications(1L);
+        verify(unreadNotificationCounter).invalidate(1L);
     }
 
     @Test
-    @DisplayName("[성공] 알림 생성 - 알림 타입이 GROUP인 경우")
-    void createNotification_groupType() {
-        // Given
-        NotificationType type = NotificationType.GROUP;
-
-        // When
-        NotificationEvent event = notificationService.createNotification(member, type, group.getTitle(), group.getId(),
-            null);
-
-        // Then
-        assertThat(event).isNotNull();
-        assertThat(event.getMessage()).isEqualTo("테스트" + type.getDescription());
+    @DisplayName("[성공] replay 버퍼에 빠진 알림이 없으면 DB 목록을 조회하지 않음")
+    void subscribe_replaysFromBuffer() {
+        // given
+        when(notificationReplayBuffer.findAfter(1L, 10L))
+            .thenReturn(Optional.of(List.of(message(11L), message(12L))));
+        when(notificationRepository.countByMemberIdAndIdGreaterThanAndDeletedIsNull(1L, 10L)).thenReturn(2L);
+
+        // when
+        List<SseMessage> replayed = subscribeAndReplay("10");
+
+        // then
+        assertThat(replayed).extracting(SseMessage::getId).containsExactly(11L, 12L);
+        verify(notificationRepository, never()).findNotificationsAfter(anyLong(), anyLong(), anyInt());
     }
 
     @Test
-    @DisplayName("[성공] 알림 생성 - 알림 타입이 MY_PROFILE인 경우")
-    void createNotification_myProfileType() {
-        // Given
-        NotificationType type = NotificationType.MY_PROFILE;
-
-        // When
-        NotificationEvent event = notificationService.createNotification(member, type, member.getNickname(), null,
-            null);
-
-        // Then
-        assertThat(event).isNotNull();
-        assertThat(event.getMessage()).isEqualTo(member.getNickname() + type.getDescription());
+    @DisplayName("[성공] 다른 인스턴스가 보낸 알림으로 replay 버퍼에 빈틈이 있으면 DB에서 조회")
+    void subscribe_gapFallsBackToDatabase() {
+        // given
+        when(notificationReplayBuffer.findAfter(1L, 10L))
+            .thenReturn(Optional.of(List.of(message(11L), message(13L))));
+        when(notificationRepository.countByMemberIdAndIdGreaterThanAndDeletedIsNull(1L, 10L)).thenReturn(3L);
+        when(notificationRepository.findNotificationsAfter(eq(1L), eq(10L), anyInt()))
+            .thenReturn(List.of(notification(11L), notification(12L), notification(13L)));
+
+        // when
+        List<SseMessage> replayed = subscribeAndReplay("10");
+
+        // then
+        assertThat(replayed).extracting(SseMessage::getId).containsExactly(11L, 12L, 13L);
     }
 
-    @Test
-    @DisplayName("[성공] 알림 생성 - 알림 타입이 POST인 경우")
-    void createNotification_postType() {
-        // Given
-        NotificationType type = NotificationType.POST;
-
-        // When
-        NotificationEvent event = notificationService.createNotification(member, type, "게시글 제목", post.getId(),
-            group.getId());
-
-        // Then
-        assertThat(event).isNotNull();
-        assertThat(event.getMessage()).isEqualTo("게시글 제목" + type.getDescription());
+    @SuppressWarnings("unchecked")
+    private List<SseMessage> subscribeAndReplay(String lastEventId) {
+        notificationService.subscribe(1L, lastEventId);
+
+        ArgumentCaptor<Supplier<List<SseMessage>>> captor = ArgumentCaptor.forClass(Supplier.class);
+        verify(sseEmitterRegistry).register(eq(1L), captor.capture());
+        return captor.getValue().get();
+    }
+
+    private SseMessage message(long id) {
+        return new SseMessage(id, "notification", "알림" + id);
+    }
+
+    private NotificationDto notification(long id) {
+        return NotificationDto.builder()
+            .id(id)
+            .message("알림" + id)
+            .build();
     }
 }
@@ -0,0 +1,93 @@
+package site.festifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.festifriends.domain.notifications.emitter.SseEmitterRegistry;
+import site.festifriends.domain.notifications.emitter.SseMessage;
+import site.festifriends.domain.notifications.repository.NotificationRepository;
+import site.festifriends.domain.notifications.service.UnreadNotificationCounter;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCounterTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SseEmitterRegistry sseEmitterRegistry;
+
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @BeforeEach
+    void setUp() {
+        unreadNotificationCounter = new UnreadNotificationCounter(notificationRepository, sseEmitterRegistry,
+            100L, 30L);
+    }
+
+    @Test
+    @DisplayName("[성공] 처음 조회할 때만 DB에서 읽지 않은 알림 수를 적재")
+    void get_loadsOnce() {
+        // given
+        when(notificationRepository.countByMemberIdAndIsReadFalseAndDeletedIsNull(1L)).thenReturn(3L);
+
+        // when
+        long first = unreadNotificationCounter.get(1L);
+        long second = unreadNotificationCounter.get(1L);
+
+        // then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        verify(notificationRepository, times(1)).countByMemberIdAndIsReadFalseAndDeletedIsNull(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 알림 수가 바뀌면 캐시를 비우고 연결된 회원에게 DB에서 다시 센 값을 전송")
+    void invalidateAll_reloadsFromDatabase() {
+        // given
+        when(notificationRepository.countByMemberIdAndIsReadFalseAndDeletedIsNull(1L)).thenReturn(1L, 3L);
+        unreadNotificationCounter.get(1L);
+        when(sseEmitterRegistry.isConnected(1L)).thenReturn(true);
+        when(sseEmitterRegistry.isConnected(2L)).thenReturn(false);
+        when(notificationRepository.countUnreadByMemberIds(List.of(1L))).thenReturn(Map.of(1L, 3L));
+
+        // when
+        unreadNotificationCounter.invalidateAll(List.of(1L, 2L));
+
+        // then
+        ArgumentCaptor<SseMessage> captor = ArgumentCaptor.forClass(SseMessage.class);
+        verify(sseEmitterRegistry).send(eq(1L), captor.capture());
+        assertThat(captor.getValue().getData()).isEqualTo(3L);
+        verify(sseEmitterRegistry, never()).send(eq(2L), any(SseMessage.class));
+        assertThat(unreadNotificationCounter.get(1L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("[성공] 커밋 전에 DB에서 적재한 값이 있어도 변경을 두 번 반영하지 않음")
+    void invalidate_noDoubleCount() {
+        // given
+        when(notificationRepository.countByMemberIdAndIsReadFalseAndDeletedIsNull(1L)).thenReturn(2L);
+        unreadNotificationCounter.get(1L);
+
+        // when
+        unreadNotificationCounter.invalidate(1L);
+
+        // then
+        assertThat(unreadNotificationCounter.get(1L)).isEqualTo(2L);
+        verify(notificationRepository, times(2)).countByMemberIdAndIsReadFalseAndDeletedIsNull(1L);
+    }
+}
@@ -0,0 +1,116 @@
+package site.festifriends.domain.performance.httpcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.festifriends.domain.member.service.MemberBookmarkCache;
+import site.festifriends.domain.performance.dto.PerformanceVersion;
+import site.festifriends.domain.performance.httpcache.PerformanceHttpCache.CachedResponse;
+import site.festifriends.domain.performance.repository.PerformanceRepository;
+import site.festifriends.entity.enums.BookmarkType;
+import site.festifriends.entity.enums.PerformanceState;
+
+@ExtendWith(MockitoExtension.class)
+class PerformanceHttpCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    @Mock
+    private PerformanceRepository performanceRepository;
+
+    @Mock
+    private MemberBookmarkCache memberBookmarkCache;
+
+    private PerformanceHttpCache performanceHttpCache;
+
+    @BeforeEach
+    void setUp() {
+        performanceHttpCache = new PerformanceHttpCache(performanceRepository, memberBookmarkCache,
+            new ObjectMapper(), new SimpleMeterRegistry(), 100L, 30L, 60L, 30L);
+    }
+
+    @Test
+    @DisplayName("[성공] 상세 ETag 는 집계값과 회원의 찜 여부가 바뀌면 달라짐")
+    void detailEtag_changesWithVersion() {
+        // given
+        when(performanceRepository.findVersion(1L)).thenReturn(
+            Optional.of(new PerformanceVersion(1L, UPDATED_AT, PerformanceState.UPCOMING, 3, 1)),
+            Optional.of(new PerformanceVersion(1L, UPDATED_AT, PerformanceState.UPCOMING, 3, 1)),
+            Optional.of(new PerformanceVersion(1L, UPDATED_AT, PerformanceState.UPCOMING, 4, 1)),
+            Optional.of(new PerformanceVersion(1L, UPDATED_AT, PerformanceState.UPCOMING, 3, 1)));
+        when(memberBookmarkCache.isBookmarked(10L, BookmarkType.PERFORMANCE, 1L)).thenReturn(true);
+
+        // when
+        String first = performanceHttpCache.detailEtag(1L, null);
+        String same = performanceHttpCache.detailEtag(1L, null);
+        String favoriteChanged = performanceHttpCache.detailEtag(1L, null);
+        String member = performanceHttpCache.detailEtag(1L, 10L);
+
+        // then
+        assertThat(first).startsWith("\"").endsWith("\"");
+        assertThat(same).isEqualTo(first);
+        assertThat(favoriteChanged).isNotEqualTo(first);
+        assertThat(member).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("[성공] 공연이 없으면 ETag 를 만들지 않음")
+    void detailEtag_notFound() {
+        // given
+        when(performanceRepository.findVersion(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(performanceHttpCache.detailEtag(1L, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] If-None-Match 목록, 약한 ETag, * 를 처리")
+    void matches() {
+        // given
+        String etag = "\"abc\"";
+
+        // when & then
+        assertThat(performanceHttpCache.matches("\"xyz\", W/\"abc\"", etag)).isTrue();
+        assertThat(performanceHttpCache.matches("*", etag)).isTrue();
+        assertThat(performanceHttpCache.matches("\"xyz\"", etag)).isFalse();
+        assertThat(performanceHttpCache.matches(null, etag)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 비로그인 검색 응답은 파라미터 순서와 관계없이 한 번만 만듦")
+    void getAnonymous_cachesByParameters() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        String key1 = performanceHttpCache.searchKey("search",
+            Map.of("title", new String[]{"재즈"}, "page", new String[]{"1"}));
+        String key2 = performanceHttpCache.searchKey("search",
+            Map.of("page", new String[]{"1"}, "title", new String[]{"재즈"}));
+
+        // when
+        CachedResponse<Map<String, String>> first = performanceHttpCache.getAnonymous(key1, () -> {
+            loads.incrementAndGet();
+            return Map.of("title", "재즈 페스티벌");
+        });
+        CachedResponse<Map<String, String>> second = performanceHttpCache.getAnonymous(key2, () -> {
+            loads.incrementAndGet();
+            return Map.of("title", "다른 응답");
+        });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        assertThat(second.getEtag()).isEqualTo(first.getEtag());
+    }
+}
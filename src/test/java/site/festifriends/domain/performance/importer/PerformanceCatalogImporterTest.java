@@ -0,0 +1,161 @@
+package site.festifriends.domain.performance.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import site.festifriends.common.config.AuditConfig;
+import site.festifriends.common.config.QueryDslConfig;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.domain.performance.service.PerformanceReadModelService;
+import site.festifriends.entity.Performance;
+import site.festifriends.entity.PerformanceReadModel;
+import site.festifriends.entity.enums.PerformanceState;
+
+@DataJpaTest(properties = "performance.import.chunk-size=2")
+@Import({QueryDslConfig.class, AuditConfig.class, PerformanceCatalogImporter.class, PerformanceCatalogReader.class,
+    PerformanceReadModelService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@ActiveProfiles("test")
+class PerformanceCatalogImporterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PerformanceCatalogImporter performanceCatalogImporter;
+
+    @Test
+    @DisplayName("[성공] JSON 카탈로그를 청크 단위로 저장하고 컬렉션 순서를 유지")
+    void importJson() throws IOException {
+        // given
+        String json = "[" + jsonRecord("KOPIS-1", "재즈 페스티벌", "아티스트1\", \"아티스트2") + ","
+            + jsonRecord("KOPIS-2", "락 페스티벌", "밴드1") + ","
+            + jsonRecord("KOPIS-3", "클래식 공연", "오케스트라") + ","
+            + "{\"externalId\": \"KOPIS-4\"}]";
+
+        // when
+        PerformanceImportResult result = performanceCatalogImporter.importCatalog(stream(json), CatalogFormat.JSON);
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getFailed()).isZero();
+
+        Performance performance = findByExternalId("KOPIS-1");
+        assertThat(performance.getTitle()).isEqualTo("재즈 페스티벌");
+        assertThat(performance.getCast()).containsExactly("아티스트1", "아티스트2");
+        assertThat(performance.getPrice()).containsExactly("일반석 50,000원", "VIP석 100,000원");
+        assertThat(performance.getImgs()).extracting("src").containsExactly("https://example.com/KOPIS-1.jpg");
+        assertThat(performance.getState()).isEqualTo(PerformanceState.UPCOMING);
+        assertThat(findReadModel(performance).getContent()).contains("아티스트1", "https://example.com/KOPIS-1.jpg");
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 외부 ID로 다시 가져오면 중복 없이 갱신")
+    void reimport_isIdempotent() throws IOException {
+        // given
+        performanceCatalogImporter.importCatalog(
+            stream("[" + jsonRecord("KOPIS-1", "재즈 페스티벌", "아티스트1\", \"아티스트2") + "]"), CatalogFormat.JSON);
+        entityManager.clear();
+
+        // when
+        PerformanceImportResult result = performanceCatalogImporter.importCatalog(
+            stream("[" + jsonRecord("KOPIS-1", "서울 재즈 페스티벌", "아티스트3") + "]"), CatalogFormat.JSON);
+
+        // then
+        assertThat(result.getInserted()).isZero();
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(countPerformances()).isEqualTo(1L);
+
+        Performance performance = findByExternalId("KOPIS-1");
+        assertThat(performance.getTitle()).isEqualTo("서울 재즈 페스티벌");
+        assertThat(performance.getCast()).containsExactly("아티스트3");
+        assertThat(performance.getImgs()).hasSize(1);
+
+        PerformanceReadModel readModel = findReadModel(performance);
+        assertThat(readModel.getContent()).contains("아티스트3").doesNotContain("아티스트1");
+        assertThat(readModel.getSourceUpdatedAt()).isEqualTo(performance.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("[성공] CSV 카탈로그의 목록 값은 '|' 로 구분")
+    void importCsv() throws IOException {
+        // given
+        String csv = """
+            externalId,title,startDate,endDate,location,visit,cast,price
+            KOPIS-10,콜드플레이 내한공연,2099-04-16T19:00:00,2099-04-16T22:00:00,고양종합운동장,내한,Coldplay,"R석 200,000원|S석 150,000원"
+            """;
+
+        // when
+        PerformanceImportResult result = performanceCatalogImporter.importCatalog(stream(csv), CatalogFormat.CSV);
+
+        // then
+        assertThat(result.getInserted()).isEqualTo(1);
+        Performance performance = findByExternalId("KOPIS-10");
+        assertThat(performance.getVisit()).isEqualTo("내한");
+        assertThat(performance.getCast()).containsExactly("Coldplay");
+        assertThat(performance.getPrice()).containsExactly("R석 200,000원", "S석 150,000원");
+    }
+
+    @Test
+    @DisplayName("[실패] 읽을 수 없는 항목이 나오면 앞의 공연까지만 저장하고 중단")
+    void importJson_malformed() {
+        // given
+        String json = "[" + jsonRecord("KOPIS-1", "재즈 페스티벌", "아티스트1") + ", {\"startDate\": \"내일\"}]";
+
+        // when & then
+        assertThatThrownBy(() -> performanceCatalogImporter.importCatalog(stream(json), CatalogFormat.JSON))
+            .isInstanceOf(BusinessException.class);
+        assertThat(countPerformances()).isEqualTo(1L);
+    }
+
+    private String jsonRecord(String externalId, String title, String cast) {
+        return """
+            {"externalId": "%s", "title": "%s", "startDate": "2099-05-30T18:00:00", "endDate": "2099-06-01T22:00:00",
+             "location": "서울시 송파구", "visit": "국내", "runtime": "180분", "age": "만 12세 이상",
+             "cast": ["%s"], "price": ["일반석 50,000원", "VIP석 100,000원"],
+             "images": ["https://example.com/%s.jpg"]}
+            """.formatted(externalId, title, cast, externalId);
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Performance findByExternalId(String externalId) {
+        entityManager.clear();
+        List<Performance> performances = entityManager.getEntityManager()
+            .createQuery("SELECT p FROM Performance p WHERE p.externalId = :externalId", Performance.class)
+            .setParameter("externalId", externalId)
+            .getResultList();
+        assertThat(performances).hasSize(1);
+        return performances.get(0);
+    }
+
+    private PerformanceReadModel findReadModel(Performance performance) {
+        PerformanceReadModel readModel = entityManager.find(PerformanceReadModel.class, performance.getId());
+        assertThat(readModel).isNotNull();
+        return readModel;
+    }
+
+    private long countPerformances() {
+        return entityManager.getEntityManager()
+            .createQuery("SELECT COUNT(p) FROM Performance p", Long.class)
+            .getSingleResult();
+    }
+}
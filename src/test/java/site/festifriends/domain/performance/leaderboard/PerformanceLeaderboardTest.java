@@ -0,0 +1,74 @@
+package site.festifriends.domain.performance.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PerformanceLeaderboardTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private LeaderboardEntry entry(long id, int count, int daysLater) {
+        return new LeaderboardEntry(id, count, NOW.plusDays(daysLater), "공연" + id);
+    }
+
+    @Test
+    @DisplayName("[성공] 순위를 만들기 전에는 DB 조회로 넘김")
+    void top_emptyBeforeReady() {
+        // given
+        PerformanceLeaderboard leaderboard = new PerformanceLeaderboard(10);
+
+        // when & then
+        assertThat(leaderboard.top(LeaderboardType.FAVORITE, 5, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 집계값 내림차순, 같으면 빠른 날짜순으로 정렬")
+    void replaceAll_ranksByCountThenDate() {
+        // given
+        PerformanceLeaderboard leaderboard = new PerformanceLeaderboard(10);
+
+        // when
+        leaderboard.replaceAll(Map.of(
+            LeaderboardType.FAVORITE, List.of(entry(1L, 3, 5), entry(2L, 7, 5), entry(3L, 3, 2)),
+            LeaderboardType.GROUP, List.of()));
+
+        // then
+        assertThat(leaderboard.top(LeaderboardType.FAVORITE, 5, NOW)).hasValue(List.of(2L, 3L, 1L));
+        assertThat(leaderboard.top(LeaderboardType.GROUP, 5, NOW)).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("[성공] 집계값이 바뀐 공연만 순위에 다시 반영하고 poolSize 를 넘으면 잘라냄")
+    void update_reranksSingleEntry() {
+        // given
+        PerformanceLeaderboard leaderboard = new PerformanceLeaderboard(3);
+        leaderboard.replaceAll(Map.of(
+            LeaderboardType.GROUP, List.of(entry(1L, 5, 1), entry(2L, 4, 1), entry(3L, 3, 1))));
+
+        // when
+        leaderboard.update(LeaderboardType.GROUP, 3L, entry(3L, 6, 1));
+        leaderboard.update(LeaderboardType.GROUP, 4L, entry(4L, 1, 1));
+        leaderboard.update(LeaderboardType.GROUP, 1L, null);
+
+        // then
+        assertThat(leaderboard.top(LeaderboardType.GROUP, 5, NOW)).hasValue(List.of(3L, 2L));
+    }
+
+    @Test
+    @DisplayName("[성공] 이미 시작한 공연은 제외하고, 메모리 순위로 채울 수 없으면 DB 조회로 넘김")
+    void top_skipsStartedPerformances() {
+        // given
+        PerformanceLeaderboard leaderboard = new PerformanceLeaderboard(3);
+        leaderboard.replaceAll(Map.of(
+            LeaderboardType.FAVORITE, List.of(entry(1L, 9, -1), entry(2L, 5, 1), entry(3L, 1, 1))));
+
+        // when & then
+        assertThat(leaderboard.top(LeaderboardType.FAVORITE, 2, NOW)).hasValue(List.of(2L, 3L));
+        assertThat(leaderboard.top(LeaderboardType.FAVORITE, 3, NOW)).isEmpty();
+    }
+}
@@ -1,12 +1,12 @@
 package site.festifriends.domain.performance.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +20,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import site.festifriends.common.config.AuditConfig;
 import site.festifriends.common.config.QueryDslConfig;
+import site.festifriends.domain.performance.dto.PerformanceFacetCount;
+import site.festifriends.domain.performance.dto.PerformanceFacetResponse;
+import site.festifriends.domain.performance.dto.PerformanceSearchCursor;
 import site.festifriends.domain.performance.dto.PerformanceSearchRequest;
 import site.festifriends.entity.Group;
 import site.festifriends.entity.Member;
@@ -243,19 +246,158 @@ class PerformanceRepositoryTest {
     }
 
     @Test
-    @DisplayName("공연 ID로 모임 개수를 조회할 수 있다")
-    void findGroupCountsByPerformanceIds() {
+    @DisplayName("검색 인덱스 후보 ID가 주어지면 해당 공연만 검색한다")
+    void searchWithCandidateIds() {
         // given
-        List<Long> performanceIds = List.of(performance1.getId(), performance2.getId(), performance3.getId());
+        PerformanceSearchRequest request = new PerformanceSearchRequest();
+        request.setTitle("페스티벌");
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        Page<Performance> result = performanceRepository.searchPerformancesWithPaging(request,
+                List.of(performance2.getId()), pageable);
+        Page<Performance> empty = performanceRepository.searchPerformancesWithPaging(request, List.of(), pageable);
+
+        // then
+        assertThat(result.getContent())
+                .extracting(Performance::getTitle)
+                .containsExactly("부산 락 페스티벌");
+        assertThat(empty.getContent()).isEmpty();
+        assertThat(empty.getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 조건에 맞는 공연 수를 필터 값별로 집계할 수 있다")
+    void findFacetCounts() {
+        // given
+        PerformanceSearchRequest request = new PerformanceSearchRequest();
+        request.setTitle("페스티벌");
+
+        // when
+        PerformanceFacetResponse facets = performanceRepository.findFacetCounts(request, null);
+        PerformanceFacetResponse empty = performanceRepository.findFacetCounts(request, List.of());
+
+        // then
+        assertThat(facets.getTotalElements()).isEqualTo(2L);
+        assertThat(facets.getLocations())
+                .extracting(PerformanceFacetCount::getValue, PerformanceFacetCount::getCount)
+                .containsExactly(tuple("부산시", 1L), tuple("서울시", 1L));
+        assertThat(facets.getVisits())
+                .extracting(PerformanceFacetCount::getValue, PerformanceFacetCount::getCount)
+                .containsExactly(tuple("국내", 2L));
+        assertThat(facets.getStates())
+                .extracting(PerformanceFacetCount::getValue, PerformanceFacetCount::getCount)
+                .containsExactly(tuple("UPCOMING", 2L));
+        assertThat(facets.getStartMonths())
+                .extracting(PerformanceFacetCount::getValue, PerformanceFacetCount::getCount)
+                .containsExactly(tuple("2025-05", 1L), tuple("2025-07", 1L));
+        assertThat(empty.getTotalElements()).isZero();
+        assertThat(empty.getLocations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("출연진으로 검색할 수 있다")
+    void searchByCast() {
+        // given
+        PerformanceSearchRequest request = new PerformanceSearchRequest();
+        request.setCast("아티스트1");
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        Page<Performance> result = performanceRepository.searchPerformancesWithPaging(request, pageable);
+
+        // then
+        assertThat(result.getContent()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("모임 수 집계값을 실제 모임 수로 보정하고 집계 컬럼으로 정렬할 수 있다")
+    void reconcileGroupCountsAndSort() {
+        // given
+        performanceRepository.reconcileGroupCounts(1L, performanceRepository.findMaxId());
+        entityManager.clear();
+
+        PerformanceSearchRequest request = new PerformanceSearchRequest();
+        request.setSort("group_count_desc");
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        Page<Performance> result = performanceRepository.searchPerformancesWithPaging(request, pageable);
+
+        // then
+        assertThat(result.getContent())
+                .extracting(Performance::getTitle)
+                .containsExactly("서울 재즈 페스티벌", "부산 락 페스티벌", "콜드플레이 내한공연");
+        assertThat(result.getContent())
+                .extracting(Performance::getGroupCount)
+                .containsExactly(2, 1, 0);
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회한 결과는 페이지 기반 정렬 결과와 같다")
+    void searchWithCursorMatchesPaging() {
+        // given
+        PerformanceSearchRequest request = new PerformanceSearchRequest();
+        request.setSort("favorite_count_desc");
+        performanceRepository.increaseFavoriteCount(performance3.getId());
+        entityManager.clear();
+
+        List<String> expected = performanceRepository.searchPerformancesWithPaging(request, PageRequest.of(0, 10))
+                .getContent().stream()
+                .map(Performance::getTitle)
+                .toList();
 
         // when
-        Map<Long, Long> result = performanceRepository.findGroupCountsByPerformanceIds(performanceIds);
+        List<String> titles = new ArrayList<>();
+        PerformanceSearchCursor cursor = null;
+        while (true) {
+            List<Performance> result = performanceRepository.searchPerformancesWithCursor(request, null, cursor, 1);
+            if (result.isEmpty()) {
+                break;
+            }
+            titles.add(result.get(0).getTitle());
+            cursor = PerformanceSearchCursor.decode(
+                    PerformanceSearchCursor.of(request.getSort(), result.get(0)).encode());
+        }
+
+        // then
+        assertThat(titles).containsExactly("콜드플레이 내한공연", "부산 락 페스티벌", "서울 재즈 페스티벌");
+        assertThat(titles).containsExactlyElementsOf(expected);
+        assertThat(performanceRepository.countPerformances(request, null)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("날짜 역순 커서는 커서 이후의 공연만 조회한다")
+    void searchWithCursorByDateDesc() {
+        // given
+        PerformanceSearchRequest request = new PerformanceSearchRequest();
+        request.setSort("date_desc");
+        PerformanceSearchCursor cursor = PerformanceSearchCursor.of("date_desc", performance3);
+
+        // when
+        List<Performance> result = performanceRepository.searchPerformancesWithCursor(request, null, cursor, 10);
+
+        // then
+        assertThat(result)
+                .extracting(Performance::getTitle)
+                .containsExactly("부산 락 페스티벌", "서울 재즈 페스티벌");
+    }
+
+    @Test
+    @DisplayName("찜 수 집계값은 DB에서 증감하고 0 아래로 내려가지 않는다")
+    void increaseAndDecreaseFavoriteCount() {
+        // when
+        performanceRepository.increaseFavoriteCount(performance3.getId());
+        performanceRepository.increaseFavoriteCount(performance3.getId());
+        performanceRepository.decreaseFavoriteCount(performance3.getId());
+        performanceRepository.decreaseFavoriteCount(performance2.getId());
+        entityManager.clear();
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(performance1.getId())).isEqualTo(2L);
-        assertThat(result.get(performance2.getId())).isEqualTo(1L);
-        assertThat(result.get(performance3.getId())).isNull(); // 모임이 없는 경우
+        assertThat(performanceRepository.findById(performance3.getId()).orElseThrow().getFavoriteCount())
+                .isEqualTo(1);
+        assertThat(performanceRepository.findById(performance2.getId()).orElseThrow().getFavoriteCount())
+                .isZero();
     }
 
     @Test
@@ -0,0 +1,114 @@
+package site.festifriends.domain.performance.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PerformanceSearchIndexTest {
+
+    private PerformanceSearchIndex performanceSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        performanceSearchIndex = new PerformanceSearchIndex(3);
+        performanceSearchIndex.rebuild(List.of(
+            new PerformanceDocument(1L, "서울 재즈 페스티벌", "서울시 송파구", List.of("아티스트1"), List.of("주최사")),
+            new PerformanceDocument(2L, "부산 락 페스티벌", "부산시 해운대구", List.of("밴드"), List.of("부산시")),
+            new PerformanceDocument(3L, "Coldplay 내한공연", "서울시 강남구", List.of("Coldplay"), List.of("라이브네이션"))
+        ));
+    }
+
+    private Map<SearchField, String> keywords(SearchField field, String keyword) {
+        Map<SearchField, String> keywords = new EnumMap<>(SearchField.class);
+        keywords.put(field, keyword);
+        return keywords;
+    }
+
+    @Test
+    @DisplayName("[성공] 음절 단위 부분 검색")
+    void findCandidates_partialSyllables() {
+        // when
+        Optional<Set<Long>> result = performanceSearchIndex.findCandidates(keywords(SearchField.TITLE, "페스티"));
+
+        // then
+        assertThat(result).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("[성공] 대소문자를 구분하지 않고 한 글자 검색어도 찾음")
+    void findCandidates_ignoreCaseAndSingleCharacter() {
+        // when
+        Optional<Set<Long>> ignoreCase = performanceSearchIndex.findCandidates(keywords(SearchField.CAST, "COLD"));
+        Optional<Set<Long>> singleCharacter = performanceSearchIndex.findCandidates(keywords(SearchField.TITLE, "락"));
+
+        // then
+        assertThat(ignoreCase).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+        assertThat(singleCharacter).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+    }
+
+    @Test
+    @DisplayName("[성공] 2-gram 이 모두 있어도 원문에 연속으로 없으면 제외")
+    void findCandidates_verifiesSubstring() {
+        // when
+        Optional<Set<Long>> result = performanceSearchIndex.findCandidates(keywords(SearchField.TITLE, "울 재즈 페"));
+        Optional<Set<Long>> reordered = performanceSearchIndex.findCandidates(keywords(SearchField.TITLE, "즈 재"));
+
+        // then
+        assertThat(result).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(reordered).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 필드 조건은 모두 만족하는 공연만 반환")
+    void findCandidates_intersectsFields() {
+        // given
+        Map<SearchField, String> keywords = keywords(SearchField.TITLE, "페스티벌");
+        keywords.put(SearchField.LOCATION, "서울");
+
+        // when
+        Optional<Set<Long>> result = performanceSearchIndex.findCandidates(keywords);
+
+        // then
+        assertThat(result).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+    }
+
+    @Test
+    @DisplayName("[성공] 공연 변경과 삭제를 바로 반영")
+    void putAndRemove() {
+        // when
+        performanceSearchIndex.put(
+            new PerformanceDocument(1L, "서울 재즈 나잇", "서울시 송파구", List.of("아티스트1"), List.of("주최사")));
+        performanceSearchIndex.remove(2L);
+
+        // then
+        assertThat(performanceSearchIndex.findCandidates(keywords(SearchField.TITLE, "페스티벌")))
+            .hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(performanceSearchIndex.findCandidates(keywords(SearchField.TITLE, "나잇")))
+            .hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(performanceSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[실패] 준비되지 않았거나 후보가 너무 많으면 DB 검색으로 넘김")
+    void findCandidates_fallback() {
+        // given
+        PerformanceSearchIndex notReady = new PerformanceSearchIndex(3);
+        PerformanceSearchIndex smallLimit = new PerformanceSearchIndex(1);
+        smallLimit.rebuild(List.of(
+            new PerformanceDocument(1L, "재즈 페스티벌", "서울", List.of(), List.of()),
+            new PerformanceDocument(2L, "락 페스티벌", "부산", List.of(), List.of())
+        ));
+
+        // when & then
+        assertThat(notReady.findCandidates(keywords(SearchField.TITLE, "재즈"))).isEmpty();
+        assertThat(smallLimit.findCandidates(keywords(SearchField.TITLE, "페스티벌"))).isEmpty();
+        assertThat(performanceSearchIndex.findCandidates(keywords(SearchField.TITLE, " "))).isEmpty();
+    }
+}
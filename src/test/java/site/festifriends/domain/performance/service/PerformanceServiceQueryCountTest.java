@@ -0,0 +1,253 @@
+package site.festifriends.domain.performance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import site.festifriends.common.config.AuditConfig;
+import site.festifriends.common.config.QueryDslConfig;
+import site.festifriends.common.exception.BusinessException;
+import site.festifriends.common.response.ResponseWrapper;
+import site.festifriends.domain.member.service.MemberBookmarkCache;
+import site.festifriends.domain.performance.dto.PerformanceCursorSearchRequest;
+import site.festifriends.domain.performance.dto.PerformanceCursorSearchResponse;
+import site.festifriends.domain.performance.dto.PerformanceResponse;
+import site.festifriends.domain.performance.dto.PerformanceSearchRequest;
+import site.festifriends.domain.performance.dto.PerformanceSearchResponse;
+import site.festifriends.domain.performance.leaderboard.PerformanceLeaderboard;
+import site.festifriends.domain.performance.search.PerformanceSearchIndex;
+import site.festifriends.entity.Performance;
+import site.festifriends.entity.PerformanceImage;
+import site.festifriends.entity.PerformanceReadModel;
+import site.festifriends.entity.enums.PerformanceState;
+
+/**
+ * 공연 조회 시 컬렉션 필드마다 쿼리가 나가지 않는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QueryDslConfig.class, AuditConfig.class, PerformanceService.class, PerformanceReadModelService.class,
+    PerformanceSearchIndex.class, PerformanceSearchCountCache.class, PerformanceFacetCache.class,
+    PerformanceLeaderboard.class, MemberBookmarkCache.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@ActiveProfiles("test")
+class PerformanceServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PerformanceService performanceService;
+
+    @Autowired
+    private PerformanceReadModelService performanceReadModelService;
+
+    private Statistics statistics;
+    private Performance performance;
+    private final List<Long> performanceIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < 5; i++) {
+            Performance saved = createPerformance("페스티벌 " + i);
+            createPerformanceImage(saved, "https://example.com/" + i + ".jpg");
+            performanceIds.add(saved.getId());
+            if (i == 0) {
+                performance = saved;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("[성공] 읽기 모델이 있으면 공연 검색은 컬렉션을 추가로 조회하지 않음")
+    void searchPerformances_noCollectionLoading() {
+        // given
+        PerformanceSearchRequest request = new PerformanceSearchRequest();
+        performanceReadModelService.refresh(performanceIds);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        PerformanceSearchResponse response = performanceService.searchPerformances(request);
+
+        // then
+        assertThat(response.getData()).hasSize(5);
+        assertThat(response.getData().get(0).getCast()).containsExactly("아티스트1", "아티스트2");
+        assertThat(response.getData().get(0).getImages()).hasSize(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        // 검색, 전체 개수, 읽기 모델
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] 커서 검색은 nextCursor로 중복 없이 끝까지 조회")
+    void searchPerformancesWithCursor_untilLast() {
+        // given
+        PerformanceCursorSearchRequest request = new PerformanceCursorSearchRequest();
+        request.setSize(2);
+        request.setWithCount(true);
+
+        // when
+        List<String> titles = new ArrayList<>();
+        PerformanceCursorSearchResponse response;
+        do {
+            response = performanceService.searchPerformancesWithCursor(request, null);
+            response.getData().forEach(data -> titles.add(data.getTitle()));
+            request.setCursor(response.getNextCursor());
+        } while (response.getHasNext());
+
+        // then
+        assertThat(titles).containsExactly("페스티벌 0", "페스티벌 1", "페스티벌 2", "페스티벌 3", "페스티벌 4");
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getTotalElements()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("[실패] 정렬 조건이 다른 커서는 거절")
+    void searchPerformancesWithCursor_sortMismatch() {
+        // given
+        PerformanceCursorSearchRequest request = new PerformanceCursorSearchRequest();
+        request.setSize(2);
+        String cursor = performanceService.searchPerformancesWithCursor(request, null).getNextCursor();
+
+        request.setSort("date_desc");
+        request.setCursor(cursor);
+
+        // when & then
+        assertThatThrownBy(() -> performanceService.searchPerformancesWithCursor(request, null))
+            .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("[실패] 변조된 커서는 거절")
+    void searchPerformancesWithCursor_invalidCursor() {
+        // given
+        PerformanceCursorSearchRequest request = new PerformanceCursorSearchRequest();
+        request.setCursor("not-a-cursor");
+
+        // when & then
+        assertThatThrownBy(() -> performanceService.searchPerformancesWithCursor(request, null))
+            .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 공연 상세 조회는 공연과 읽기 모델 두 번만 조회")
+    void getPerformanceDetail_noCollectionLoading() {
+        // given
+        performanceReadModelService.refresh(List.of(performance.getId()));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        ResponseWrapper<PerformanceResponse> response = performanceService.getPerformanceDetail(performance.getId());
+
+        // then
+        assertThat(response.getData().getPrice()).containsExactly("일반석 50,000원");
+        assertThat(response.getData().getImages()).extracting(PerformanceResponse.PerformanceImage::getSrc)
+            .containsExactly("https://example.com/0.jpg");
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[성공] 조회는 읽기 모델을 저장하지 않음")
+    void searchPerformances_doesNotWriteReadModel() {
+        // when
+        PerformanceSearchResponse response = performanceService.searchPerformances(new PerformanceSearchRequest());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(response.getData().get(0).getCast()).containsExactly("아티스트1", "아티스트2");
+        assertThat(entityManager.find(PerformanceReadModel.class, performance.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 읽기 모델이 오래되면 엔티티로 응답하고 refresh 로 다시 저장")
+    void getPerformanceDetail_staleReadModel() {
+        // given
+        performanceReadModelService.refresh(List.of(performance.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        Performance found = entityManager.find(Performance.class, performance.getId());
+        found.getCast().add("새 아티스트");
+        entityManager.flush();
+        entityManager.getEntityManager()
+            .createQuery("UPDATE Performance p SET p.updatedAt = :updatedAt WHERE p.id = :id")
+            .setParameter("updatedAt", LocalDateTime.now().plusMinutes(1))
+            .setParameter("id", performance.getId())
+            .executeUpdate();
+        entityManager.clear();
+
+        // when
+        ResponseWrapper<PerformanceResponse> response = performanceService.getPerformanceDetail(performance.getId());
+        String staleContent = entityManager.find(PerformanceReadModel.class, performance.getId()).getContent();
+        entityManager.clear();
+        performanceReadModelService.refresh(List.of(performance.getId()));
+        entityManager.clear();
+
+        // then
+        assertThat(response.getData().getCast()).containsExactly("아티스트1", "아티스트2", "새 아티스트");
+        assertThat(staleContent).doesNotContain("새 아티스트");
+        assertThat(entityManager.find(PerformanceReadModel.class, performance.getId()).getContent())
+            .contains("새 아티스트");
+    }
+
+    private Performance createPerformance(String title) {
+        LocalDateTime startDate = LocalDateTime.now().plusDays(10);
+        Performance performance = Performance.builder()
+            .title(title)
+            .startDate(startDate)
+            .endDate(startDate.plusDays(1))
+            .location("서울시 송파구")
+            .cast(new ArrayList<>(List.of("아티스트1", "아티스트2")))
+            .crew(new ArrayList<>(List.of("스태프1")))
+            .runtime("180분")
+            .age("만 12세 이상")
+            .productionCompany(new ArrayList<>(List.of("제작사")))
+            .agency(new ArrayList<>(List.of("기획사")))
+            .host(new ArrayList<>(List.of("주최사")))
+            .organizer(new ArrayList<>(List.of("주관사")))
+            .price(new ArrayList<>(List.of("일반석 50,000원")))
+            .poster("https://example.com/poster.jpg")
+            .state(PerformanceState.UPCOMING)
+            .visit("국내")
+            .time(new ArrayList<>(List.of(startDate.toString())))
+            .build();
+        return entityManager.persistAndFlush(performance);
+    }
+
+    private PerformanceImage createPerformanceImage(Performance performance, String src) {
+        PerformanceImage image = PerformanceImage.builder()
+            .performance(performance)
+            .src(src)
+            .alt("이미지")
+            .build();
+        return entityManager.persistAndFlush(image);
+    }
+}
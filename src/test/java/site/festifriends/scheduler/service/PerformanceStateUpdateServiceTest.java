@@ -0,0 +1,111 @@
+package site.festifriends.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import site.festifriends.common.config.AuditConfig;
+import site.festifriends.common.config.QueryDslConfig;
+import site.festifriends.entity.Performance;
+import site.festifriends.entity.enums.PerformanceState;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, AuditConfig.class, PerformanceStateUpdateService.class})
+@ActiveProfiles("test")
+class PerformanceStateUpdateServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PerformanceStateUpdateService performanceStateUpdateService;
+
+    @Test
+    @DisplayName("[성공] 전체 실행은 날짜 기준으로 모든 공연의 상태를 맞춤")
+    void updateAllPerformanceStates() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Performance started = createPerformance("시작한 공연", now.minusDays(1), now.plusDays(1),
+            PerformanceState.UPCOMING);
+        Performance ended = createPerformance("끝난 공연", now.minusDays(3), now.minusDays(2),
+            PerformanceState.ONGOING);
+        Performance postponed = createPerformance("연기된 공연", now.plusDays(5), now.plusDays(6),
+            PerformanceState.COMPLETED);
+        Performance unchanged = createPerformance("예정 공연", now.plusDays(1), now.plusDays(2),
+            PerformanceState.UPCOMING);
+        entityManager.clear();
+
+        // when
+        int updatedCount = performanceStateUpdateService.updateAllPerformanceStates();
+        entityManager.clear();
+
+        // then
+        assertThat(updatedCount).isEqualTo(3);
+        assertThat(stateOf(started)).isEqualTo(PerformanceState.ONGOING);
+        assertThat(stateOf(ended)).isEqualTo(PerformanceState.COMPLETED);
+        assertThat(stateOf(postponed)).isEqualTo(PerformanceState.UPCOMING);
+        assertThat(stateOf(unchanged)).isEqualTo(PerformanceState.UPCOMING);
+    }
+
+    @Test
+    @DisplayName("[성공] 주기 실행은 마지막 실행 이후 시작/종료 시각이 지난 공연만 반영")
+    void updateChangedPerformanceStates_onlyRecentBoundaries() {
+        // given
+        performanceStateUpdateService.updateAllPerformanceStates();
+
+        LocalDateTime now = LocalDateTime.now();
+        Performance justStarted = createPerformance("방금 시작한 공연", now.minusSeconds(5), now.plusHours(2),
+            PerformanceState.UPCOMING);
+        Performance justEnded = createPerformance("방금 끝난 공연", now.minusHours(2), now.minusSeconds(5),
+            PerformanceState.ONGOING);
+        Performance oldMismatch = createPerformance("오래전 시작한 공연", now.minusDays(10), now.plusDays(10),
+            PerformanceState.UPCOMING);
+        entityManager.clear();
+
+        // when
+        int updatedCount = performanceStateUpdateService.updateChangedPerformanceStates();
+        entityManager.clear();
+
+        // then
+        assertThat(updatedCount).isEqualTo(2);
+        assertThat(stateOf(justStarted)).isEqualTo(PerformanceState.ONGOING);
+        assertThat(stateOf(justEnded)).isEqualTo(PerformanceState.COMPLETED);
+        assertThat(stateOf(oldMismatch)).isEqualTo(PerformanceState.UPCOMING);
+    }
+
+    private PerformanceState stateOf(Performance performance) {
+        return entityManager.find(Performance.class, performance.getId()).getState();
+    }
+
+    private Performance createPerformance(String title, LocalDateTime startDate, LocalDateTime endDate,
+        PerformanceState state) {
+        Performance performance = Performance.builder()
+            .title(title)
+            .startDate(startDate)
+            .endDate(endDate)
+            .location("서울시 송파구")
+            .cast(new ArrayList<>(List.of("아티스트1")))
+            .crew(new ArrayList<>(List.of("스태프1")))
+            .runtime("180분")
+            .age("만 12세 이상")
+            .productionCompany(new ArrayList<>(List.of("제작사")))
+            .agency(new ArrayList<>(List.of("기획사")))
+            .host(new ArrayList<>(List.of("주최사")))
+            .organizer(new ArrayList<>(List.of("주관사")))
+            .price(new ArrayList<>(List.of("일반석 50,000원")))
+            .poster("https://example.com/poster.jpg")
+            .state(state)
+            .visit("국내")
+            .time(new ArrayList<>(List.of(startDate.toString())))
+            .build();
+        return entityManager.persistAndFlush(performance);
+    }
+}
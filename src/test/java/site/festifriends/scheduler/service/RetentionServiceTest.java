@@ -0,0 +1,149 @@
+package site.festifriends.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import site.festifriends.scheduler.config.RetentionProperties;
+import site.festifriends.scheduler.config.RetentionProperties.TablePolicy;
+
+class RetentionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 3, 30);
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RetentionProperties properties;
+    private RetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:retention;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute(
+            "CREATE TABLE item (item_id BIGINT PRIMARY KEY, created_at TIMESTAMP NOT NULL, deleted TIMESTAMP)");
+        jdbcTemplate.getJdbcTemplate().execute(
+            "CREATE TABLE item_archive (item_id BIGINT PRIMARY KEY, created_at TIMESTAMP NOT NULL, deleted TIMESTAMP)");
+
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new RetentionProperties();
+        properties.setBatchSize(3);
+        properties.setPauseMs(0);
+        retentionService = new RetentionService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+            properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.getJdbcTemplate().execute("DROP ALL OBJECTS");
+    }
+
+    private void insertItem(long id, LocalDateTime createdAt, LocalDateTime deleted) {
+        jdbcTemplate.update("INSERT INTO item (item_id, created_at, deleted) VALUES (:id, :createdAt, :deleted)",
+            new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("createdAt", createdAt)
+                .addValue("deleted", deleted));
+    }
+
+    private List<Long> ids(String table) {
+        return jdbcTemplate.getJdbcTemplate()
+            .queryForList("SELECT item_id FROM " + table + " ORDER BY item_id", Long.class);
+    }
+
+    private TablePolicy policy() {
+        TablePolicy policy = new TablePolicy();
+        policy.setTable("item");
+        policy.setIdColumn("item_id");
+        return policy;
+    }
+
+    @Test
+    @DisplayName("[성공] 보관 기간이 지난 행과 유예 기간이 지난 소프트 삭제 행을 배치로 삭제")
+    void purge_expiredAndSoftDeleted() {
+        // given
+        for (long id = 1; id <= 7; id++) {
+            insertItem(id, NOW.minusDays(100), null);
+        }
+        insertItem(8, NOW.minusDays(1), NOW.minusDays(10));
+        insertItem(9, NOW.minusDays(1), NOW.minusDays(1));
+        insertItem(10, NOW.minusDays(1), null);
+
+        TablePolicy policy = policy();
+        policy.setMaxAge(Duration.ofDays(90));
+        policy.setSoftDeletedGrace(Duration.ofDays(7));
+
+        // when
+        int purged = retentionService.purge(policy, NOW);
+
+        // then
+        assertThat(purged).isEqualTo(8);
+        assertThat(ids("item")).containsExactly(9L, 10L);
+        assertThat(meterRegistry.counter("retention.rows.purged", "table", "item").count()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("[성공] 아카이브 테이블이 지정되면 복사 후 삭제")
+    void purge_archiveThenDelete() {
+        // given
+        insertItem(1, NOW.minusDays(40), NOW.minusDays(31));
+        insertItem(2, NOW.minusDays(40), null);
+
+        TablePolicy policy = policy();
+        policy.setSoftDeletedGrace(Duration.ofDays(30));
+        policy.setArchiveTable("item_archive");
+
+        // when
+        int purged = retentionService.purge(policy, NOW);
+
+        // then
+        assertThat(purged).isEqualTo(1);
+        assertThat(ids("item")).containsExactly(2L);
+        assertThat(ids("item_archive")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 한 번 실행할 때 최대 배치 수까지만 삭제")
+    void purge_limitedByMaxBatches() {
+        // given
+        for (long id = 1; id <= 10; id++) {
+            insertItem(id, NOW.minusDays(100), null);
+        }
+        properties.setMaxBatchesPerRun(2);
+
+        TablePolicy policy = policy();
+        policy.setMaxAge(Duration.ofDays(90));
+
+        // when
+        int purged = retentionService.purge(policy, NOW);
+
+        // then
+        assertThat(purged).isEqualTo(6);
+        assertThat(ids("item")).containsExactly(7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    @DisplayName("[실패] 테이블 이름이 식별자 형식이 아니면 예외 발생")
+    void purge_invalidIdentifier() {
+        // given
+        TablePolicy policy = policy();
+        policy.setTable("item; DROP TABLE item");
+        policy.setMaxAge(Duration.ofDays(1));
+
+        // when & then
+        assertThatThrownBy(() -> retentionService.purge(policy, NOW))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}